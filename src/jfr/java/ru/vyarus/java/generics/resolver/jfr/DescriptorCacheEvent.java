@@ -0,0 +1,41 @@
+package ru.vyarus.java.generics.resolver.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Descriptors cache lookup ({@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory}). Disabled by
+ * default because of high frequency (enable with {@code ru.vyarus.generics.DescriptorCache#enabled=true}
+ * recording setting).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@Name(DescriptorCacheEvent.NAME)
+@Label("Generics Descriptor Cache")
+@Category(ResolverJfr.CATEGORY)
+@Description("Generics descriptors cache lookup")
+@Enabled(false)
+@StackTrace(false)
+public class DescriptorCacheEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ru.vyarus.generics.DescriptorCache";
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Inlying")
+    @Description("Inlying contexts cache lookup")
+    boolean inlying;
+
+    @Label("Cache Hit")
+    boolean hit;
+}
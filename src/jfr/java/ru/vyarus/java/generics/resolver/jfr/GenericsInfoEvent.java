@@ -0,0 +1,41 @@
+package ru.vyarus.java.generics.resolver.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Class hierarchy resolution ({@link ru.vyarus.java.generics.resolver.context.GenericsInfo} construction).
+ * Fired only when hierarchy is actually resolved: descriptor cache miss or direct
+ * {@link ru.vyarus.java.generics.resolver.util.GenericInfoUtils} usage.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@Name(GenericsInfoEvent.NAME)
+@Label("Generics Hierarchy Resolution")
+@Category(ResolverJfr.CATEGORY)
+@Description("Class hierarchy generics resolution (descriptor cache miss)")
+@StackTrace(false)
+public class GenericsInfoEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ru.vyarus.generics.GenericsInfo";
+
+    @Label("Root Class")
+    Class<?> rootClass;
+
+    @Label("Composing Types")
+    @Description("Count of classes and interfaces in resolved hierarchy")
+    int composingTypes;
+
+    @Label("Resolution Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long resolutionTime;
+}
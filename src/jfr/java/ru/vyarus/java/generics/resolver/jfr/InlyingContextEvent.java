@@ -0,0 +1,40 @@
+package ru.vyarus.java.generics.resolver.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Inlying context hierarchy resolution (e.g. {@code context.fieldType(field)} or
+ * {@code context.inlyingType(type)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@Name(InlyingContextEvent.NAME)
+@Label("Generics Inlying Context")
+@Category(ResolverJfr.CATEGORY)
+@Description("Generified type hierarchy resolution in context of other class")
+@StackTrace(false)
+public class InlyingContextEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ru.vyarus.generics.InlyingContext";
+
+    @Label("Root Class")
+    Class<?> rootClass;
+
+    @Label("Composing Types")
+    @Description("Count of classes and interfaces in resolved hierarchy")
+    int composingTypes;
+
+    @Label("Resolution Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long resolutionTime;
+}
@@ -0,0 +1,125 @@
+package ru.vyarus.java.generics.resolver.jfr;
+
+import ru.vyarus.java.generics.resolver.util.metrics.MetricsListener;
+
+/**
+ * Metrics listener, producing JDK Flight Recorder events. Metrics listener reports operations after
+ * completion, so events are committed at operation end and measured duration is stored as event field
+ * (event own duration is zero).
+ * <p>
+ * Optional delegate listener could be used to keep other metrics (e.g.
+ * {@link ru.vyarus.java.generics.resolver.util.metrics.StripedMetricsListener}).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ResolverJfr#install()
+ * @since 16.10.2026
+ */
+public class JfrMetricsListener implements MetricsListener {
+
+    private final MetricsListener delegate;
+    private final long walkThreshold;
+
+    /**
+     * @param delegate      listener to notify with all events (may be null)
+     * @param walkThreshold minimal types walk duration to record (nanoseconds)
+     */
+    public JfrMetricsListener(final MetricsListener delegate, final long walkThreshold) {
+        this.delegate = delegate;
+        this.walkThreshold = walkThreshold;
+    }
+
+    /**
+     * @return delegate listener or null
+     */
+    public MetricsListener getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return minimal types walk duration to record (nanoseconds)
+     */
+    public long getWalkThreshold() {
+        return walkThreshold;
+    }
+
+    @Override
+    public void descriptorCacheHit(final Class<?> type, final boolean inlying) {
+        cache(type, inlying, true);
+        if (delegate != null) {
+            delegate.descriptorCacheHit(type, inlying);
+        }
+    }
+
+    @Override
+    public void descriptorCacheMiss(final Class<?> type, final boolean inlying) {
+        cache(type, inlying, false);
+        if (delegate != null) {
+            delegate.descriptorCacheMiss(type, inlying);
+        }
+    }
+
+    @Override
+    public void hierarchyResolved(final Class<?> type, final int composingTypes,
+                                  final boolean inlying, final long nanos) {
+        if (inlying) {
+            final InlyingContextEvent event = new InlyingContextEvent();
+            if (event.shouldCommit()) {
+                event.rootClass = type;
+                event.composingTypes = composingTypes;
+                event.resolutionTime = nanos;
+                event.commit();
+            }
+        } else {
+            final GenericsInfoEvent event = new GenericsInfoEvent();
+            if (event.shouldCommit()) {
+                event.rootClass = type;
+                event.composingTypes = composingTypes;
+                event.resolutionTime = nanos;
+                event.commit();
+            }
+        }
+        if (delegate != null) {
+            delegate.hierarchyResolved(type, composingTypes, inlying, nanos);
+        }
+    }
+
+    @Override
+    public void typesWalked(final int steps, final int depth, final long nanos) {
+        if (nanos >= walkThreshold) {
+            final TypesWalkEvent event = new TypesWalkEvent();
+            if (event.shouldCommit()) {
+                event.steps = steps;
+                event.depth = depth;
+                event.walkTime = nanos;
+                event.commit();
+            }
+        }
+        if (delegate != null) {
+            delegate.typesWalked(steps, depth, nanos);
+        }
+    }
+
+    @Override
+    public void commonTypeBuilt(final boolean cached, final long nanos) {
+        if (delegate != null) {
+            delegate.commonTypeBuilt(cached, nanos);
+        }
+    }
+
+    @Override
+    public void instanceTypeBuilt(final int instances, final long nanos) {
+        if (delegate != null) {
+            delegate.instanceTypeBuilt(instances, nanos);
+        }
+    }
+
+    private void cache(final Class<?> type, final boolean inlying, final boolean hit) {
+        final DescriptorCacheEvent event = new DescriptorCacheEvent();
+        if (event.shouldCommit()) {
+            event.type = type;
+            event.inlying = inlying;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
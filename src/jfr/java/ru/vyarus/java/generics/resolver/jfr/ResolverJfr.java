@@ -0,0 +1,89 @@
+package ru.vyarus.java.generics.resolver.jfr;
+
+import ru.vyarus.java.generics.resolver.util.metrics.MetricsListener;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDK Flight Recorder integration: resolver events (hierarchy resolution, inlying contexts, expensive types walks
+ * and descriptors cache lookups) are recorded with {@link JfrMetricsListener}.
+ * <p>
+ * Install with {@code ResolverJfr.install()} on application startup. Integration activates only when flight
+ * recorder is available in current jvm (otherwise install does nothing). Already registered metrics listener is
+ * preserved (called by jfr listener).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class ResolverJfr {
+
+    /**
+     * Events category.
+     */
+    public static final String CATEGORY = "Generics Resolver";
+
+    /**
+     * Default minimal types walk duration to record (1ms).
+     */
+    public static final long DEFAULT_WALK_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private ResolverJfr() {
+    }
+
+    /**
+     * Installs jfr listener with default types walk threshold.
+     *
+     * @return true if listener installed, false if flight recorder is not available
+     * @see #install(long)
+     */
+    public static boolean install() {
+        return install(DEFAULT_WALK_THRESHOLD);
+    }
+
+    /**
+     * Installs jfr listener. Does nothing if jfr listener is already installed.
+     *
+     * @param walkThreshold minimal types walk duration to record (nanoseconds)
+     * @return true if listener installed, false if flight recorder is not available
+     */
+    public static synchronized boolean install(final long walkThreshold) {
+        final boolean available = isAvailable();
+        if (available && !isInstalled()) {
+            final MetricsListener current = ResolverMetrics.isEnabled() ? ResolverMetrics.getListener() : null;
+            ResolverMetrics.setListener(new JfrMetricsListener(current, walkThreshold));
+        }
+        return available;
+    }
+
+    /**
+     * Removes jfr listener (previously registered listener is restored).
+     */
+    public static synchronized void uninstall() {
+        if (isInstalled()) {
+            ResolverMetrics.setListener(((JfrMetricsListener) ResolverMetrics.getListener()).getDelegate());
+        }
+    }
+
+    /**
+     * @return true if jfr listener installed
+     */
+    public static boolean isInstalled() {
+        return ResolverMetrics.getListener() instanceof JfrMetricsListener;
+    }
+
+    /**
+     * @return true if flight recorder is available in current jvm
+     */
+    public static boolean isAvailable() {
+        boolean res;
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            res = jdk.jfr.FlightRecorder.isAvailable();
+        } catch (ClassNotFoundException | LinkageError ex) {
+            // jdk.jfr module is not available
+            res = false;
+        }
+        return res;
+    }
+}
@@ -0,0 +1,40 @@
+package ru.vyarus.java.generics.resolver.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Expensive types walk ({@link ru.vyarus.java.generics.resolver.util.walk.TypesWalker}, used for types
+ * compatibility and assignability checks). Only walks longer than configured threshold are recorded
+ * (see {@link JfrMetricsListener}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@Name(TypesWalkEvent.NAME)
+@Label("Generics Types Walk")
+@Category(ResolverJfr.CATEGORY)
+@Description("Types walk above threshold (types compatibility checks)")
+public class TypesWalkEvent extends Event {
+
+    /**
+     * Event name.
+     */
+    public static final String NAME = "ru.vyarus.generics.TypesWalk";
+
+    @Label("Steps")
+    @Description("Count of compared type pairs")
+    int steps;
+
+    @Label("Depth")
+    @Description("Maximum walk depth")
+    int depth;
+
+    @Label("Walk Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long walkTime;
+}
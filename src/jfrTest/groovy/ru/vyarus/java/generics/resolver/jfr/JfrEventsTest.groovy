@@ -0,0 +1,141 @@
+package ru.vyarus.java.generics.resolver.jfr
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import ru.vyarus.java.generics.resolver.GenericsResolver
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics
+import ru.vyarus.java.generics.resolver.util.metrics.StripedMetricsListener
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class JfrEventsTest extends Specification {
+
+    void setup() {
+        GenericsInfoFactory.clearCache()
+    }
+
+    void cleanup() {
+        ResolverJfr.uninstall()
+        ResolverMetrics.setListener(null)
+        System.clearProperty(GenericsInfoFactory.INLYING_CACHE_PROPERTY)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check listener installation"() {
+
+        when: "installing with registered listener"
+        StripedMetricsListener metrics = new StripedMetricsListener()
+        ResolverMetrics.setListener(metrics)
+        def res = ResolverJfr.install()
+        then: "installed"
+        res
+        ResolverJfr.isAvailable()
+        ResolverJfr.isInstalled()
+        (ResolverMetrics.listener as JfrMetricsListener).delegate.is(metrics)
+        (ResolverMetrics.listener as JfrMetricsListener).walkThreshold == ResolverJfr.DEFAULT_WALK_THRESHOLD
+
+        when: "installing again"
+        def listener = ResolverMetrics.listener
+        ResolverJfr.install()
+        then: "nothing changed"
+        ResolverMetrics.listener.is(listener)
+
+        when: "resolving type"
+        GenericsResolver.resolve(Holder)
+        then: "delegate notified"
+        metrics.descriptorMisses == 1
+
+        when: "uninstalling"
+        ResolverJfr.uninstall()
+        then: "previous listener restored"
+        !ResolverJfr.isInstalled()
+        ResolverMetrics.listener.is(metrics)
+    }
+
+    def "Check events recorded"() {
+
+        setup:
+        ResolverJfr.install(0)
+        GenericsInfoFactory.enableInlyingCache()
+        Recording recording = new Recording()
+        [GenericsInfoEvent.NAME, InlyingContextEvent.NAME, TypesWalkEvent.NAME, DescriptorCacheEvent.NAME]
+                .each { recording.enable(it) }
+
+        when: "resolving types"
+        recording.start()
+        GenericsResolver.resolve(Holder)
+        GenericsResolver.resolve(Holder).fieldType(Holder.getField("list"))
+        TypeUtils.isAssignable(Holder.getField("list").genericType, Collection)
+        recording.stop()
+        List<RecordedEvent> events = read(recording)
+        then: "hierarchy resolution recorded"
+        RecordedEvent info = events.find { it.eventType.name == GenericsInfoEvent.NAME }
+        info.getClass("rootClass").name == Holder.name
+        info.getInt("composingTypes") == GenericsResolver.resolve(Holder).genericsInfo.composingTypes.size()
+        info.getLong("resolutionTime") > 0
+
+        and: "inlying context recorded"
+        RecordedEvent inlying = events.find { it.eventType.name == InlyingContextEvent.NAME }
+        inlying.getClass("rootClass").name == List.name
+        inlying.getInt("composingTypes") == GenericsResolver.resolve(List).genericsInfo.composingTypes.size()
+        inlying.getLong("resolutionTime") > 0
+
+        and: "types walk recorded"
+        RecordedEvent walk = events.find { it.eventType.name == TypesWalkEvent.NAME }
+        walk.getInt("steps") > 0
+        walk.getInt("depth") > 0
+        walk.getLong("walkTime") > 0
+
+        and: "cache lookups recorded"
+        List<RecordedEvent> cache = events.findAll { it.eventType.name == DescriptorCacheEvent.NAME }
+        cache.find { it.getClass("type").name == Holder.name && !it.getBoolean("hit") }
+        cache.find { it.getClass("type").name == Holder.name && it.getBoolean("hit") }
+        cache.find { it.getClass("type").name == List.name && it.getBoolean("inlying") }
+
+        cleanup:
+        recording.close()
+    }
+
+    def "Check default events"() {
+
+        setup:
+        ResolverJfr.install()
+        Recording recording = new Recording()
+
+        when: "resolving types with default events configuration"
+        recording.start()
+        GenericsResolver.resolve(Holder)
+        GenericsResolver.resolve(Holder)
+        recording.stop()
+        List<RecordedEvent> events = read(recording)
+                .findAll { it.eventType.categoryNames.contains(ResolverJfr.CATEGORY) }
+        then: "cache lookups not recorded"
+        events*.eventType*.name == [GenericsInfoEvent.NAME]
+
+        cleanup:
+        recording.close()
+    }
+
+    private static List<RecordedEvent> read(Recording recording) {
+        Path file = Files.createTempFile("resolver", ".jfr")
+        try {
+            recording.dump(file)
+            return RecordingFile.readAllEvents(file)
+        } finally {
+            Files.delete(file)
+        }
+    }
+
+    static class Holder {
+        public List<String> list
+    }
+}
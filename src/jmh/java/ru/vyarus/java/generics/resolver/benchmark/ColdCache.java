@@ -0,0 +1,23 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+
+/**
+ * Clears descriptors cache before each iteration (shared by all benchmark threads). Use with
+ * {@link org.openjdk.jmh.annotations.Mode#SingleShotTime} to measure cold start.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+public class ColdCache {
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        GenericsInfoFactory.clearCache();
+    }
+}
@@ -0,0 +1,71 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.benchmark.model.Hierarchies;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.cache.CommonTypeCache;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated {@link TypeUtils#getCommonType(Type, Type)} calls for the same types with and without
+ * {@link CommonTypeCache}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommonTypeBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cache;
+
+    @Setup(Level.Trial)
+    public void init() {
+        if (cache) {
+            CommonTypeCache.enable(1000);
+        } else {
+            CommonTypeCache.disable();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() {
+        CommonTypeCache.disable();
+    }
+
+    @Benchmark
+    public Type numbers() {
+        return TypeUtils.getCommonType(Integer.class, Double.class);
+    }
+
+    @Benchmark
+    public Type lists() {
+        return TypeUtils.getCommonType(ArrayList.class, LinkedList.class);
+    }
+
+    @Benchmark
+    public Type deepHierarchy() {
+        return TypeUtils.getCommonType(Hierarchies.DeepLeaf.class, Hierarchies.DeepLeaf2.class);
+    }
+}
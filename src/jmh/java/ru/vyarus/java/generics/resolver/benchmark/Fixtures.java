@@ -0,0 +1,85 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import ru.vyarus.java.generics.resolver.benchmark.model.Hierarchies;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+
+/**
+ * Shared benchmark fixtures.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class Fixtures {
+
+    /**
+     * JDK classes with generic hierarchies of different complexity.
+     */
+    public static final Class<?>[] JDK_TYPES = {
+            ArrayList.class, LinkedList.class, Vector.class, Stack.class, ArrayDeque.class, PriorityQueue.class,
+            HashSet.class, LinkedHashSet.class, TreeSet.class, HashMap.class, LinkedHashMap.class, TreeMap.class,
+            IdentityHashMap.class, WeakHashMap.class, EnumMap.class, Properties.class, AbstractMap.SimpleEntry.class,
+            ConcurrentHashMap.class, ConcurrentSkipListMap.class, ConcurrentSkipListSet.class,
+            CopyOnWriteArrayList.class, CopyOnWriteArraySet.class, ConcurrentLinkedQueue.class,
+            ArrayBlockingQueue.class, LinkedBlockingQueue.class, LinkedBlockingDeque.class,
+            PriorityBlockingQueue.class, DelayQueue.class, SynchronousQueue.class, FutureTask.class,
+    };
+
+    /**
+     * Model hierarchies by name (for {@link org.openjdk.jmh.annotations.Param} usage).
+     */
+    public static final Map<String, Class<?>> MODELS = new LinkedHashMap<String, Class<?>>();
+
+    static {
+        MODELS.put("deep", Hierarchies.DeepLeaf.class);
+        MODELS.put("inner", Hierarchies.OuterLeaf.Leaf.class);
+        MODELS.put("recursive", Hierarchies.SemVer.class);
+        MODELS.put("fanout", Hierarchies.Wide.class);
+    }
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param name model name
+     * @return model class
+     * @throws IllegalArgumentException if model not found
+     */
+    public static Class<?> model(final String name) {
+        final Class<?> res = MODELS.get(name);
+        if (res == null) {
+            throw new IllegalArgumentException("Unknown model: " + name);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,153 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi-threaded {@link GenericsInfoFactory} cache benchmark.
+ * <p>
+ * Hit benchmarks measure throughput of cached descriptors access (cache warmed before trial). Miss benchmarks
+ * simulate cold start: cache is cleared before each iteration and then all threads resolve the same set
+ * of classes (each thread starts from different position) so both parallel resolution of different classes and
+ * waiting for the same class resolution are involved.
+ * <p>
+ * Compare results for different thread counts to see cache scaling.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class GenericsInfoCacheBenchmark {
+
+    private final AtomicInteger threadOffset = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void warmCache() {
+        for (Class<?> type : Fixtures.JDK_TYPES) {
+            GenericsInfoFactory.create(type);
+        }
+    }
+
+    // ------------------------------------------------------------------------- cache hit
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void hit01(final Cursor cursor, final Blackhole hole) {
+        hole.consume(GenericsInfoFactory.create(cursor.next()));
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void hit04(final Cursor cursor, final Blackhole hole) {
+        hole.consume(GenericsInfoFactory.create(cursor.next()));
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void hit16(final Cursor cursor, final Blackhole hole) {
+        hole.consume(GenericsInfoFactory.create(cursor.next()));
+    }
+
+    @Benchmark
+    @Threads(64)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void hit64(final Cursor cursor, final Blackhole hole) {
+        hole.consume(GenericsInfoFactory.create(cursor.next()));
+    }
+
+    // ------------------------------------------------------------------------- cold cache
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void miss01(final ColdCache cache, final Blackhole hole) {
+        resolveAll(hole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void miss04(final ColdCache cache, final Blackhole hole) {
+        resolveAll(hole);
+    }
+
+    @Benchmark
+    @Threads(16)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void miss16(final ColdCache cache, final Blackhole hole) {
+        resolveAll(hole);
+    }
+
+    @Benchmark
+    @Threads(64)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void miss64(final ColdCache cache, final Blackhole hole) {
+        resolveAll(hole);
+    }
+
+    private void resolveAll(final Blackhole hole) {
+        final Class<?>[] types = Fixtures.JDK_TYPES;
+        final int offset = threadOffset.getAndIncrement();
+        for (int i = 0; i < types.length; i++) {
+            final GenericsInfo info = GenericsInfoFactory.create(types[(offset + i) % types.length]);
+            hole.consume(info);
+        }
+    }
+
+    /**
+     * Per-thread position in types list.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int pos;
+
+        @Setup(Level.Trial)
+        public void init() {
+            // threads should start from different positions
+            pos = (int) (Thread.currentThread().getId() % Fixtures.JDK_TYPES.length);
+        }
+
+        public Class<?> next() {
+            pos = (pos + 1) % Fixtures.JDK_TYPES.length;
+            return Fixtures.JDK_TYPES[pos];
+        }
+    }
+}
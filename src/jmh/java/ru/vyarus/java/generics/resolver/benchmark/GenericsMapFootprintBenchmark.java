@@ -0,0 +1,103 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retained heap of resolved hierarchies: compact generics maps ({@link ImmutableGenericsMap}, used by
+ * {@link GenericsInfo}) against the same data stored in {@link LinkedHashMap} (previous storage).
+ * <p>
+ * Each invocation retains {@link #COPIES} copies of generics maps for all types in fixture hierarchies and measures
+ * used heap delta after full gc. Result is reported as {@code bytesPerType} auxiliary counter (average retained
+ * bytes per hierarchy type; generic types are shared in both cases). Score (time) is not important here.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g", "-XX:+UseSerialGC"})
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+public class GenericsMapFootprintBenchmark {
+
+    private static final int COPIES = 1000;
+
+    private final List<GenericsInfo> descriptors = new ArrayList<GenericsInfo>();
+    private int typesCount;
+
+    @Setup(Level.Trial)
+    public void resolve() {
+        for (Class<?> type : Fixtures.JDK_TYPES) {
+            final GenericsInfo info = GenericInfoUtils.create(type);
+            descriptors.add(info);
+            typesCount += info.getComposingTypes().size();
+        }
+    }
+
+    @Benchmark
+    public Object compact(final Footprint footprint) {
+        return retain(footprint, true);
+    }
+
+    @Benchmark
+    public Object linked(final Footprint footprint) {
+        return retain(footprint, false);
+    }
+
+    private Object retain(final Footprint footprint, final boolean compact) {
+        final long before = usedHeap();
+        final List<Map<String, Type>> retained = new ArrayList<Map<String, Type>>(COPIES * typesCount);
+        for (int i = 0; i < COPIES; i++) {
+            for (GenericsInfo info : descriptors) {
+                for (ImmutableGenericsMap generics : info.getTypesMap().values()) {
+                    // types (map values) are shared, only map structure is copied
+                    final Map<String, Type> copy = new LinkedHashMap<String, Type>(generics);
+                    retained.add(compact ? ImmutableGenericsMap.of(copy) : copy);
+                }
+            }
+        }
+        footprint.record(usedHeap() - before, retained.size());
+        return retained;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Retained size counter.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerType;
+
+        void record(final long bytes, final int types) {
+            bytesPerType = bytes / types;
+        }
+    }
+}
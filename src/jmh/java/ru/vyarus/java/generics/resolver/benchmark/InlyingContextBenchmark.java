@@ -0,0 +1,89 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inlying contexts creation (not cached): field types ({@code context.fieldType(field)}) and sub types
+ * ({@code context.inlyingTypeAs(type, subType)}, root generics tracked from known type). Both are computed from
+ * cached hierarchy templates (single substitution instead of field type hierarchy resolution).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InlyingContextBenchmark {
+
+    private GenericsContext context;
+    private Field list;
+    private Field map;
+    private Field set;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception {
+        context = GenericsResolver.resolve(Holder.class);
+        list = Holder.class.getField("list");
+        map = Holder.class.getField("map");
+        set = Holder.class.getField("set");
+    }
+
+    @Benchmark
+    public GenericsContext fieldList() {
+        return context.fieldType(list);
+    }
+
+    @Benchmark
+    public GenericsContext fieldMap() {
+        return context.fieldType(map);
+    }
+
+    @Benchmark
+    public GenericsContext trackList() {
+        return context.inlyingTypeAs(list.getGenericType(), CopyOnWriteArrayList.class);
+    }
+
+    @Benchmark
+    public GenericsContext trackMap() {
+        return context.inlyingTypeAs(map.getGenericType(), ConcurrentSkipListMap.class);
+    }
+
+    @Benchmark
+    public GenericsContext trackSet() {
+        return context.inlyingTypeAs(set.getGenericType(), ConcurrentSkipListSet.class);
+    }
+
+    /**
+     * Fields holder.
+     */
+    public static class Holder {
+        public List<String> list;
+        public NavigableMap<String, List<Integer>> map;
+        public Collection<Set<String>> set;
+    }
+}
@@ -0,0 +1,139 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eager against lazy ({@link GenericsInfoFactory#LAZY_PROPERTY}) hierarchy resolution for fixture types
+ * ({@link Fixtures#JDK_TYPES} and {@link Fixtures#MODELS}).
+ * <p>
+ * {@code resolveOne} creates descriptor and accesses one hierarchy type: the usual case
+ * for {@code context.type(Some.class)}. {@code resolveAll} creates descriptor and accesses all composing types
+ * (worst case for lazy mode). {@code footprint} measures retained heap of descriptors with only one
+ * accessed type ({@code bytesPerDescriptor} auxiliary counter; score is not important).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g", "-XX:+UseSerialGC"})
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class LazyResolutionBenchmark {
+
+    private static final int COPIES = 100;
+
+    @Param({"eager", "lazy"})
+    public String mode;
+
+    private final List<Class<?>> types = new ArrayList<Class<?>>();
+    private final List<Class<?>> targets = new ArrayList<Class<?>>();
+
+    @Setup(Level.Trial)
+    public void init() {
+        if ("lazy".equals(mode)) {
+            GenericsInfoFactory.enableLazyResolution();
+        } else {
+            System.clearProperty(GenericsInfoFactory.LAZY_PROPERTY);
+        }
+        types.addAll(Arrays.asList(Fixtures.JDK_TYPES));
+        types.addAll(Fixtures.MODELS.values());
+        for (Class<?> type : types) {
+            Class<?> target = null;
+            // any composing type (fixed for both modes)
+            for (Class<?> composing : GenericInfoUtils.create(type).getComposingTypes()) {
+                target = composing;
+            }
+            targets.add(target);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void reset() {
+        System.clearProperty(GenericsInfoFactory.LAZY_PROPERTY);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int resolveOne() {
+        int res = 0;
+        for (int i = 0; i < types.size(); i++) {
+            res += GenericInfoUtils.create(types.get(i)).getTypeGenerics(targets.get(i)).size();
+        }
+        return res;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int resolveAll() {
+        int res = 0;
+        for (Class<?> type : types) {
+            final GenericsInfo info = GenericInfoUtils.create(type);
+            for (Class<?> composing : info.getComposingTypes()) {
+                res += info.getTypeGenerics(composing).size();
+            }
+        }
+        return res;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 5)
+    public Object footprint(final Footprint footprint) {
+        final long before = usedHeap();
+        final List<GenericsInfo> retained = new ArrayList<GenericsInfo>(COPIES * types.size());
+        for (int copy = 0; copy < COPIES; copy++) {
+            for (int i = 0; i < types.size(); i++) {
+                final GenericsInfo info = GenericInfoUtils.create(types.get(i));
+                info.getTypeGenerics(targets.get(i));
+                retained.add(info);
+            }
+        }
+        footprint.record(usedHeap() - before, retained.size());
+        return retained;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Retained size counter.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerDescriptor;
+
+        void record(final long bytes, final int descriptors) {
+            bytesPerDescriptor = bytes / descriptors;
+        }
+    }
+}
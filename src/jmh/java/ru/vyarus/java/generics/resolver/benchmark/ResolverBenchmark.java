@@ -0,0 +1,61 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.GenericsResolver;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GenericsResolver#resolve(Class, Class[])} on model hierarchies ({@link Fixtures#MODELS}).
+ * <p>
+ * Warm benchmark measures context creation for already cached descriptor. Cold benchmark measures full
+ * hierarchy resolution: cache is cleared before each single shot.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ResolverBenchmark {
+
+    @Param({"deep", "inner", "recursive", "fanout"})
+    public String model;
+
+    private Class<?> type;
+
+    @Setup(Level.Trial)
+    public void init() {
+        type = Fixtures.model(model);
+        GenericsResolver.resolve(type);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public GenericsContext resolveWarm() {
+        return GenericsResolver.resolve(type);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 50)
+    @Measurement(iterations = 200)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public GenericsContext resolveCold(final ColdCache cache) {
+        return GenericsResolver.resolve(type);
+    }
+}
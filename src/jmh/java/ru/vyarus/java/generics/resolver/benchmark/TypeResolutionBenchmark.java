@@ -0,0 +1,82 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.array;
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.lower;
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.param;
+
+/**
+ * Type variables substitution ({@link GenericsUtils#resolveTypeVariables(Type, Map)}) for already resolved type
+ * (returned as is, no allocations expected), type with one variable (only changed containers created) and jdk
+ * type (always repackaged into library containers).
+ * <p>
+ * Allocations are reported by gc profiler ({@code gc.alloc.rate.norm} is bytes per operation).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypeResolutionBenchmark {
+
+    // Map<String, List<? super Integer>[]>
+    private Type resolved;
+    // Map<List<String>, V>
+    private Type variable;
+    // Map<String, List<Integer>> (jdk implementation)
+    private Type jdk;
+    private Map<String, Type> generics;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception {
+        resolved = param(Map.class, String.class, array(param(List.class, lower(Integer.class))));
+        variable = param(Map.class, param(List.class, String.class), Map.class.getTypeParameters()[1]);
+        jdk = Holder.class.getField("field").getGenericType();
+        generics = Collections.<String, Type>singletonMap("V", Integer.class);
+    }
+
+    @Benchmark
+    public Type resolved() {
+        return GenericsUtils.resolveTypeVariables(resolved, EmptyGenericsMap.getInstance());
+    }
+
+    @Benchmark
+    public Type variable() {
+        return GenericsUtils.resolveTypeVariables(variable, generics);
+    }
+
+    @Benchmark
+    public Type jdk() {
+        return GenericsUtils.resolveTypeVariables(jdk, EmptyGenericsMap.getInstance());
+    }
+
+    /**
+     * Field holder.
+     */
+    public static class Holder {
+        public Map<String, List<Integer>> field;
+    }
+}
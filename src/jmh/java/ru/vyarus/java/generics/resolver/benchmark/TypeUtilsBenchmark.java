@@ -0,0 +1,175 @@
+package ru.vyarus.java.generics.resolver.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.vyarus.java.generics.resolver.benchmark.model.Hierarchies;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+import ru.vyarus.java.generics.resolver.util.type.InstanceTypeAccumulator;
+import ru.vyarus.java.generics.resolver.util.type.TypeMatcher;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.param;
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.upper;
+
+/**
+ * Type utilities on model hierarchies: {@link TypeUtils#isAssignable(Type, Type)},
+ * {@link TypeUtils#getCommonType(Type, Type)}, {@link TypeUtils#getInstanceType(Object...)} and
+ * {@link TypeToStringUtils#toStringType(Type)}.
+ * <p>
+ * Warm benchmarks measure operation with all required descriptors cached. Cold benchmarks measure first call:
+ * descriptors cache is cleared before each single shot (assignability and common type checks resolve hierarchies).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("checkstyle:MultipleStringLiterals")
+public class TypeUtilsBenchmark {
+
+    // Deep7<Integer>
+    private Type assignable;
+    // Root<List<Map<String, List<? extends Number>>>>
+    private Type assignableTarget;
+    // Outer<String>.Inner<List<Integer>>
+    private Type inner;
+    private Object[] instances;
+    // 10000 instances of 3 classes
+    private Object[] manyInstances;
+    private TypeMatcher matcher;
+    private TypeMatcher classMatcher;
+    private final StringBuilder buffer = new StringBuilder(128);
+
+    @Setup(Level.Trial)
+    public void init() {
+        assignable = param(Hierarchies.Deep7.class, Integer.class);
+        assignableTarget = param(Hierarchies.Root.class, param(List.class,
+                param(Map.class, String.class, param(List.class, upper(Number.class)))));
+        inner = param(Hierarchies.Outer.Inner.class, new Type[]{param(List.class, Integer.class)},
+                param(Hierarchies.Outer.class, String.class));
+        instances = new Object[]{
+                new ArrayList<Integer>(Arrays.asList(1, 2)),
+                new LinkedList<Long>(Arrays.asList(1L, 2L)),
+                new CopyOnWriteArrayList<BigDecimal>(Arrays.asList(BigDecimal.ONE)),
+        };
+        manyInstances = new Object[10000];
+        for (int i = 0; i < manyInstances.length; i++) {
+            manyInstances[i] = i % 3 == 0 ? Integer.valueOf(i) : (i % 3 == 1 ? Long.valueOf(i) : Double.valueOf(i));
+        }
+        matcher = TypeMatcher.of(assignableTarget);
+        classMatcher = TypeMatcher.of(Comparable.class);
+        if (!TypeUtils.isAssignable(assignable, assignableTarget)) {
+            throw new IllegalStateException("Wrong assignability fixture");
+        }
+    }
+
+    // ------------------------------------------------------------------------- warm
+
+    @Benchmark
+    public boolean isAssignable() {
+        return TypeUtils.isAssignable(assignable, assignableTarget);
+    }
+
+    @Benchmark
+    public boolean isAssignableMatcher() {
+        return matcher.isAssignableFrom(assignable);
+    }
+
+    @Benchmark
+    public boolean isAssignableClassMatcher() {
+        return classMatcher.isAssignableFrom(assignable);
+    }
+
+    @Benchmark
+    public Type getCommonType() {
+        return TypeUtils.getCommonType(Hierarchies.DeepLeaf.class, Hierarchies.DeepLeaf2.class);
+    }
+
+    @Benchmark
+    public Type getInstanceType() {
+        return TypeUtils.getInstanceType(instances);
+    }
+
+    @Benchmark
+    public Type getInstanceTypeMany() {
+        return TypeUtils.getInstanceType(manyInstances);
+    }
+
+    @Benchmark
+    public Type getInstanceTypeManyReservoir() {
+        final InstanceTypeAccumulator acc = InstanceTypeAccumulator.reservoir(100);
+        for (Object instance : manyInstances) {
+            acc.add(instance);
+        }
+        return acc.build();
+    }
+
+    @Benchmark
+    public String toStringType() {
+        return TypeToStringUtils.toStringType(assignableTarget);
+    }
+
+    @Benchmark
+    public String toStringInnerType() {
+        return TypeToStringUtils.toStringType(inner);
+    }
+
+    @Benchmark
+    public int appendType() {
+        buffer.setLength(0);
+        return TypeToStringUtils.appendType(buffer, assignableTarget, EmptyGenericsMap.getInstance()).length();
+    }
+
+    // ------------------------------------------------------------------------- cold
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 50)
+    @Measurement(iterations = 200)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean isAssignableCold(final ColdCache cache) {
+        return TypeUtils.isAssignable(assignable, assignableTarget);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 50)
+    @Measurement(iterations = 200)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Type getCommonTypeCold(final ColdCache cache) {
+        return TypeUtils.getCommonType(Hierarchies.DeepLeaf.class, Hierarchies.DeepLeaf2.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 50)
+    @Measurement(iterations = 200)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Type getInstanceTypeCold(final ColdCache cache) {
+        return TypeUtils.getInstanceType(instances);
+    }
+}
@@ -0,0 +1,108 @@
+package ru.vyarus.java.generics.resolver.benchmark.model;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RunnableFuture;
+
+/**
+ * Benchmark model: typical (and problematic) hierarchies shapes.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+@SuppressWarnings("checkstyle:InterfaceIsType")
+public final class Hierarchies {
+
+    private Hierarchies() {
+    }
+
+    // ------------------------------------------------------------------------- deep hierarchy
+    // generics are re-composed on each level: Root<List<Map<String, List<Integer>>>> for DeepLeaf
+
+    public interface Root<T> {
+    }
+
+    public abstract static class Deep1<A, B> implements Root<B> {
+    }
+
+    public abstract static class Deep2<A, B> extends Deep1<B, List<A>> implements Comparable<A> {
+    }
+
+    public abstract static class Deep3<A> extends Deep2<A, Set<A>> implements Iterable<A> {
+    }
+
+    public abstract static class Deep4<A, B> extends Deep3<Map<A, B>> {
+    }
+
+    public abstract static class Deep5<A> extends Deep4<String, A> implements Callable<A> {
+    }
+
+    public abstract static class Deep6<A extends Number> extends Deep5<List<A>> {
+    }
+
+    public abstract static class Deep7<A extends Number> extends Deep6<A> implements Comparator<A> {
+    }
+
+    public abstract static class DeepLeaf extends Deep7<Integer> {
+    }
+
+    public abstract static class DeepLeaf2 extends Deep7<Long> {
+    }
+
+    // ------------------------------------------------------------------------- inner classes
+    // inner classes use outer class generics
+
+    public static class Outer<T> {
+
+        public class Inner<K> implements Root<Map<T, K>> {
+        }
+
+        public class Deeper extends Inner<List<T>> implements Callable<T> {
+            @Override
+            public T call() {
+                return null;
+            }
+        }
+    }
+
+    public static class OuterLeaf extends Outer<String> {
+
+        public class Leaf extends Deeper {
+        }
+    }
+
+    // ------------------------------------------------------------------------- recursive generics
+
+    public abstract static class Version<T extends Comparable<T>> implements Comparable<T>, Root<List<T>> {
+    }
+
+    public abstract static class Node<T extends Node<T, K>, K extends Comparable<K>> extends Version<T> {
+    }
+
+    public abstract static class SemVer extends Node<SemVer, SemVer> implements Comparable<SemVer> {
+    }
+
+    // ------------------------------------------------------------------------- wide interface fan-out
+
+    public interface Fan1<A> {
+    }
+
+    public interface Fan2<A, B> extends Fan1<B> {
+    }
+
+    public interface Fan3<A, B> extends Fan2<B, A> {
+    }
+
+    public interface Fan4<A> extends Fan3<A, List<A>> {
+    }
+
+    public abstract static class Wide implements BlockingDeque<Integer>, RunnableFuture<Double>,
+            Callable<String>, Comparable<Wide>, Comparator<Wide>, Serializable,
+            Fan4<String>, Root<Set<Wide>> {
+    }
+}
@@ -4,6 +4,7 @@ import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
 import ru.vyarus.java.generics.resolver.error.WrongGenericsContextException;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
 
 import java.lang.reflect.*;
 import java.util.*;
@@ -55,13 +56,32 @@ public abstract class AbstractGenericsContext {
 
     protected final GenericsInfo genericsInfo;
     protected final Class<?> currentType;
+    // shared immutable map (ImmutableGenericsMap)
     protected final Map<String, Type> typeGenerics;
+    // the same map for positional access
+    private final ImmutableGenericsMap typeGenericsMap;
+
+    // lazy views (racy initialization is safe because views are immutable)
+    private List<Type> genericTypesView;
+    private Map<String, Type> visibleGenericsMapView;
 
     public AbstractGenericsContext(final GenericsInfo genericsInfo, final Class<?> type) {
+        // fail on wrong type
+        this(genericsInfo, type, genericsInfo.getTypeGenerics(type));
+    }
+
+    /**
+     * @param genericsInfo generics descriptor
+     * @param type         context type
+     * @param typeGenerics context type generics (could be a subset of type generics from descriptor)
+     */
+    protected AbstractGenericsContext(final GenericsInfo genericsInfo,
+                                      final Class<?> type,
+                                      final ImmutableGenericsMap typeGenerics) {
         this.genericsInfo = genericsInfo;
         this.currentType = type;
-        // fail on wrong type
-        typeGenerics = genericsInfo.getTypeGenerics(type);
+        this.typeGenerics = typeGenerics;
+        this.typeGenericsMap = typeGenerics;
     }
 
     /**
@@ -77,11 +97,18 @@ public abstract class AbstractGenericsContext {
      * <p>
      * Note: always returns all declared class generics, even inside method or constructor context, where
      * class generics could be hidden by context generics with the same name.
+     * <p>
+     * Returned list is unmodifiable.
      *
      * @return current class generics types
      */
     public List<Type> genericTypes() {
-        return new ArrayList<Type>(typeGenerics.values());
+        List<Type> res = genericTypesView;
+        if (res == null) {
+            res = typeGenericsMap.getTypes();
+            genericTypesView = res;
+        }
+        return res;
     }
 
     /**
@@ -132,7 +159,7 @@ public abstract class AbstractGenericsContext {
      * @see #genericTypes() for details
      */
     public Type genericType(final int position) {
-        return genericTypes().get(position);
+        return typeGenericsMap.getType(position);
     }
 
     /**
@@ -162,7 +189,7 @@ public abstract class AbstractGenericsContext {
      * @see #resolveClass(java.lang.reflect.Type)
      */
     public Class<?> generic(final int position) {
-        return resolveClass(genericTypes().get(position));
+        return resolveClass(typeGenericsMap.getType(position));
     }
 
     /**
@@ -217,12 +244,14 @@ public abstract class AbstractGenericsContext {
      * <p>
      * Note: always returns all declared class generics, even inside method or constructor context, where
      * class generics could be hidden by context generics with the same name.
+     * <p>
+     * Returned map is immutable.
      *
      * @return map of current type (runtime mapping of generic name to actual type)
      * @see #visibleGenericsMap() for all visible generics in current context
      */
     public Map<String, Type> genericsMap() {
-        return new LinkedHashMap<String, Type>(typeGenerics);
+        return typeGenerics;
     }
 
     /**
@@ -232,6 +261,8 @@ public abstract class AbstractGenericsContext {
      * <li>Outer type generics ({@code Outer<T>.Inner<K>})</li>
      * <li>Method generics ({@code <T> T get()})</li>
      * </ul>
+     * <p>
+     * Returned map is unmodifiable.
      *
      * @return all generics visible from current context
      * @see #genericsMap() for type only generics
@@ -239,7 +270,13 @@ public abstract class AbstractGenericsContext {
      * @see GenericsContext#ownerGenericsMap()
      */
     public Map<String, Type> visibleGenericsMap() {
-        return new LinkedHashMap<String, Type>(contextGenerics());
+        Map<String, Type> res = visibleGenericsMapView;
+        if (res == null) {
+            final Map<String, Type> generics = contextGenerics();
+            res = generics instanceof ImmutableGenericsMap ? generics : Collections.unmodifiableMap(generics);
+            visibleGenericsMapView = res;
+        }
+        return res;
     }
 
     /**
@@ -66,12 +66,14 @@ public class ConstructorGenericsContext extends GenericsContext {
      *      ["T": Object.class, "K": Serializable.class]}</pre>
      * For constructor generics it's impossible to know actual type (available only in time of constructor call),
      * so generics resolved as upper bound.
+     * <p>
+     * Returned map is unmodifiable.
      *
      * @return map of current constructor generics (runtime mapping of generic name to actual type)
      */
     public Map<String, Type> constructorGenericsMap() {
         return constructorGenerics.isEmpty()
-                ? Collections.<String, Type>emptyMap() : new LinkedHashMap<String, Type>(constructorGenerics);
+                ? Collections.<String, Type>emptyMap() : Collections.unmodifiableMap(constructorGenerics);
     }
 
     /**
@@ -1,14 +1,15 @@
 package ru.vyarus.java.generics.resolver.context;
 
+import ru.vyarus.java.generics.resolver.context.member.MembersTable;
 import ru.vyarus.java.generics.resolver.error.WrongGenericsContextException;
 import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.PrintableGenericsMap;
 
 import java.lang.reflect.*;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -44,8 +45,26 @@ public class GenericsContext extends AbstractGenericsContext {
     }
 
     public GenericsContext(final GenericsInfo genericsInfo, final Class<?> type, final GenericsContext root) {
-        super(genericsInfo, type);
-        separateOwnerGenerics();
+        // fail on wrong type
+        this(genericsInfo, type, root, genericsInfo.getTypeGenerics(type));
+    }
+
+    private GenericsContext(final GenericsInfo genericsInfo,
+                            final Class<?> type,
+                            final GenericsContext root,
+                            final ImmutableGenericsMap allGenerics) {
+        this(genericsInfo, type, root, allGenerics, GenericsUtils.extractOwnerGenerics(type, allGenerics));
+    }
+
+    private GenericsContext(final GenericsInfo genericsInfo,
+                            final Class<?> type,
+                            final GenericsContext root,
+                            final ImmutableGenericsMap allGenerics,
+                            final Map<String, Type> owner) {
+        super(genericsInfo, type, separateOwnerGenerics(allGenerics, owner));
+        this.ownerType = (Class) TypeUtils.getOuter(type);
+        this.ownerGenerics = owner.isEmpty() ? ImmutableGenericsMap.empty() : ImmutableGenericsMap.of(owner);
+        this.allTypeGenerics = allGenerics;
         this.root = root;
     }
 
@@ -109,14 +128,29 @@ public class GenericsContext extends AbstractGenericsContext {
      * This is done for consistency: no matter what context, method will return the same map. The only exception
      * is {@link #visibleGenericsMap()} which return only actually visible generics from current context
      * (class, method or constructor).
+     * <p>
+     * Returned map is unmodifiable.
      *
      * @return reachable owner type generics if context type is inner class or empty map if not inner class or
      * outer type does not contains generics
      * @see #ownerClass()
      */
     public Map<String, Type> ownerGenericsMap() {
-        return ownerGenerics.isEmpty()
-                ? Collections.<String, Type>emptyMap() : new LinkedHashMap<String, Type>(ownerGenerics);
+        return ownerGenerics;
+    }
+
+    /**
+     * Resolved members of entire hierarchy (not only current type): methods, fields and constructors with
+     * already resolved types. Use it instead of contexts navigation when many members must be introspected:
+     * members types are resolved only once (table is stored in {@link GenericsInfo} and so cached).
+     * <pre>{@code ResolvedMethod method = context.members().getMethod(B.class.getMethod("doSmth"));
+     * method.getReturnType(); // the same as context.method(...).resolveReturnType()}</pre>
+     *
+     * @return resolved members table
+     * @see GenericsInfo#getMembers()
+     */
+    public MembersTable members() {
+        return genericsInfo.getMembers();
     }
 
     @Override
@@ -165,10 +199,14 @@ public class GenericsContext extends AbstractGenericsContext {
         final Class target = root.resolveClass(type);
         final GenericsInfo generics;
 
-        if (target.getTypeParameters().length > 0 || couldRequireKnownOuterGenerics(root, type)) {
+        if (couldRequireKnownOuterGenerics(root, type)) {
             // resolve class hierarchy in context (non cachable context)
             // can't be primitive here
             generics = GenericInfoUtils.create(root, type, genericsInfo.getIgnoredTypes());
+        } else if (target.getTypeParameters().length > 0) {
+            // resolve class hierarchy in context (cached by resolved type, if inlying cache enabled)
+            // can't be primitive here
+            generics = GenericsInfoFactory.create(root, type, genericsInfo.getIgnoredTypes());
         } else {
             // class without generics - use cachable context
             generics = GenericsInfoFactory.create(
@@ -185,11 +223,15 @@ public class GenericsContext extends AbstractGenericsContext {
         final GenericsContext root = chooseContext(type);
         final Class target = root.resolveClass(type);
         final GenericsInfo generics;
-        if (target.getTypeParameters().length > 0
-                || couldRequireKnownOuterGenerics(root, type) || couldRequireKnownOuterGenerics(root, asType)) {
+        if (couldRequireKnownOuterGenerics(root, type) || couldRequireKnownOuterGenerics(root, asType)) {
             // resolve class hierarchy in context and from higher type (non cachable context)
             // can't be primitive
             generics = GenericInfoUtils.create(root, type, asType, genericsInfo.getIgnoredTypes());
+        } else if (target.getTypeParameters().length > 0) {
+            // resolve class hierarchy in context and from higher type
+            // (cached by resolved type, if inlying cache enabled)
+            // can't be primitive
+            generics = GenericsInfoFactory.create(root, type, asType, genericsInfo.getIgnoredTypes());
         } else {
             // class without generics - use cachable context
             generics = GenericsInfoFactory.create(
@@ -262,19 +304,23 @@ public class GenericsContext extends AbstractGenericsContext {
      * <p>
      * In case when outer generic name clashes with inner class generic outer generic is overridden by class generic
      * (become unreachable).
+     *
+     * @param allGenerics complete type generics (shared map from descriptor)
+     * @param owner       reachable owner generics
+     * @return type own generics
      */
-    private void separateOwnerGenerics() {
-        ownerType = (Class) TypeUtils.getOuter(currentType);
-        ownerGenerics = GenericsUtils.extractOwnerGenerics(currentType, typeGenerics);
-        if (ownerGenerics.isEmpty()) {
-            allTypeGenerics = typeGenerics;
-        } else {
-            allTypeGenerics = new LinkedHashMap<String, Type>(typeGenerics);
-            // remove owner generics from main set (ok to modify map because it's a copy)
-            for (String key : ownerGenerics.keySet()) {
-                typeGenerics.remove(key);
+    private static ImmutableGenericsMap separateOwnerGenerics(final ImmutableGenericsMap allGenerics,
+                                                              final Map<String, Type> owner) {
+        ImmutableGenericsMap res = allGenerics;
+        if (!owner.isEmpty()) {
+            // remove owner generics from main set (new map: original map is shared)
+            final Map<String, Type> own = new LinkedHashMap<String, Type>(allGenerics);
+            for (String key : owner.keySet()) {
+                own.remove(key);
             }
+            res = ImmutableGenericsMap.of(own);
         }
+        return res;
     }
 
     /**
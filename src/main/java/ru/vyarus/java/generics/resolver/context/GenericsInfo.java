@@ -1,8 +1,11 @@
 package ru.vyarus.java.generics.resolver.context;
 
+import ru.vyarus.java.generics.resolver.context.member.MembersTable;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.LazyHierarchy;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
 
 import java.lang.reflect.Type;
 import java.util.*;
@@ -17,6 +20,9 @@ import static ru.vyarus.java.generics.resolver.util.TypeToStringUtils.toStringWi
  * <p>
  * Maps also may hold outer type's generics (if type is inner class), because inner classes could access outer
  * generics ({@link GenericsContext} for separation logic).
+ * <p>
+ * Generics maps are stored as compact immutable maps ({@link ImmutableGenericsMap}) because descriptors are
+ * usually cached and so retained for a long time.
  *
  * @author Vyacheslav Rusakov
  * @since 16.10.2014
@@ -31,16 +37,40 @@ public class GenericsInfo {
     private static final TypeWriter DEFAULT_WRITER = new DefaultTypeWriter();
     private static final String EXTENDS_MARKER = "extends ";
     private static final String IMPLEMENTS_MARKER = "implements ";
+    // the same as %n in format
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
     private final Class<?> root;
     // super interface type -> generic name -> generic type (either class or parametrized type or generic array)
-    private final Map<Class<?>, LinkedHashMap<String, Type>> types;
+    private final Map<Class<?>, ImmutableGenericsMap> types;
     private final Class[] ignoredTypes;
+    // lazily created (most descriptors never need it)
+    private volatile MembersTable members;
 
     public GenericsInfo(final Class<?> root,
-                        final Map<Class<?>, LinkedHashMap<String, Type>> types,
+                        final Map<Class<?>, ? extends Map<String, Type>> types,
                         final Class... ignoredTypes) {
         this.root = root;
+        this.types = new HashMap<Class<?>, ImmutableGenericsMap>(types.size() * 4 / 3 + 1);
+        for (Map.Entry<Class<?>, ? extends Map<String, Type>> entry : types.entrySet()) {
+            // maps already compacted when resolved with GenericsResolutionUtils
+            this.types.put(entry.getKey(), ImmutableGenericsMap.of(entry.getValue()));
+        }
+        this.ignoredTypes = ignoredTypes;
+    }
+
+    /**
+     * Lazy descriptor: composing types generics are resolved on first access. Composing types are known
+     * immediately, but {@link #getTypesMap()}, {@link #toString()} and {@link #resolveAll()} force complete
+     * hierarchy resolution.
+     *
+     * @param types        lazily resolved hierarchy
+     * @param ignoredTypes ignored types
+     * @see ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils#resolveLazy(Class, LinkedHashMap, Map,
+     * List)
+     */
+    public GenericsInfo(final LazyHierarchy types, final Class... ignoredTypes) {
+        this.root = types.getRootClass();
         this.types = types;
         this.ignoredTypes = ignoredTypes;
     }
@@ -53,19 +83,47 @@ public class GenericsInfo {
     }
 
     /**
+     * Returned map is immutable (no copy is performed).
+     *
      * @param type class to get generics for
      * @return map of resolved generics for class (base class or interface implemented by root class or nay subclass)
      * @throws IllegalArgumentException is requested class is not present in root class hierarchy
      */
-    public Map<String, Type> getTypeGenerics(final Class<?> type) {
-        if (!types.containsKey(type)) {
+    public ImmutableGenericsMap getTypeGenerics(final Class<?> type) {
+        final ImmutableGenericsMap res = types.get(type);
+        if (res == null) {
             throw new IllegalArgumentException(String.format("Type %s is not assignable from %s",
                     type.getName(), root.getName()));
         }
-        return new LinkedHashMap<String, Type>(types.get(type));
+        return res;
+    }
+
+    /**
+     * @return true if composing types generics are resolved lazily (on first access)
+     * @see ru.vyarus.java.generics.resolver.context.GenericsInfoFactory#LAZY_PROPERTY
+     */
+    public boolean isLazy() {
+        return types instanceof LazyHierarchy;
+    }
+
+    /**
+     * Forces generics resolution for all composing types of lazy descriptor (does nothing for eager descriptor).
+     * Lazy descriptor throws hierarchy errors only on incorrect type access, so this method could be used to
+     * validate hierarchy in advance.
+     *
+     * @throws ru.vyarus.java.generics.resolver.error.GenericsResolutionException if resolution fails
+     * @see #isLazy()
+     */
+    public void resolveAll() {
+        if (isLazy()) {
+            ((LazyHierarchy) types).resolveAll();
+        }
     }
 
     /**
+     * Composing types are known without generics resolution (so lazy descriptor is not resolved by this call,
+     * use {@link #resolveAll()} to force resolution).
+     *
      * @return list of all classes (and interfaces) of root class hierarchy
      */
     public Set<Class<?>> getComposingTypes() {
@@ -82,8 +140,24 @@ public class GenericsInfo {
     /**
      * @return all known types in hierarchy with known generics
      */
-    public Map<Class<?>, LinkedHashMap<String, Type>> getTypesMap() {
-        return new HashMap<Class<?>, LinkedHashMap<String, Type>>(types);
+    public Map<Class<?>, ImmutableGenericsMap> getTypesMap() {
+        return new HashMap<Class<?>, ImmutableGenericsMap>(types);
+    }
+
+    /**
+     * Table is created lazily on first call and retained by descriptor (so cached together with descriptor, when
+     * descriptors cache is enabled). Members are resolved lazily per hierarchy type.
+     *
+     * @return resolved members of all hierarchy types
+     */
+    public MembersTable getMembers() {
+        MembersTable res = members;
+        if (res == null) {
+            // duplicate creation is harmless
+            res = new MembersTable(this);
+            members = res;
+        }
+        return res;
     }
 
     /**
@@ -142,13 +216,14 @@ public class GenericsInfo {
                                 final String prefix,
                                 final StringBuilder res,
                                 final TypeWriter typeWriter) {
-        final LinkedHashMap<String, Type> generics = types.get(type);
+        final Map<String, Type> generics = types.get(type);
         final Map<String, Type> ownerGenerics = GenericsUtils.extractOwnerGenerics(type, generics);
         final Map<String, Type> typeGenerics = GenericsUtils.extractTypeGenerics(type, generics);
         final Class<?> outer = (Class<?>) TypeUtils.getOuter(type);
-        res.append(String.format("%s%s%s%n",
-                shift, prefix.isEmpty() ? (type.isInterface() ? "interface " : "class ") : prefix,
-                typeWriter.write(type, typeGenerics, outer, ownerGenerics, shift)));
+        res.append(shift)
+                .append(prefix.isEmpty() ? (type.isInterface() ? "interface " : "class ") : prefix)
+                .append(typeWriter.write(type, typeGenerics, outer, ownerGenerics, shift))
+                .append(LINE_SEPARATOR);
         final Class<?> superclass = type.getSuperclass();
         // not ignored (or not last)
         if (types.containsKey(superclass)) {
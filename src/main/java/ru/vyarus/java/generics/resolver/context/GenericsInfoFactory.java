@@ -1,21 +1,49 @@
 package ru.vyarus.java.generics.resolver.context;
 
+import ru.vyarus.java.generics.resolver.error.GenericsResolutionException;
 import ru.vyarus.java.generics.resolver.util.GenericInfoUtils;
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyTemplates;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.cache.EvictionPolicy;
+import ru.vyarus.java.generics.resolver.util.cache.WeakClassCache;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolutionProfiler;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics;
 
-import java.util.ConcurrentModificationException;
-import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Analyze class hierarchy and produce object with resolved generics for each class. Resolved generics descriptors
  * are cached (for not inlying contexts).
  * <p>
- * Note: when ignore classes used, cache will not work: such descriptors are always resolved.
+ * Note: when ignore classes used, descriptor is cached by class and ignored classes (order is important)
+ * separately from complete class descriptor.
+ * <p>
+ * Optionally, inlying contexts (contexts of generified types in context of resolved class) could be cached too
+ * (see {@link #INLYING_CACHE_PROPERTY}). Such descriptors are cached by type, resolved in root context (the same
+ * parametrization would use the same descriptor).
  * <p>
  * Cache may be disabled (e.g. when JRebel used) by using environment variable or system property e.g.:
  * {@code System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, 'false')}.
  * Property value checked on cache write. To clear current cache state use static method.
+ * <p>
+ * By default, cache is unbounded. Bounded cache could be configured with eviction policy:
+ * {@code GenericsInfoFactory.setEvictionPolicy(new LruEvictionPolicy<GenericsInfo>(1000))}. Use policy instance to
+ * access cache statistics ({@link EvictionPolicy#getStats()}).
+ * <p>
+ * Cache is thread safe and does not block: descriptors for different classes are resolved in parallel
+ * and descriptor for the same class is resolved only once (other threads will wait for it). Classes are referenced
+ * weakly, so cache will not prevent class unloading.
+ * <p>
+ * Cache hits and misses are reported to metrics listener (see
+ * {@link ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics}). Repeated resolutions of the same class
+ * are reported to {@link ru.vyarus.java.generics.resolver.util.metrics.ResolutionProfiler} (when enabled).
  *
  * @author Vyacheslav Rusakov
  * @since 16.10.2014
@@ -28,47 +56,100 @@ public final class GenericsInfoFactory {
      */
     public static final String CACHE_PROPERTY = GenericsInfoFactory.class.getName() + ".cache";
 
-    private static final Map<Class<?>, GenericsInfo> CACHE = new WeakHashMap<Class<?>, GenericsInfo>();
-    // lock will not affect performance for cached descriptors, just to make sure nothing was build two times
-    private static final ReentrantLock LOCK = new ReentrantLock();
+    /**
+     * System property or environment variable name to enable inlying contexts cache.
+     * If value is 'true' - cache enabled, otherwise cache disabled. Inlying cache is also disabled
+     * when main cache is disabled (see {@link #CACHE_PROPERTY}). Contexts of types with inner classes in
+     * hierarchy are never cached (outer class generics could be taken from root context).
+     */
+    public static final String INLYING_CACHE_PROPERTY = GenericsInfoFactory.class.getName() + ".inlyingCache";
+
+    /**
+     * System property or environment variable name to enable lazy hierarchy resolution. If value is 'true' -
+     * created descriptors resolve composing types generics on first access (only hierarchy structure is analyzed
+     * on creation), otherwise complete hierarchy is resolved immediately. Lazy mode is useful for large
+     * hierarchies (e.g. proxies) when only a few types are actually used. Note that hierarchy errors are
+     * thrown on incorrect type access (not on descriptor creation) in lazy mode.
+     */
+    public static final String LAZY_PROPERTY = GenericsInfoFactory.class.getName() + ".lazy";
+
+    private static final WeakClassCache<GenericsInfo> CACHE = new WeakClassCache<GenericsInfo>();
+    private static final WeakClassCache<GenericsInfo> INLYING_CACHE = new WeakClassCache<GenericsInfo>();
 
     private GenericsInfoFactory() {
     }
 
     /**
-     * Note: ignore classes switch off caching for resolved descriptor (and if completely resolved version
-     * contained in cache limited version will be composed one more time).
+     * Note: descriptors with ignored classes are cached separately from completely resolved descriptor
+     * (for each ignored classes combination).
      *
      * @param type          finder type to investigate
      * @param ignoreClasses list of classes to ignore during inspection (useful to avoid interface clashes)
      * @return descriptor for class hierarchy generics substitution
      */
     public static GenericsInfo create(final Class<?> type, final Class<?>... ignoreClasses) {
-        GenericsInfo descriptor = ignoreClasses.length > 0
-                ? GenericInfoUtils.create(type, ignoreClasses) : CACHE.get(type);
-        if (descriptor == null) {
-            LOCK.lock();
-            try {
-                if (CACHE.get(type) != null) {
-                    // descriptor could be created while thread wait for lock
-                    descriptor = CACHE.get(type);
-                } else {
-                    descriptor = GenericInfoUtils.create(type);
-                    if (isCacheEnabled()) {
-                        // internal check
-                        if (CACHE.get(type) != null) {
-                            throw new ConcurrentModificationException("Descriptor already present in cache");
-                        }
-                        CACHE.put(type, descriptor);
-                    }
-                }
-            } finally {
-                LOCK.unlock();
+        final Object qualifier = WeakClassCache.classesQualifier(ignoreClasses);
+        GenericsInfo descriptor;
+        if (isCacheEnabled()) {
+            // descriptor for the same class will be created only once, even under concurrent access
+            final DescriptorLoader loader = new DescriptorLoader(type, ignoreClasses);
+            descriptor = CACHE.get(type, qualifier, loader);
+            ResolverMetrics.descriptorCache(type, false, !loader.loaded);
+        } else {
+            descriptor = CACHE.get(type, qualifier);
+            ResolverMetrics.descriptorCache(type, false, descriptor != null);
+            if (descriptor == null) {
+                ResolutionProfiler.cacheMiss(type);
+                descriptor = GenericInfoUtils.create(type, ignoreClasses);
             }
         }
         return descriptor;
     }
 
+    /**
+     * Inlying context creation (generified type resolution in context of resolved class). When inlying cache is
+     * enabled, descriptor is cached by type, resolved with root generics, and ignored classes.
+     * <p>
+     * IMPORTANT: method must be used only for types, which does not depend on possible outer class generics,
+     * known in root context (otherwise use {@link GenericInfoUtils#create(GenericsContext, Type, Class[])} directly).
+     *
+     * @param context       generics context of containing class
+     * @param type          type to analyze
+     * @param ignoreClasses classes to exclude from hierarchy analysis
+     * @return analyzed type generics info
+     * @see GenericInfoUtils#create(GenericsContext, Type, Class[])
+     * @see #INLYING_CACHE_PROPERTY
+     */
+    public static GenericsInfo create(final GenericsContext context,
+                                      final Type type,
+                                      final Class<?>... ignoreClasses) {
+        return createInlying(context, type, null, ignoreClasses);
+    }
+
+    /**
+     * Inlying context creation (generified type resolution in context of resolved class) for sub type. When
+     * inlying cache is enabled, descriptor is cached by target type, type, resolved with root generics,
+     * and ignored classes.
+     * <p>
+     * IMPORTANT: method must be used only for types, which does not depend on possible outer class generics,
+     * known in root context (otherwise use {@link GenericInfoUtils#create(GenericsContext, Type, Class, Class[])}
+     * directly).
+     *
+     * @param context       generics context of containing class
+     * @param type          type to analyze
+     * @param asType        target child type (this class contain original type in hierarchy)
+     * @param ignoreClasses classes to exclude from hierarchy analysis
+     * @return analyzed type generics info
+     * @see GenericInfoUtils#create(GenericsContext, Type, Class, Class[])
+     * @see #INLYING_CACHE_PROPERTY
+     */
+    public static GenericsInfo create(final GenericsContext context,
+                                      final Type type,
+                                      final Class<?> asType,
+                                      final Class<?>... ignoreClasses) {
+        return createInlying(context, type, asType, ignoreClasses);
+    }
+
     /**
      * Clears cached descriptors (already parsed).
      * Cache could be completely disabled using system property or environment variable
@@ -76,12 +157,80 @@ public final class GenericsInfoFactory {
      * @see #CACHE_PROPERTY
      */
     public static void clearCache() {
-        LOCK.lock();
-        try {
-            CACHE.clear();
-        } finally {
-            LOCK.unlock();
-        }
+        CACHE.clear();
+        INLYING_CACHE.clear();
+        HierarchyTemplates.clearCache();
+        TypeToStringUtils.clearCache();
+    }
+
+    /**
+     * Configures descriptors cache eviction policy (e.g. LRU or LFU policy).
+     * Use {@link ru.vyarus.java.generics.resolver.util.cache.GenericsInfoWeigher} for memory limited cache.
+     * Cache is cleared on policy change.
+     *
+     * @param policy eviction policy (new instance) or null for unbounded cache
+     */
+    public static void setEvictionPolicy(final EvictionPolicy<? super GenericsInfo> policy) {
+        CACHE.setPolicy(policy);
+    }
+
+    /**
+     * @return descriptors cache eviction policy or null if cache is unbounded
+     */
+    public static EvictionPolicy<? super GenericsInfo> getEvictionPolicy() {
+        return CACHE.getPolicy();
+    }
+
+    /**
+     * Configures inlying contexts cache eviction policy. Cache is cleared on policy change.
+     *
+     * @param policy eviction policy (new instance) or null for unbounded cache
+     * @see #setEvictionPolicy(EvictionPolicy)
+     */
+    public static void setInlyingEvictionPolicy(final EvictionPolicy<? super GenericsInfo> policy) {
+        INLYING_CACHE.setPolicy(policy);
+    }
+
+    /**
+     * @return inlying contexts cache eviction policy or null if cache is unbounded
+     */
+    public static EvictionPolicy<? super GenericsInfo> getInlyingEvictionPolicy() {
+        return INLYING_CACHE.getPolicy();
+    }
+
+    /**
+     * Note that size may include descriptors, cleared by garbage collector.
+     *
+     * @return count of cached descriptors
+     */
+    public static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * @return count of cached inlying contexts descriptors
+     * @see #getCacheSize()
+     */
+    public static int getInlyingCacheSize() {
+        return INLYING_CACHE.size();
+    }
+
+    /**
+     * Enables inlying contexts cache.
+     *
+     * @see #INLYING_CACHE_PROPERTY
+     */
+    public static void enableInlyingCache() {
+        System.setProperty(INLYING_CACHE_PROPERTY, Boolean.TRUE.toString());
+    }
+
+    /**
+     * Enables lazy hierarchy resolution for new descriptors (already cached descriptors are not affected).
+     *
+     * @see #LAZY_PROPERTY
+     */
+    public static void enableLazyResolution() {
+        System.setProperty(LAZY_PROPERTY, Boolean.TRUE.toString());
     }
 
     /**
@@ -89,6 +238,8 @@ public final class GenericsInfoFactory {
      */
     public static void disableCache() {
         System.setProperty(CACHE_PROPERTY, Boolean.FALSE.toString());
+        // class names cache reads property only on clear
+        TypeToStringUtils.clearCache();
     }
 
     /**
@@ -99,4 +250,222 @@ public final class GenericsInfoFactory {
         return !no.equals(System.getenv(CACHE_PROPERTY))
                 && !no.equals(System.getProperty(CACHE_PROPERTY));
     }
+
+    /**
+     * @return true if inlying contexts cache enabled, false otherwise
+     */
+    public static boolean isInlyingCacheEnabled() {
+        final String yes = Boolean.TRUE.toString();
+        return isCacheEnabled()
+                && (yes.equals(System.getenv(INLYING_CACHE_PROPERTY))
+                || yes.equals(System.getProperty(INLYING_CACHE_PROPERTY)));
+    }
+
+    /**
+     * @return true if lazy hierarchy resolution enabled, false otherwise
+     */
+    public static boolean isLazyResolutionEnabled() {
+        final String yes = Boolean.TRUE.toString();
+        return yes.equals(System.getenv(LAZY_PROPERTY)) || yes.equals(System.getProperty(LAZY_PROPERTY));
+    }
+
+    private static GenericsInfo createInlying(final GenericsContext context,
+                                              final Type type,
+                                              final Class<?> asType,
+                                              final Class<?>... ignoreClasses) {
+        if (!isInlyingCacheEnabled()) {
+            return asType == null
+                    ? GenericInfoUtils.create(context, type, ignoreClasses)
+                    : GenericInfoUtils.create(context, type, asType, ignoreClasses);
+        }
+        // resolved type is the same for all contexts with the same parametrization
+        final Type actual = GenericsUtils.resolveTypeVariables(type, context.visibleGenericsMap());
+        final Class<?> target = asType == null ? context.resolveClass(actual) : asType;
+        final InlyingLoader loader = new InlyingLoader(context, actual, asType, ignoreClasses);
+        final InlyingQualifier qualifier = isInlyingCacheable(target)
+                ? InlyingQualifier.of(actual, asType != null, ignoreClasses) : null;
+        final GenericsInfo res = qualifier != null ? INLYING_CACHE.get(target, qualifier, loader) : loader.load();
+        ResolverMetrics.descriptorCache(target, true, !loader.loaded);
+        return res;
+    }
+
+    /**
+     * Inner classes in target hierarchy may use outer class generics, known in root context (root context
+     * composing types), so resolution result depends not only on target type. Such contexts are not cached.
+     *
+     * @param target inlying context type
+     * @return true if inlying context could be cached
+     */
+    private static boolean isInlyingCacheable(final Class<?> target) {
+        boolean res;
+        try {
+            res = !HierarchyTemplates.hasInnerTypes(target);
+        } catch (GenericsResolutionException ex) {
+            // incorrect hierarchy: error will be thrown by context resolution
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * Descriptor loader (remembers if descriptor was actually computed for metrics).
+     */
+    private static final class DescriptorLoader implements WeakClassCache.Loader<GenericsInfo> {
+        private final Class<?> type;
+        private final Class<?>[] ignoreClasses;
+        private boolean loaded;
+
+        DescriptorLoader(final Class<?> type, final Class<?>... ignoreClasses) {
+            this.type = type;
+            this.ignoreClasses = ignoreClasses;
+        }
+
+        @Override
+        public GenericsInfo load() {
+            loaded = true;
+            ResolutionProfiler.cacheMiss(type);
+            return GenericInfoUtils.create(type, ignoreClasses);
+        }
+    }
+
+    /**
+     * Inlying descriptor loader (remembers if descriptor was actually computed for metrics).
+     */
+    private static final class InlyingLoader implements WeakClassCache.Loader<GenericsInfo> {
+        private final GenericsContext context;
+        private final Type type;
+        private final Class<?> asType;
+        private final Class<?>[] ignoreClasses;
+        private boolean loaded;
+
+        InlyingLoader(final GenericsContext context, final Type type, final Class<?> asType,
+                      final Class<?>... ignoreClasses) {
+            this.context = context;
+            this.type = type;
+            this.asType = asType;
+            this.ignoreClasses = ignoreClasses;
+        }
+
+        @Override
+        public GenericsInfo load() {
+            loaded = true;
+            return asType == null
+                    ? GenericInfoUtils.create(context, type, ignoreClasses)
+                    : GenericInfoUtils.create(context, type, asType, ignoreClasses);
+        }
+    }
+
+    /**
+     * Inlying context cache key qualifier (type itself is used as cache key). Resolved type is stored as
+     * flat structure with weak references to all used classes (like ignored classes qualifier), so qualifier does not
+     * prevent type parameter classes unloading (e.g. {@code List<PluginType>} entry does not hold plugin class
+     * loader). Entry, qualified with unloaded class, become unreachable and will be removed when key class unloads.
+     */
+    private static final class InlyingQualifier {
+        private static final Integer PARAMETERIZED = -1;
+        private static final Integer WILDCARD = -2;
+        private static final Integer ARRAY = -3;
+        private static final Integer NO_OWNER = -4;
+
+        private final Object[] tokens;
+        private final boolean tracked;
+        private final Object ignored;
+        private final int hash;
+
+        private InlyingQualifier(final Object[] tokens, final boolean tracked, final Class<?>... ignoreClasses) {
+            this.tokens = tokens;
+            this.tracked = tracked;
+            this.ignored = WeakClassCache.classesQualifier(ignoreClasses);
+            int res = 1;
+            for (Object token : tokens) {
+                res = 31 * res + (token instanceof WeakReference
+                        ? System.identityHashCode(((WeakReference) token).get()) : token.hashCode());
+            }
+            this.hash = 31 * (31 * res + (tracked ? 1 : 0)) + (ignored == null ? 0 : ignored.hashCode());
+        }
+
+        /**
+         * @param type          resolved type
+         * @param tracked       true for tracked type
+         * @param ignoreClasses ignored classes
+         * @return qualifier or null if type could not be cached (contains variables)
+         */
+        static InlyingQualifier of(final Type type, final boolean tracked, final Class<?>... ignoreClasses) {
+            final List<Object> tokens = new ArrayList<Object>();
+            return flatten(type, tokens) ? new InlyingQualifier(tokens.toArray(), tracked, ignoreClasses) : null;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof InlyingQualifier)) {
+                return false;
+            }
+            final InlyingQualifier that = (InlyingQualifier) obj;
+            boolean res = hash == that.hash && tracked == that.tracked && tokens.length == that.tokens.length
+                    && (ignored == null ? that.ignored == null : ignored.equals(that.ignored));
+            for (int i = 0; res && i < tokens.length; i++) {
+                res = matches(tokens[i], that.tokens[i]);
+            }
+            return res;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean flatten(final Type type, final List<Object> tokens) {
+            // variables reference declaration source and could not be referenced weakly
+            boolean res = false;
+            if (type instanceof Class) {
+                tokens.add(new WeakReference<Class<?>>((Class<?>) type));
+                res = true;
+            } else if (type instanceof ParameterizedType) {
+                final ParameterizedType parameterized = (ParameterizedType) type;
+                final Type owner = parameterized.getOwnerType();
+                final Type[] args = parameterized.getActualTypeArguments();
+                tokens.add(PARAMETERIZED);
+                tokens.add(args.length);
+                if (owner == null) {
+                    tokens.add(NO_OWNER);
+                }
+                res = (owner == null || flatten(owner, tokens))
+                        && flatten(parameterized.getRawType(), tokens) && flatten(args, tokens);
+            } else if (type instanceof WildcardType) {
+                final WildcardType wildcard = (WildcardType) type;
+                final Type[] upper = wildcard.getUpperBounds();
+                final Type[] lower = wildcard.getLowerBounds();
+                tokens.add(WILDCARD);
+                tokens.add(upper.length);
+                tokens.add(lower.length);
+                res = flatten(upper, tokens) && flatten(lower, tokens);
+            } else if (type instanceof GenericArrayType) {
+                tokens.add(ARRAY);
+                res = flatten(((GenericArrayType) type).getGenericComponentType(), tokens);
+            }
+            return res;
+        }
+
+        private static boolean flatten(final Type[] types, final List<Object> tokens) {
+            boolean res = true;
+            for (int i = 0; res && i < types.length; i++) {
+                res = flatten(types[i], tokens);
+            }
+            return res;
+        }
+
+        private static boolean matches(final Object one, final Object two) {
+            final boolean res;
+            if (one instanceof WeakReference) {
+                final Object type = ((WeakReference) one).get();
+                res = two instanceof WeakReference && type != null && type == ((WeakReference) two).get();
+            } else {
+                res = one.equals(two);
+            }
+            return res;
+        }
+    }
 }
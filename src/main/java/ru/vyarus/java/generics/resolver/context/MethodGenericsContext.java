@@ -63,12 +63,14 @@ public class MethodGenericsContext extends GenericsContext {
      *          ["T": Object.class, "K": Serializable.class]}</pre>
      * For method generics it's impossible to know actual type (available only in time of method call),
      * so generics resolved as upper bound.
+     * <p>
+     * Returned map is unmodifiable.
      *
      * @return map of current method generics (runtime mapping of generic name to actual type)
      */
     public Map<String, Type> methodGenericsMap() {
         return methodGenerics.isEmpty()
-                ? Collections.<String, Type>emptyMap() : new LinkedHashMap<String, Type>(methodGenerics);
+                ? Collections.<String, Type>emptyMap() : Collections.unmodifiableMap(methodGenerics);
     }
 
     /**
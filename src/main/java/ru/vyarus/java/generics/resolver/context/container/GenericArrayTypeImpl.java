@@ -15,12 +15,21 @@ import java.lang.reflect.Type;
 public class GenericArrayTypeImpl implements GenericArrayType {
 
     private final Type componentType;
+    // true when type contains no variables (resolution would return the same type)
+    private final boolean resolved;
+    // true when type could be pooled by interner
+    private final boolean internable;
 
     public GenericArrayTypeImpl(final Type componentType) {
         this.componentType = componentType;
         if (componentType == null) {
             throw new IllegalArgumentException("Null component type is not allowed");
         }
+        // exact class check to avoid custom (possibly mutable) implementations
+        // (array of class is replaced with array class by resolution)
+        this.resolved = getClass() == GenericArrayTypeImpl.class
+                && !(componentType instanceof Class) && TypeContainers.isResolved(componentType);
+        this.internable = getClass() == GenericArrayTypeImpl.class && TypeContainers.isInternable(componentType);
     }
 
     @Override
@@ -47,4 +56,18 @@ public class GenericArrayTypeImpl implements GenericArrayType {
     public String toString() {
         return TypeToStringUtils.toStringType(this);
     }
+
+    /**
+     * @return true when type contains no variables
+     */
+    boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * @return true when type could be interned
+     */
+    boolean isInternable() {
+        return internable;
+    }
 }
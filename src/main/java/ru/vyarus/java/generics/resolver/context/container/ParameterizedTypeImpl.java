@@ -19,6 +19,13 @@ public class ParameterizedTypeImpl implements ParameterizedType {
     private final Type rawType;
     private final Type[] actualArguments;
     private final Type ownerType;
+    // hash is cached only when all inner types are immutable (not instance types)
+    private final boolean stableHash;
+    private final int hash;
+    // true when type contains no variables (resolution would return the same type)
+    private final boolean resolved;
+    // true when type could be pooled by interner
+    private final boolean internable;
 
     public ParameterizedTypeImpl(final Type rawType, final Type... actualArguments) {
         this(rawType, actualArguments, null);
@@ -31,6 +38,18 @@ public class ParameterizedTypeImpl implements ParameterizedType {
         if (rawType == null) {
             throw new IllegalArgumentException("Null raw type is not allowed");
         }
+        this.stableHash = TypeContainers.isStableHash(this.actualArguments)
+                && (ownerType == null || TypeContainers.isStableHash(ownerType));
+        this.hash = stableHash ? computeHash() : 0;
+        // exact class check to avoid custom (possibly mutable) implementations
+        // (type without arguments and owner is shrunk to class by resolution)
+        this.resolved = getClass() == ParameterizedTypeImpl.class
+                && (this.actualArguments.length > 0 || ownerType != null)
+                && TypeContainers.isResolved(this.actualArguments)
+                && (ownerType == null || TypeContainers.isResolved(ownerType));
+        this.internable = getClass() == ParameterizedTypeImpl.class
+                && TypeContainers.isInternable(this.actualArguments)
+                && (ownerType == null || TypeContainers.isInternable(ownerType));
     }
 
     @Override
@@ -53,12 +72,12 @@ public class ParameterizedTypeImpl implements ParameterizedType {
         boolean res = this == o;
         if (!res && o instanceof ParameterizedType) {
             final ParameterizedType that = (ParameterizedType) o;
-            final Type[] thatActualArguments = that.getActualTypeArguments();
             final Type thatOwnerType = that.getOwnerType();
             final Type thatRawType = that.getRawType();
 
-            res = rawType.equals(thatRawType)
-                    && Arrays.equals(actualArguments, thatActualArguments)
+            res = !cachedHashDiffers(o)
+                    && rawType.equals(thatRawType)
+                    && Arrays.equals(actualArguments, TypeContainers.arguments(that))
                     && (ownerType != null ? ownerType.equals(thatOwnerType) : thatOwnerType == null);
         }
         return res;
@@ -66,14 +85,56 @@ public class ParameterizedTypeImpl implements ParameterizedType {
 
     @Override
     public int hashCode() {
-        int result = rawType.hashCode();
-        result = 31 * result + Arrays.hashCode(actualArguments);
-        result = 31 * result + (ownerType != null ? ownerType.hashCode() : 0);
-        return result;
+        return stableHash ? hash : computeHash();
     }
 
     @Override
     public String toString() {
         return TypeToStringUtils.toStringType(this);
     }
+
+    /**
+     * @return true when hash code is cached
+     */
+    boolean isStableHash() {
+        return stableHash;
+    }
+
+    /**
+     * @return true when type contains no variables
+     */
+    boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * @return true when type could be interned
+     */
+    boolean isInternable() {
+        return internable;
+    }
+
+    /**
+     * @return type arguments array (without copy)
+     */
+    Type[] arguments() {
+        return actualArguments;
+    }
+
+    // the same formula as in jdk implementation: equal types must have equal hashes, whatever implementation used
+    // (otherwise cached hash comparison would reject types with equal jdk and library inner types)
+    private int computeHash() {
+        return Arrays.hashCode(actualArguments)
+                ^ (ownerType != null ? ownerType.hashCode() : 0)
+                ^ rawType.hashCode();
+    }
+
+    // fast inequality check without deep comparison
+    private boolean cachedHashDiffers(final Object o) {
+        if (stableHash && o instanceof ParameterizedTypeImpl) {
+            final ParameterizedTypeImpl that = (ParameterizedTypeImpl) o;
+            return that.stableHash && hash != that.hash;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,173 @@
+package ru.vyarus.java.generics.resolver.context.container;
+
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceType;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Internal accessors for type containers. Public {@link ParameterizedType} and {@link WildcardType} methods
+ * return array copies (to prevent modifications) which is too expensive for hot paths (types walking, resolution,
+ * rendering), where arrays are only read. For library containers ({@link ParameterizedTypeImpl},
+ * {@link WildcardTypeImpl}) internal arrays are returned, for other implementations usual methods are called.
+ * <p>
+ * IMPORTANT: returned arrays must never be modified! Use public type methods if you need to modify arrays.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class TypeContainers {
+
+    private TypeContainers() {
+    }
+
+    /**
+     * @param type parameterized type
+     * @return type arguments (array must not be modified!)
+     */
+    public static Type[] arguments(final ParameterizedType type) {
+        return type instanceof ParameterizedTypeImpl
+                ? ((ParameterizedTypeImpl) type).arguments() : type.getActualTypeArguments();
+    }
+
+    /**
+     * @param type wildcard type
+     * @return wildcard upper bounds (array must not be modified!)
+     */
+    public static Type[] upperBounds(final WildcardType type) {
+        return type instanceof WildcardTypeImpl
+                ? ((WildcardTypeImpl) type).upper() : type.getUpperBounds();
+    }
+
+    /**
+     * @param type wildcard type
+     * @return wildcard lower bounds (array must not be modified!)
+     */
+    public static Type[] lowerBounds(final WildcardType type) {
+        return type instanceof WildcardTypeImpl
+                ? ((WildcardTypeImpl) type).lower() : type.getLowerBounds();
+    }
+
+    /**
+     * Instance types ({@link InstanceType}) could change after creation (when accuracy improved) and so their
+     * hash is not stable. Containers, referencing such types, can't cache hash code. Also, such types can't be
+     * used as keys in caches.
+     *
+     * @param type type to check
+     * @return true if type hash code could not change, false otherwise
+     */
+    public static boolean isStableHash(final Type type) {
+        final boolean res;
+        if (type instanceof InstanceType) {
+            res = false;
+        } else if (type instanceof ParameterizedTypeImpl) {
+            res = ((ParameterizedTypeImpl) type).isStableHash();
+        } else if (type instanceof WildcardTypeImpl) {
+            res = ((WildcardTypeImpl) type).isStableHash();
+        } else if (type instanceof GenericArrayType) {
+            res = isStableHash(((GenericArrayType) type).getGenericComponentType());
+        } else {
+            // classes, variables and other (assumed immutable) implementations
+            res = true;
+        }
+        return res;
+    }
+
+    /**
+     * Library containers ({@link ParameterizedTypeImpl}, {@link WildcardTypeImpl} and {@link GenericArrayTypeImpl})
+     * check on creation if they contain variables. Type without variables (composed of classes and other
+     * resolved library containers) is returned as is by
+     * {@link ru.vyarus.java.generics.resolver.util.GenericsUtils#resolveTypeVariables(Type, java.util.Map)}
+     * so its traversal could be avoided.
+     * <p>
+     * Types, which would be repackaged by resolution (jdk and instance types, wildcards with one upper bound,
+     * parameterized types without arguments, generic arrays of classes) are never resolved.
+     *
+     * @param type type to check
+     * @return true if type contains no variables and would not change after resolution, false otherwise
+     */
+    public static boolean isResolved(final Type type) {
+        final boolean res;
+        if (type instanceof Class) {
+            res = true;
+        } else if (type instanceof ParameterizedTypeImpl) {
+            res = ((ParameterizedTypeImpl) type).isResolved();
+        } else if (type instanceof WildcardTypeImpl) {
+            res = ((WildcardTypeImpl) type).isResolved();
+        } else if (type instanceof GenericArrayTypeImpl) {
+            res = ((GenericArrayTypeImpl) type).isResolved();
+        } else {
+            // variables, jdk and instance types
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * Library containers check on creation if they could be pooled by
+     * {@link ru.vyarus.java.generics.resolver.util.type.TypeInterner}: only exact library containers (not
+     * subclasses, like instance types), composed of classes, variables and other internable containers are
+     * immutable. Check is constant time (no traversal).
+     *
+     * @param type type to check
+     * @return true if type could be safely interned, false otherwise
+     */
+    public static boolean isInternable(final Type type) {
+        final boolean res;
+        if (type instanceof Class || type instanceof TypeVariable || type instanceof ExplicitTypeVariable) {
+            res = true;
+        } else if (type instanceof ParameterizedTypeImpl) {
+            res = ((ParameterizedTypeImpl) type).isInternable();
+        } else if (type instanceof WildcardTypeImpl) {
+            res = ((WildcardTypeImpl) type).isInternable();
+        } else if (type instanceof GenericArrayTypeImpl) {
+            res = ((GenericArrayTypeImpl) type).isInternable();
+        } else {
+            // jdk and custom types
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * @param types types to check
+     * @return true if all types could be interned, false otherwise
+     */
+    static boolean isInternable(final Type... types) {
+        for (Type type : types) {
+            if (!isInternable(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param types types to check
+     * @return true if all types contain no variables, false otherwise
+     */
+    static boolean isResolved(final Type... types) {
+        for (Type type : types) {
+            if (!isResolved(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param types types to check
+     * @return true if all types hash codes could not change, false otherwise
+     */
+    static boolean isStableHash(final Type... types) {
+        for (Type type : types) {
+            if (!isStableHash(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -29,11 +29,31 @@ public class WildcardTypeImpl implements WildcardType {
     private final Type[] upperBounds;
     // ? super T
     private final Type[] lowerBounds;
+    // hash is cached only when all inner types are immutable (not instance types)
+    private final boolean stableHash;
+    private final int hash;
+    // true when type contains no variables (resolution would return the same type)
+    private final boolean resolved;
+    // true when type could be pooled by interner
+    private final boolean internable;
 
     @SuppressWarnings("PMD.UseVarargs")
     public WildcardTypeImpl(final Type[] upperBounds, final Type[] lowerBounds) {
         this.upperBounds = Arrays.copyOf(upperBounds, upperBounds.length);
         this.lowerBounds = Arrays.copyOf(lowerBounds, lowerBounds.length);
+        this.stableHash = TypeContainers.isStableHash(this.upperBounds)
+                && TypeContainers.isStableHash(this.lowerBounds);
+        this.hash = stableHash ? computeHash() : 0;
+        // exact class check to avoid custom (possibly mutable) implementations
+        // (resolution flattens <? super Object> and wildcards with one upper bound)
+        this.resolved = getClass() == WildcardTypeImpl.class && (this.lowerBounds.length > 0
+                ? this.lowerBounds.length == 1 && this.lowerBounds[0] != Object.class
+                && TypeContainers.isResolved(this.lowerBounds)
+                && this.upperBounds.length == 1 && this.upperBounds[0] == Object.class
+                : this.upperBounds.length != 1 && TypeContainers.isResolved(this.upperBounds));
+        this.internable = getClass() == WildcardTypeImpl.class
+                && TypeContainers.isInternable(this.upperBounds)
+                && TypeContainers.isInternable(this.lowerBounds);
     }
 
     /**
@@ -63,19 +83,16 @@ public class WildcardTypeImpl implements WildcardType {
         boolean res = this == o;
         if (!res && o instanceof WildcardType) {
             final WildcardType that = (WildcardType) o;
-            final Type[] thatLowerBounds = that.getLowerBounds();
-            final Type[] thatUpperBounds = that.getUpperBounds();
-
-            res = Arrays.equals(lowerBounds, thatLowerBounds) && Arrays.equals(upperBounds, thatUpperBounds);
+            res = !cachedHashDiffers(o)
+                    && Arrays.equals(lowerBounds, TypeContainers.lowerBounds(that))
+                    && Arrays.equals(upperBounds, TypeContainers.upperBounds(that));
         }
         return res;
     }
 
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(upperBounds);
-        result = 31 * result + Arrays.hashCode(lowerBounds);
-        return result;
+        return stableHash ? hash : computeHash();
     }
 
     @Override
@@ -83,6 +100,41 @@ public class WildcardTypeImpl implements WildcardType {
         return TypeToStringUtils.toStringType(this, Collections.<String, Type>emptyMap());
     }
 
+    /**
+     * @return true when hash code is cached
+     */
+    boolean isStableHash() {
+        return stableHash;
+    }
+
+    /**
+     * @return true when type contains no variables
+     */
+    boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * @return true when type could be interned
+     */
+    boolean isInternable() {
+        return internable;
+    }
+
+    /**
+     * @return upper bounds array (without copy)
+     */
+    Type[] upper() {
+        return upperBounds;
+    }
+
+    /**
+     * @return lower bounds array (without copy)
+     */
+    Type[] lower() {
+        return lowerBounds;
+    }
+
     /**
      * ? extends A &amp; B.
      *
@@ -103,4 +155,18 @@ public class WildcardTypeImpl implements WildcardType {
         // upper bound must be always present
         return new WildcardTypeImpl(new Type[]{Object.class}, new Type[]{lower});
     }
+
+    // the same formula as in jdk implementation (see ParameterizedTypeImpl)
+    private int computeHash() {
+        return Arrays.hashCode(lowerBounds) ^ Arrays.hashCode(upperBounds);
+    }
+
+    // fast inequality check without deep comparison
+    private boolean cachedHashDiffers(final Object o) {
+        if (stableHash && o instanceof WildcardTypeImpl) {
+            final WildcardTypeImpl that = (WildcardTypeImpl) o;
+            return that.stableHash && hash != that.hash;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,267 @@
+package ru.vyarus.java.generics.resolver.context.member;
+
+import ru.vyarus.java.generics.resolver.context.ConstructorGenericsContext;
+import ru.vyarus.java.generics.resolver.context.GenericsContext;
+import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+import ru.vyarus.java.generics.resolver.context.MethodGenericsContext;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolved members of all classes in hierarchy: methods, fields and constructors with all types resolved in context
+ * of hierarchy root class. Useful for frameworks introspecting all bean members: instead of resolving each
+ * member with context ({@code context.method(m).resolveParameters()}) on each access, all types are resolved
+ * only once.
+ * <p>
+ * Table is created once per {@link GenericsInfo} (see {@link GenericsInfo#getMembers()}) and so cached together
+ * with descriptor. Members are resolved lazily per hierarchy class (on first access to class members), so single
+ * member lookup does not resolve entire hierarchy. Resolution results are the same as with
+ * {@link MethodGenericsContext}, {@link ConstructorGenericsContext} and
+ * {@link GenericsContext#resolveFieldType(Field)}.
+ * <p>
+ * Only declared members of hierarchy classes are included (ignored classes are not a part of hierarchy).
+ * Table is immutable and thread safe.
+ *
+ * @author Vyacheslav Rusakov
+ * @see GenericsContext#members()
+ * @since 16.10.2026
+ */
+public final class MembersTable {
+
+    private final GenericsInfo genericsInfo;
+    // hierarchy classes in hierarchy order (root class first)
+    private final List<Class<?>> types;
+    private final ConcurrentMap<Class<?>, TypeMembers> members = new ConcurrentHashMap<Class<?>, TypeMembers>();
+
+    public MembersTable(final GenericsInfo genericsInfo) {
+        this.genericsInfo = genericsInfo;
+        final Set<Class<?>> res = new LinkedHashSet<Class<?>>();
+        collectTypes(genericsInfo.getRootClass(), genericsInfo.getComposingTypes(), res);
+        this.types = Collections.unmodifiableList(new ArrayList<Class<?>>(res));
+    }
+
+    /**
+     * @return hierarchy classes (root class first)
+     */
+    public List<Class<?>> getTypes() {
+        return types;
+    }
+
+    /**
+     * Resolves members of all hierarchy classes.
+     *
+     * @return methods of all hierarchy classes
+     */
+    public List<ResolvedMethod> getMethods() {
+        final List<ResolvedMethod> res = new ArrayList<ResolvedMethod>();
+        for (Class<?> type : types) {
+            res.addAll(members(type).methods);
+        }
+        return res;
+    }
+
+    /**
+     * @param type hierarchy class
+     * @return methods declared in class (unmodifiable)
+     * @throws IllegalArgumentException if class is not present in hierarchy
+     */
+    public List<ResolvedMethod> getMethods(final Class<?> type) {
+        return members(type).methods;
+    }
+
+    /**
+     * @param method method
+     * @return resolved method
+     * @throws IllegalArgumentException if method declaring class is not present in hierarchy
+     */
+    public ResolvedMethod getMethod(final Method method) {
+        return members(method.getDeclaringClass()).methodsIndex.get(method);
+    }
+
+    /**
+     * Resolves members of all hierarchy classes.
+     *
+     * @return fields of all hierarchy classes
+     */
+    public List<ResolvedField> getFields() {
+        final List<ResolvedField> res = new ArrayList<ResolvedField>();
+        for (Class<?> type : types) {
+            res.addAll(members(type).fields);
+        }
+        return res;
+    }
+
+    /**
+     * @param type hierarchy class
+     * @return fields declared in class (unmodifiable)
+     * @throws IllegalArgumentException if class is not present in hierarchy
+     */
+    public List<ResolvedField> getFields(final Class<?> type) {
+        return members(type).fields;
+    }
+
+    /**
+     * @param field field
+     * @return resolved field
+     * @throws IllegalArgumentException if field declaring class is not present in hierarchy
+     */
+    public ResolvedField getField(final Field field) {
+        return members(field.getDeclaringClass()).fieldsIndex.get(field);
+    }
+
+    /**
+     * Resolves members of all hierarchy classes.
+     *
+     * @return constructors of all hierarchy classes
+     */
+    public List<ResolvedConstructor> getConstructors() {
+        final List<ResolvedConstructor> res = new ArrayList<ResolvedConstructor>();
+        for (Class<?> type : types) {
+            res.addAll(members(type).constructors);
+        }
+        return res;
+    }
+
+    /**
+     * @param type hierarchy class
+     * @return constructors declared in class (unmodifiable)
+     * @throws IllegalArgumentException if class is not present in hierarchy
+     */
+    public List<ResolvedConstructor> getConstructors(final Class<?> type) {
+        return members(type).constructors;
+    }
+
+    /**
+     * @param constructor constructor
+     * @return resolved constructor
+     * @throws IllegalArgumentException if constructor declaring class is not present in hierarchy
+     */
+    public ResolvedConstructor getConstructor(final Constructor constructor) {
+        return members(constructor.getDeclaringClass()).constructorsIndex.get(constructor);
+    }
+
+    @Override
+    public String toString() {
+        return "MembersTable[" + genericsInfo.getRootClass().getName() + "]";
+    }
+
+    /**
+     * @param types types
+     * @return unmodifiable list
+     */
+    static List<Type> immutable(final Type... types) {
+        return types.length == 0 ? Collections.<Type>emptyList() : Collections.unmodifiableList(Arrays.asList(types));
+    }
+
+    private TypeMembers members(final Class<?> type) {
+        TypeMembers res = members.get(type);
+        if (res == null) {
+            // fails for type not in hierarchy
+            genericsInfo.getTypeGenerics(type);
+            // concurrent resolution produces equal results
+            res = new TypeMembers(genericsInfo, type);
+            final TypeMembers prev = members.putIfAbsent(type, res);
+            if (prev != null) {
+                res = prev;
+            }
+        }
+        return res;
+    }
+
+    private static void collectTypes(final Class<?> type, final Set<Class<?>> known, final Set<Class<?>> res) {
+        if (type == null || !known.contains(type) || !res.add(type)) {
+            return;
+        }
+        collectTypes(type.getSuperclass(), known, res);
+        for (Class<?> iface : type.getInterfaces()) {
+            collectTypes(iface, known, res);
+        }
+    }
+
+    /**
+     * Resolved members of one class.
+     */
+    private static final class TypeMembers {
+        private final List<ResolvedMethod> methods;
+        private final Map<Method, ResolvedMethod> methodsIndex;
+        private final List<ResolvedField> fields;
+        private final Map<Field, ResolvedField> fieldsIndex;
+        private final List<ResolvedConstructor> constructors;
+        private final Map<Constructor, ResolvedConstructor> constructorsIndex;
+
+        TypeMembers(final GenericsInfo genericsInfo, final Class<?> type) {
+            final Method[] declaredMethods = type.getDeclaredMethods();
+            final List<ResolvedMethod> methods = new ArrayList<ResolvedMethod>(declaredMethods.length);
+            this.methodsIndex = new HashMap<Method, ResolvedMethod>(declaredMethods.length * 4 / 3 + 1);
+            for (Method method : declaredMethods) {
+                final ResolvedMethod resolved = resolve(new MethodGenericsContext(genericsInfo, method, null));
+                methods.add(resolved);
+                methodsIndex.put(method, resolved);
+            }
+            this.methods = Collections.unmodifiableList(methods);
+
+            final GenericsContext context = new GenericsContext(genericsInfo, type);
+            final Field[] declaredFields = type.getDeclaredFields();
+            final List<ResolvedField> fields = new ArrayList<ResolvedField>(declaredFields.length);
+            this.fieldsIndex = new HashMap<Field, ResolvedField>(declaredFields.length * 4 / 3 + 1);
+            for (Field field : declaredFields) {
+                final ResolvedField resolved = new ResolvedField(field, context.resolveFieldType(field));
+                fields.add(resolved);
+                fieldsIndex.put(field, resolved);
+            }
+            this.fields = Collections.unmodifiableList(fields);
+
+            final Constructor[] declaredConstructors = type.getDeclaredConstructors();
+            final List<ResolvedConstructor> constructors =
+                    new ArrayList<ResolvedConstructor>(declaredConstructors.length);
+            this.constructorsIndex =
+                    new HashMap<Constructor, ResolvedConstructor>(declaredConstructors.length * 4 / 3 + 1);
+            for (Constructor constructor : declaredConstructors) {
+                final ResolvedConstructor resolved =
+                        resolve(new ConstructorGenericsContext(genericsInfo, constructor, null));
+                constructors.add(resolved);
+                constructorsIndex.put(constructor, resolved);
+            }
+            this.constructors = Collections.unmodifiableList(constructors);
+        }
+
+        private static ResolvedMethod resolve(final MethodGenericsContext context) {
+            final Method method = context.currentMethod();
+            return new ResolvedMethod(method,
+                    context.resolveReturnType(),
+                    context.resolveParametersTypes().toArray(new Type[0]),
+                    resolveTypes(context, method.getGenericExceptionTypes()),
+                    ImmutableGenericsMap.of(context.methodGenericsMap()));
+        }
+
+        private static ResolvedConstructor resolve(final ConstructorGenericsContext context) {
+            final Constructor constructor = context.currentConstructor();
+            return new ResolvedConstructor(constructor,
+                    context.resolveParametersTypes().toArray(new Type[0]),
+                    resolveTypes(context, constructor.getGenericExceptionTypes()),
+                    ImmutableGenericsMap.of(context.constructorGenericsMap()));
+        }
+
+        private static Type[] resolveTypes(final GenericsContext context, final Type... types) {
+            final Type[] res = new Type[types.length];
+            for (int i = 0; i < types.length; i++) {
+                res[i] = context.resolveType(types[i]);
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.vyarus.java.generics.resolver.context.member;
+
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Constructor with resolved parameters and exceptions types (in context of hierarchy root class). Constructor
+ * generics are resolved as upper bounds (like in
+ * {@link ru.vyarus.java.generics.resolver.context.ConstructorGenericsContext}). Immutable.
+ *
+ * @author Vyacheslav Rusakov
+ * @see MembersTable
+ * @since 16.10.2026
+ */
+public final class ResolvedConstructor {
+
+    private final Constructor constructor;
+    private final List<Type> parameterTypes;
+    private final List<Class<?>> parameterClasses;
+    private final List<Type> exceptionTypes;
+    private final Map<String, Type> constructorGenerics;
+
+    ResolvedConstructor(final Constructor constructor,
+                        final Type[] parameterTypes,
+                        final Type[] exceptionTypes,
+                        final Map<String, Type> constructorGenerics) {
+        this.constructor = constructor;
+        this.parameterTypes = MembersTable.immutable(parameterTypes);
+        this.parameterClasses = Collections.unmodifiableList(
+                GenericsUtils.resolveClasses(parameterTypes, IgnoreGenericsMap.getInstance()));
+        this.exceptionTypes = MembersTable.immutable(exceptionTypes);
+        this.constructorGenerics = constructorGenerics;
+    }
+
+    /**
+     * @return constructor
+     */
+    public Constructor getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * @return constructor declaring class
+     */
+    public Class<?> getDeclaringClass() {
+        return constructor.getDeclaringClass();
+    }
+
+    /**
+     * @return parameter types with resolved generics (unmodifiable)
+     * @see ru.vyarus.java.generics.resolver.context.ConstructorGenericsContext#resolveParametersTypes()
+     */
+    public List<Type> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * @return parameter classes (unmodifiable, may contain primitives)
+     * @see ru.vyarus.java.generics.resolver.context.ConstructorGenericsContext#resolveParameters()
+     */
+    public List<Class<?>> getParameterClasses() {
+        return parameterClasses;
+    }
+
+    /**
+     * @return declared exception types with resolved generics (unmodifiable)
+     */
+    public List<Type> getExceptionTypes() {
+        return exceptionTypes;
+    }
+
+    /**
+     * @return constructor generics (unmodifiable)
+     * @see ru.vyarus.java.generics.resolver.context.ConstructorGenericsContext#constructorGenericsMap()
+     */
+    public Map<String, Type> getConstructorGenerics() {
+        return constructorGenerics;
+    }
+
+    @Override
+    public String toString() {
+        return TypeToStringUtils.toStringType(constructor.getDeclaringClass()) + "("
+                + TypeToStringUtils.toStringTypes(parameterTypes.toArray(new Type[0]),
+                IgnoreGenericsMap.getInstance()) + ")";
+    }
+}
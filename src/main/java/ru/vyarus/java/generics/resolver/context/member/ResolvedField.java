@@ -0,0 +1,62 @@
+package ru.vyarus.java.generics.resolver.context.member;
+
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+/**
+ * Field with resolved type (in context of hierarchy root class). Immutable.
+ *
+ * @author Vyacheslav Rusakov
+ * @see MembersTable
+ * @since 16.10.2026
+ */
+public final class ResolvedField {
+
+    private final Field field;
+    private final Type type;
+    private final Class<?> typeClass;
+
+    ResolvedField(final Field field, final Type type) {
+        this.field = field;
+        this.type = type;
+        this.typeClass = GenericsUtils.resolveClassIgnoringVariables(type);
+    }
+
+    /**
+     * @return field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return field declaring class
+     */
+    public Class<?> getDeclaringClass() {
+        return field.getDeclaringClass();
+    }
+
+    /**
+     * @return field type with resolved generics
+     * @see ru.vyarus.java.generics.resolver.context.GenericsContext#resolveFieldType(Field)
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return field class
+     * @see ru.vyarus.java.generics.resolver.context.GenericsContext#resolveFieldClass(Field)
+     */
+    public Class<?> getTypeClass() {
+        return typeClass;
+    }
+
+    @Override
+    public String toString() {
+        return TypeToStringUtils.toStringType(type) + " " + field.getName();
+    }
+}
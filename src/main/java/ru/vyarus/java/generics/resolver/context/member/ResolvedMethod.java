@@ -0,0 +1,114 @@
+package ru.vyarus.java.generics.resolver.context.member;
+
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Method with resolved return, parameters and exceptions types (in context of hierarchy root class). Method
+ * generics are resolved as upper bounds (like in
+ * {@link ru.vyarus.java.generics.resolver.context.MethodGenericsContext}). Immutable.
+ *
+ * @author Vyacheslav Rusakov
+ * @see MembersTable
+ * @since 16.10.2026
+ */
+public final class ResolvedMethod {
+
+    private final Method method;
+    private final Type returnType;
+    private final Class<?> returnClass;
+    private final List<Type> parameterTypes;
+    private final List<Class<?>> parameterClasses;
+    private final List<Type> exceptionTypes;
+    private final Map<String, Type> methodGenerics;
+
+    ResolvedMethod(final Method method,
+                   final Type returnType,
+                   final Type[] parameterTypes,
+                   final Type[] exceptionTypes,
+                   final Map<String, Type> methodGenerics) {
+        this.method = method;
+        this.returnType = returnType;
+        this.returnClass = GenericsUtils.resolveClassIgnoringVariables(returnType);
+        this.parameterTypes = MembersTable.immutable(parameterTypes);
+        this.parameterClasses = Collections.unmodifiableList(
+                GenericsUtils.resolveClasses(parameterTypes, IgnoreGenericsMap.getInstance()));
+        this.exceptionTypes = MembersTable.immutable(exceptionTypes);
+        this.methodGenerics = methodGenerics;
+    }
+
+    /**
+     * @return method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return method declaring class
+     */
+    public Class<?> getDeclaringClass() {
+        return method.getDeclaringClass();
+    }
+
+    /**
+     * @return return type with resolved generics
+     * @see ru.vyarus.java.generics.resolver.context.MethodGenericsContext#resolveReturnType()
+     */
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * @return return class (may be primitive)
+     * @see ru.vyarus.java.generics.resolver.context.MethodGenericsContext#resolveReturnClass()
+     */
+    public Class<?> getReturnClass() {
+        return returnClass;
+    }
+
+    /**
+     * @return parameter types with resolved generics (unmodifiable)
+     * @see ru.vyarus.java.generics.resolver.context.MethodGenericsContext#resolveParametersTypes()
+     */
+    public List<Type> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * @return parameter classes (unmodifiable, may contain primitives)
+     * @see ru.vyarus.java.generics.resolver.context.MethodGenericsContext#resolveParameters()
+     */
+    public List<Class<?>> getParameterClasses() {
+        return parameterClasses;
+    }
+
+    /**
+     * @return declared exception types with resolved generics (unmodifiable)
+     */
+    public List<Type> getExceptionTypes() {
+        return exceptionTypes;
+    }
+
+    /**
+     * @return method generics (unmodifiable)
+     * @see ru.vyarus.java.generics.resolver.context.MethodGenericsContext#methodGenericsMap()
+     */
+    public Map<String, Type> getMethodGenerics() {
+        return methodGenerics;
+    }
+
+    @Override
+    public String toString() {
+        return TypeToStringUtils.toStringType(returnType) + " " + method.getName() + "("
+                + TypeToStringUtils.toStringTypes(parameterTypes.toArray(new Type[0]),
+                IgnoreGenericsMap.getInstance()) + ")";
+    }
+}
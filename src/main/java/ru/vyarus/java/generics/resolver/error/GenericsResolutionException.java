@@ -17,7 +17,7 @@ public class GenericsResolutionException extends GenericsException {
 
     private final Class<?> type;
     private final LinkedHashMap<String, Type> rootGenerics;
-    private final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics;
+    private final Map<Class<?>, ? extends Map<String, Type>> knownGenerics;
 
     /**
      * @param type          root analyzed type
@@ -27,7 +27,7 @@ public class GenericsResolutionException extends GenericsException {
      */
     public GenericsResolutionException(final Class<?> type,
                                        final LinkedHashMap<String, Type> rootGenerics,
-                                       final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
+                                       final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
                                        final Exception ex) {
         super(String.format("Failed to analyze hierarchy for %s%s",
                 TypeToStringUtils.toStringWithGenerics(type, rootGenerics),
@@ -54,18 +54,18 @@ public class GenericsResolutionException extends GenericsException {
     /**
      * @return known generics of middle types and possible owner types or empty map if no generics are known
      */
-    public Map<Class<?>, LinkedHashMap<String, Type>> getKnownGenerics() {
+    public Map<Class<?>, ? extends Map<String, Type>> getKnownGenerics() {
         return knownGenerics;
     }
 
     private static String formatKnownGenerics(final Class<?> type,
-                                              final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics) {
+                                              final Map<Class<?>, ? extends Map<String, Type>> knownGenerics) {
         if (knownGenerics.isEmpty()) {
             return "";
         }
         final StringBuilder known = new StringBuilder(50);
         boolean first = true;
-        for (Map.Entry<Class<?>, LinkedHashMap<String, Type>> entry : knownGenerics.entrySet()) {
+        for (Map.Entry<Class<?>, ? extends Map<String, Type>> entry : knownGenerics.entrySet()) {
             // filter out possible owner types generics
             if (entry.getKey().isAssignableFrom(type)) {
                 known.append(first ? "" : ", ")
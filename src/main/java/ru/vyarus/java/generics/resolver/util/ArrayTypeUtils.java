@@ -1,6 +1,7 @@
 package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.util.type.TypeInterner;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Type;
@@ -111,6 +112,6 @@ public final class ArrayTypeUtils {
      */
     public static Type toArrayType(final Type type) {
         return type instanceof Class ? toArrayClass((Class<?>) type)
-                : new GenericArrayTypeImpl(type);
+                : TypeInterner.intern(new GenericArrayTypeImpl(type));
     }
 }
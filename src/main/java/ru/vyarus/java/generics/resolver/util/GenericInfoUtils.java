@@ -2,7 +2,11 @@ package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+import ru.vyarus.java.generics.resolver.error.GenericsResolutionException;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics;
 
 import java.lang.reflect.Type;
 import java.util.*;
@@ -17,6 +21,8 @@ import java.util.*;
  * restored by tracking definition from known middle) - very rare case when object instance being analyzed and so
  * actual instance data could be used to help analysis</li>
  * </ul>
+ * When lazy resolution is enabled ({@link GenericsInfoFactory#LAZY_PROPERTY}), all created descriptors resolve
+ * composing types generics on first access.
  *
  * @author Vyacheslav Rusakov
  * @since 15.12.2014
@@ -114,8 +120,7 @@ public final class GenericInfoUtils {
 
         // known middle type
         LinkedHashMap<String, Type> typeGenerics = GenericsResolutionUtils.resolveGenerics(actual, rootGenerics);
-        final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics =
-                new HashMap<Class<?>, LinkedHashMap<String, Type>>();
+        final Map<Class<?>, Map<String, Type>> knownGenerics = new HashMap<Class<?>, Map<String, Type>>();
         // field could be declared as (Outer<String>.Inner field) and already contain actual outer generics
         knownGenerics.put(middleType, GenericsResolutionUtils
                 .fillOuterGenerics(actual, typeGenerics, context.getGenericsInfo().getTypesMap()));
@@ -145,16 +150,74 @@ public final class GenericInfoUtils {
     private static GenericsInfo create(
             final Class type,
             final LinkedHashMap<String, Type> rootGenerics,
-            final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
+            final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
             final Class<?>... ignoreClasses) {
+        final long start = ResolverMetrics.start();
+        final GenericsInfo res = resolve(type, rootGenerics, knownGenerics, ignoreClasses);
+        ResolverMetrics.hierarchyResolved(res, knownGenerics != null, start);
+        return res;
+    }
 
-        final Map<Class<?>, LinkedHashMap<String, Type>> generics = GenericsResolutionUtils.resolve(type,
-                rootGenerics,
-                knownGenerics == null ? Collections.<Class<?>, LinkedHashMap<String, Type>>emptyMap() : knownGenerics,
-                Arrays.asList(ignoreClasses));
+    private static GenericsInfo resolve(
+            final Class type,
+            final LinkedHashMap<String, Type> rootGenerics,
+            final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
+            final Class<?>... ignoreClasses) {
+        final Map<Class<?>, ? extends Map<String, Type>> known = knownGenerics == null
+                ? Collections.<Class<?>, Map<String, Type>>emptyMap() : knownGenerics;
+        if (GenericsInfoFactory.isLazyResolutionEnabled()) {
+            return new GenericsInfo(GenericsResolutionUtils.resolveLazy(type, rootGenerics, known,
+                    Arrays.asList(ignoreClasses)), ignoreClasses);
+        }
+        // inlying contexts (known generics not null) could be computed from cached hierarchy template
+        Map<Class<?>, ImmutableGenericsMap> generics = knownGenerics != null && ignoreClasses.length == 0
+                && GenericsInfoFactory.isCacheEnabled() ? fromTemplate(type, rootGenerics, knownGenerics) : null;
+        if (generics == null) {
+            generics = GenericsResolutionUtils.resolve(type, rootGenerics, known, Arrays.asList(ignoreClasses));
+        }
         return new GenericsInfo(type, generics, ignoreClasses);
     }
 
+    /**
+     * Hierarchy template ({@link HierarchyTemplates}) contains class hierarchy with preserved root generics and so
+     * hierarchy for any root parametrization could be computed with a single substitution. But known generics
+     * could change resolution: known middle type generics are used as is and known outer types generics are used
+     * for inner classes in hierarchy. Template result is used only when it is the same as full resolution:
+     * known middle types generics are equal to substituted and there are no inner classes in hierarchy (to
+     * use known outer generics). Template resolution errors are ignored (full resolution will produce correct
+     * error).
+     *
+     * @param type          root type
+     * @param rootGenerics  root generics
+     * @param knownGenerics known middle or outer types generics
+     * @return resolved hierarchy or null if template could not be used
+     */
+    private static Map<Class<?>, ImmutableGenericsMap> fromTemplate(
+            final Class<?> type,
+            final LinkedHashMap<String, Type> rootGenerics,
+            final Map<Class<?>, ? extends Map<String, Type>> knownGenerics) {
+        Map<Class<?>, ImmutableGenericsMap> res;
+        try {
+            res = HierarchyTemplates.resolveHierarchy(type, rootGenerics);
+        } catch (GenericsResolutionException ex) {
+            res = null;
+        }
+        boolean outerTypes = false;
+        if (res != null) {
+            for (Map.Entry<Class<?>, ? extends Map<String, Type>> entry : knownGenerics.entrySet()) {
+                final ImmutableGenericsMap generics = res.get(entry.getKey());
+                if (generics == null) {
+                    outerTypes = true;
+                } else if (!generics.equals(entry.getValue())) {
+                    // known generics are different (e.g. not completely tracked root generics)
+                    res = null;
+                    break;
+                }
+            }
+        }
+        return res != null && outerTypes && HierarchyTemplates.hasInnerTypes(type) ? null : res;
+    }
+
     /**
      * When building inlying context, target type may be inner class, and if root context contains owner type
      * then we can assume that it's known more specific generics may be used. This is not correct in general,
@@ -167,13 +230,13 @@ public final class GenericInfoUtils {
      * @param info root context generics info (possibly outer)
      * @return possible owner classes, not present in target type hierarchy
      */
-    private static Map<Class<?>, LinkedHashMap<String, Type>> usePossiblyOwnerGenerics(
+    private static Map<Class<?>, Map<String, Type>> usePossiblyOwnerGenerics(
             final Class<?> type, final GenericsInfo info) {
-        final Map<Class<?>, LinkedHashMap<String, Type>> res = new HashMap<Class<?>, LinkedHashMap<String, Type>>();
+        final Map<Class<?>, Map<String, Type>> res = new HashMap<Class<?>, Map<String, Type>>();
         // use only types, not included in target hierarchy
         for (Class<?> root : info.getComposingTypes()) {
             if (!root.isAssignableFrom(type)) {
-                res.put(root, (LinkedHashMap<String, Type>) info.getTypeGenerics(root));
+                res.put(root, info.getTypeGenerics(root));
             }
         }
         return res;
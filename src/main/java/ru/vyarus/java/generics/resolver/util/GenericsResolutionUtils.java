@@ -1,5 +1,6 @@
 package ru.vyarus.java.generics.resolver.util;
 
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 import ru.vyarus.java.generics.resolver.error.GenericsResolutionException;
 import ru.vyarus.java.generics.resolver.error.IncompatibleTypesException;
@@ -7,6 +8,8 @@ import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
 import ru.vyarus.java.generics.resolver.util.type.TypeLiteral;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolutionProfiler;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -24,7 +27,7 @@ import java.util.*;
 @SuppressWarnings({"PMD.LooseCoupling", "PMD.GodClass", "PMD.AvoidLiteralsInIfCondition"})
 public final class GenericsResolutionUtils {
 
-    private static final String GROOVY_OBJECT = "GroovyObject";
+    static final String GROOVY_OBJECT = "GroovyObject";
 
     private GenericsResolutionUtils() {
     }
@@ -39,8 +42,8 @@ public final class GenericsResolutionUtils {
      * @see #resolve(Class, LinkedHashMap, Class[]) if you have known root generics
      * @see #resolve(Class, LinkedHashMap, Map, List) if you have known generics for middle types
      */
-    public static Map<Class<?>, LinkedHashMap<String, Type>> resolve(final Class<?> type,
-                                                                     final Class<?>... ignoreClasses) {
+    public static Map<Class<?>, ImmutableGenericsMap> resolve(final Class<?> type,
+                                                              final Class<?>... ignoreClasses) {
         return resolve(type, resolveRawGenerics(type), ignoreClasses);
     }
 
@@ -66,8 +69,8 @@ public final class GenericsResolutionUtils {
      * @see #resolve(Class, LinkedHashMap, Class[]) if you have known root generics
      * @see #resolve(Class, LinkedHashMap, Map, List) if you have known generics for middle types
      */
-    public static Map<Class<?>, LinkedHashMap<String, Type>> resolve(final Type type,
-                                                                     final Class<?>... ignoreClasses) {
+    public static Map<Class<?>, ImmutableGenericsMap> resolve(final Type type,
+                                                              final Class<?>... ignoreClasses) {
         return resolve(GenericsUtils.resolveClassIgnoringVariables(type),
                 resolveGenerics(type, IgnoreGenericsMap.getInstance()), ignoreClasses);
     }
@@ -81,13 +84,13 @@ public final class GenericsResolutionUtils {
      * @param ignoreClasses classes to ignore (if required
      * @return resolved generics for all types in class hierarchy
      */
-    public static Map<Class<?>, LinkedHashMap<String, Type>> resolve(
+    public static Map<Class<?>, ImmutableGenericsMap> resolve(
             final Class<?> type,
             final LinkedHashMap<String, Type> rootGenerics,
             final Class<?>... ignoreClasses) {
         return resolve(type,
                 rootGenerics,
-                Collections.<Class<?>, LinkedHashMap<String, Type>>emptyMap(),
+                Collections.<Class<?>, Map<String, Type>>emptyMap(),
                 Arrays.asList(ignoreClasses));
     }
 
@@ -104,22 +107,50 @@ public final class GenericsResolutionUtils {
      *                      could contain possible outer generics (types for sure not included in resolving type
      *                      hierarchy); must not be null, but could be empty map
      * @param ignoreClasses classes to ignore during analysis
-     * @return resolved generics for all types in class hierarchy
+     * @return resolved generics for all types in class hierarchy (immutable generics maps)
      */
-    public static Map<Class<?>, LinkedHashMap<String, Type>> resolve(
+    public static Map<Class<?>, ImmutableGenericsMap> resolve(
             final Class<?> type,
             final LinkedHashMap<String, Type> rootGenerics,
-            final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
+            final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
             final List<Class<?>> ignoreClasses) {
-        final Map<Class<?>, LinkedHashMap<String, Type>> generics =
-                new HashMap<Class<?>, LinkedHashMap<String, Type>>();
+        final Map<Class<?>, Map<String, Type>> generics = new HashMap<Class<?>, Map<String, Type>>();
         generics.put(type, rootGenerics);
+        final long start = ResolutionProfiler.start();
         try {
             analyzeType(generics, type, knownGenerics, ignoreClasses);
         } catch (Exception ex) {
             throw new GenericsResolutionException(type, rootGenerics, knownGenerics, ex);
         }
-        return generics;
+        ResolutionProfiler.analyzed(type, generics.size(), start);
+        // compact resolved maps (result is often stored for a long time)
+        final Map<Class<?>, ImmutableGenericsMap> res = new HashMap<Class<?>, ImmutableGenericsMap>(
+                generics.size() * 4 / 3 + 1);
+        for (Map.Entry<Class<?>, Map<String, Type>> entry : generics.entrySet()) {
+            res.put(entry.getKey(), ImmutableGenericsMap.of(entry.getValue()));
+        }
+        return res;
+    }
+
+    /**
+     * Lazy version of {@link #resolve(Class, LinkedHashMap, Map, List)}: only hierarchy structure is analyzed and
+     * composing types generics are resolved on first access. Use it when only a few types of large hierarchy are
+     * required.
+     *
+     * @param type          class to analyze
+     * @param rootGenerics  resolved root type generics (including owner type generics); must not be null!
+     * @param knownGenerics type generics known before analysis (some middle class generics are known) and
+     *                      could contain possible outer generics (types for sure not included in resolving type
+     *                      hierarchy); must not be null, but could be empty map
+     * @param ignoreClasses classes to ignore during analysis
+     * @return lazily resolved generics for all types in class hierarchy
+     */
+    public static LazyHierarchy resolveLazy(
+            final Class<?> type,
+            final LinkedHashMap<String, Type> rootGenerics,
+            final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
+            final List<Class<?>> ignoreClasses) {
+        return new LazyHierarchy(type, rootGenerics, knownGenerics, ignoreClasses);
     }
 
     /**
@@ -148,7 +179,7 @@ public final class GenericsResolutionUtils {
         final LinkedHashMap<String, Type> res;
         if (actual instanceof ParameterizedType) {
             final ParameterizedType actualType = (ParameterizedType) actual;
-            final Type[] genericTypes = actualType.getActualTypeArguments();
+            final Type[] genericTypes = TypeContainers.arguments(actualType);
             final Class target = (Class) actualType.getRawType();
             final TypeVariable[] genericNames = target.getTypeParameters();
 
@@ -198,6 +229,7 @@ public final class GenericsResolutionUtils {
         if (declaredGenerics.length == 0) {
             return EmptyGenericsMap.getInstance();
         }
+        final long start = ResolutionProfiler.start();
         final LinkedHashMap<String, Type> res = new LinkedHashMap<String, Type>();
         final List<TypeVariable> failed = new ArrayList<TypeVariable>();
         // variables in declaration could be dependant and in any direction (e.g. <A extends List<B>, B>)
@@ -224,6 +256,7 @@ public final class GenericsResolutionUtils {
                 res.put(variable.getName(), resolveRawGeneric(variable, res));
             }
         }
+        ResolutionProfiler.rawGenerics(type, start);
         return res;
     }
 
@@ -248,11 +281,11 @@ public final class GenericsResolutionUtils {
             for (Type bound : variable.getBounds()) {
                 // replace possible named generics with actual type (for cases like K extends T)
                 final Type actual = GenericsUtils.resolveTypeVariables(bound, generics);
-                if (actual instanceof WildcardType && ((WildcardType) actual).getUpperBounds().length > 0) {
+                if (actual instanceof WildcardType && TypeContainers.upperBounds((WildcardType) actual).length > 0) {
                     // case: T extends A & B, K extends T & C --> K must be aggregated as ? extends A & B & C
                     // this case is impossible in java, but allowed in groovy
                     types.addAll(Arrays.asList(GenericsUtils
-                            .resolveTypeVariables(((WildcardType) actual).getUpperBounds(), generics)));
+                            .resolveTypeVariables(TypeContainers.upperBounds((WildcardType) actual), generics)));
                 } else {
                     types.add(actual);
                 }
@@ -304,7 +337,7 @@ public final class GenericsResolutionUtils {
     public static LinkedHashMap<String, Type> fillOuterGenerics(
             final Type type,
             final LinkedHashMap<String, Type> generics,
-            final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics) {
+            final Map<Class<?>, ? extends Map<String, Type>> knownGenerics) {
         final LinkedHashMap<String, Type> res;
         final Type outer = TypeUtils.getOuter(type);
         if (outer == null) {
@@ -349,9 +382,9 @@ public final class GenericsResolutionUtils {
      * @param type          class to analyze
      * @param ignoreClasses classes to ignore during analysis
      */
-    private static void analyzeType(final Map<Class<?>, LinkedHashMap<String, Type>> generics,
+    private static void analyzeType(final Map<Class<?>, Map<String, Type>> generics,
                                     final Class<?> type,
-                                    final Map<Class<?>, LinkedHashMap<String, Type>> knownGenerics,
+                                    final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
                                     final List<Class<?>> ignoreClasses) {
         Class<?> supertype = type;
         while (true) {
@@ -362,9 +395,9 @@ public final class GenericsResolutionUtils {
             if (next == null || Object.class == next || ignoreClasses.contains(next)) {
                 break;
             }
-            // possibly provided generics (externally)
+            // possibly provided generics (externally); copied because outer generics could be added
             final LinkedHashMap<String, Type> nextGenerics = knownGenerics.containsKey(next)
-                    ? knownGenerics.get(next)
+                    ? new LinkedHashMap<String, Type>(knownGenerics.get(next))
                     : analyzeParent(supertype, generics.get(supertype));
             generics.put(next,
                     fillOuterGenerics(next, nextGenerics, knownGenerics));
@@ -382,8 +415,8 @@ public final class GenericsResolutionUtils {
      * @param hostType      class implementing interface (where generics actually defined)
      * @param ignoreClasses classes to ignore during analysis
      */
-    private static void analyzeInterface(final Map<Class<?>, LinkedHashMap<String, Type>> types,
-                                         final Map<Class<?>, LinkedHashMap<String, Type>> knownTypes,
+    private static void analyzeInterface(final Map<Class<?>, Map<String, Type>> types,
+                                         final Map<Class<?>, ? extends Map<String, Type>> knownTypes,
                                          final Type iface,
                                          final Class<?> hostType,
                                          final List<Class<?>> ignoreClasses) {
@@ -418,9 +451,9 @@ public final class GenericsResolutionUtils {
         }
     }
 
-    private static void merge(final Class<?> type,
+    static void merge(final Class<?> type,
                               final LinkedHashMap<String, Type> main,
-                              final LinkedHashMap<String, Type> additional) {
+                              final Map<String, Type> additional) {
         for (Map.Entry<String, Type> entry : additional.entrySet()) {
             final String generic = entry.getKey();
             final Type value = entry.getValue();
@@ -448,7 +481,7 @@ public final class GenericsResolutionUtils {
      * @param generics known type generics
      * @return resolved parent class generics
      */
-    private static LinkedHashMap<String, Type> analyzeParent(final Class type,
+    static LinkedHashMap<String, Type> analyzeParent(final Class type,
                                                              final Map<String, Type> generics) {
         LinkedHashMap<String, Type> res = null;
         final Class parent = type.getSuperclass();
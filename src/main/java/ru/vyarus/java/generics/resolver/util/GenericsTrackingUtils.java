@@ -3,10 +3,12 @@ package ru.vyarus.java.generics.resolver.util;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 import ru.vyarus.java.generics.resolver.error.GenericsTrackingException;
 import ru.vyarus.java.generics.resolver.error.IncompatibleTypesException;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
@@ -72,7 +74,9 @@ public final class GenericsTrackingUtils {
     private static LinkedHashMap<String, Type> trackGenerics(final Class<?> type,
                                                              final Class<?> known,
                                                              final LinkedHashMap<String, Type> knownGenerics) {
-        final Map<Class<?>, LinkedHashMap<String, Type>> generics = TypeVariableUtils.trackRootVariables(type);
+        // cached template is exactly the same as root variables tracking (for not inner classes)
+        final Map<Class<?>, ImmutableGenericsMap> generics = TypeUtils.isInner(type)
+                ? TypeVariableUtils.trackRootVariables(type) : HierarchyTemplates.template(type);
 
         // trace back generics (what we can)
         final Map<String, Type> tracedRootGenerics = new HashMap<String, Type>();
@@ -169,7 +173,7 @@ public final class GenericsTrackingUtils {
             if (knownGeneric instanceof ParameterizedType) {
                 // matching parametrization arguments, for example:
                 // Root<A> extends Base<List<A>>, List<A> and known, for example, List<String>
-                final Type[] actualArguments = ((ParameterizedType) actualGeneric).getActualTypeArguments();
+                final Type[] actualArguments = TypeContainers.arguments((ParameterizedType) actualGeneric);
                 final Type[] knownArguments = alignParametrizationArguments(
                         exactActualType, knownGenericType,
                         (ParameterizedType) knownGeneric, knownGenerics);
@@ -206,7 +210,7 @@ public final class GenericsTrackingUtils {
 
         // if base types are equal we can match types in parametrization
         if (exactActualType.equals(knownGenericType)) {
-            knownArguments = knownGeneric.getActualTypeArguments();
+            knownArguments = TypeContainers.arguments(knownGeneric);
         } else {
             // known generic type is a subclass of resolved root type.. inception!
             // trying to track generics
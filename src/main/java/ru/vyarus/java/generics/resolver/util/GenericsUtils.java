@@ -2,12 +2,15 @@ package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.context.GenericDeclarationScope;
 import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
+import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
 import ru.vyarus.java.generics.resolver.util.type.TrackedTypeFactory;
+import ru.vyarus.java.generics.resolver.util.type.TypeInterner;
 
 import java.lang.reflect.*;
 import java.util.*;
@@ -90,7 +93,7 @@ public final class GenericsUtils {
             analyzingType = declaredGeneric((TypeVariable) type, generics);
         }
         if ((analyzingType instanceof ParameterizedType)
-                && ((ParameterizedType) analyzingType).getActualTypeArguments().length > 0) {
+                && TypeContainers.arguments((ParameterizedType) analyzingType).length > 0) {
             res = ((ParameterizedType) analyzingType).getActualTypeArguments();
         } else if (type instanceof Class) {
             // if type is class return raw declaration
@@ -178,7 +181,7 @@ public final class GenericsUtils {
         } else if (type instanceof TypeVariable) {
             res = resolveClass(declaredGeneric((TypeVariable) type, generics), generics);
         } else if (type instanceof WildcardType) {
-            final Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+            final Type[] upperBounds = TypeContainers.upperBounds((WildcardType) type);
             res = resolveClass(upperBounds[0], generics);
         } else {
             res = ArrayTypeUtils.toArrayClass(
@@ -228,7 +231,7 @@ public final class GenericsUtils {
         final Class[] res;
         if (type instanceof WildcardType) {
             final List<Class> list = new ArrayList<Class>();
-            for (Type t : ((WildcardType) type).getUpperBounds()) {
+            for (Type t : TypeContainers.upperBounds((WildcardType) type)) {
                 final Class<?> bound = resolveClass(t, generics);
                 // possible case: T extends K & Serializable - if T unknown then it become
                 // T extends Object & Serializable
@@ -315,6 +318,9 @@ public final class GenericsUtils {
             resolvedGenericType = declaredGeneric((ExplicitTypeVariable) type, generics, countPreservedVariables);
         } else if (type instanceof Class) {
             resolvedGenericType = type;
+        } else if (TypeContainers.isResolved(type)) {
+            // library container without variables (flag cached in type): nothing to resolve or repackage
+            resolvedGenericType = TypeInterner.intern(type);
         } else if (type instanceof ParameterizedType) {
             // here parameterized type could shrink to class (if it has no arguments and owner class)
             resolvedGenericType = resolveParameterizedTypeVariables(
@@ -346,6 +352,31 @@ public final class GenericsUtils {
         return resolved;
     }
 
+    /**
+     * Copy-on-change version of {@link #resolveTypeVariables(Type[], Map, boolean)} for internal arrays: new array
+     * is created only when at least one type was changed.
+     *
+     * @param types                    types to resolve (array is not modified)
+     * @param generics                 known generics
+     * @param countPreservedVariables true to replace {@link ExplicitTypeVariable} too
+     * @return provided array if nothing changed or new array with resolved types
+     */
+    private static Type[] resolveTypeVariablesIfChanged(final Type[] types,
+                                                        final Map<String, Type> generics,
+                                                        final boolean countPreservedVariables) {
+        Type[] resolved = types;
+        for (int i = 0; i < types.length; i++) {
+            final Type type = resolveTypeVariables(types[i], generics, countPreservedVariables);
+            if (type != types[i]) {
+                if (resolved == types) {
+                    resolved = Arrays.copyOf(types, types.length);
+                }
+                resolved[i] = type;
+            }
+        }
+        return resolved;
+    }
+
     /**
      * It is important to keep possible outer class generics, because they may be used in type declarations.
      * NOTE: It may be not all generics of owner type, but only visible owner generics.
@@ -593,20 +624,20 @@ public final class GenericsUtils {
             if (parametrizedType.getOwnerType() != null) {
                 findVariables(parametrizedType.getOwnerType(), found);
             }
-            for (Type par : parametrizedType.getActualTypeArguments()) {
+            for (Type par : TypeContainers.arguments(parametrizedType)) {
                 findVariables(par, found);
             }
         } else if (type instanceof GenericArrayType) {
             findVariables(((GenericArrayType) type).getGenericComponentType(), found);
         } else if (type instanceof WildcardType) {
             final WildcardType wildcard = (WildcardType) type;
-            if (wildcard.getLowerBounds().length > 0) {
+            if (TypeContainers.lowerBounds(wildcard).length > 0) {
                 // ? super
-                findVariables(wildcard.getLowerBounds()[0], found);
+                findVariables(TypeContainers.lowerBounds(wildcard)[0], found);
             } else {
                 // ? extends
                 // in java only one bound could be defined, but here could actually be repackaged TypeVariable
-                for (Type par : wildcard.getUpperBounds()) {
+                for (Type par : TypeContainers.upperBounds(wildcard)) {
                     findVariables(par, found);
                 }
             }
@@ -654,8 +685,8 @@ public final class GenericsUtils {
                                                           final Map<String, Type> generics,
                                                           final boolean countPreservedVariables) {
 
-        final boolean emptyContainerForClass = type.getActualTypeArguments().length == 0
-                && type.getOwnerType() == null;
+        final Type[] arguments = TypeContainers.arguments(type);
+        final boolean emptyContainerForClass = arguments.length == 0 && type.getOwnerType() == null;
         final Type owner = type.getOwnerType() != null
                 ? resolveTypeVariables(type.getOwnerType(),
                     // some outer class generics could be hidden by inner class generics (same name)
@@ -663,9 +694,19 @@ public final class GenericsUtils {
                     // does not influence for sure inner type)
                     new IgnoreGenericsMap(extractOwnerGenerics((Class) type.getRawType(), generics)))
                 : null;
-        return emptyContainerForClass ? type.getRawType()
-                : new ParameterizedTypeImpl(type.getRawType(),
-                resolveTypeVariables(type.getActualTypeArguments(), generics, countPreservedVariables), owner);
+        final Type res;
+        if (emptyContainerForClass) {
+            res = type.getRawType();
+        } else {
+            final Type[] resolvedArguments =
+                    resolveTypeVariablesIfChanged(arguments, generics, countPreservedVariables);
+            // library container is used as is when nothing changed (e.g. contains only preserved variables)
+            final boolean unchanged = type.getClass() == ParameterizedTypeImpl.class
+                    && resolvedArguments == arguments && owner == type.getOwnerType();
+            res = TypeInterner.intern(unchanged ? type
+                    : new ParameterizedTypeImpl(type.getRawType(), resolvedArguments, owner));
+        }
+        return res;
     }
 
     /**
@@ -685,18 +726,25 @@ public final class GenericsUtils {
                                                      final Map<String, Type> generics,
                                                      final boolean countPreservedVariables) {
         final Type res;
-        if (type.getLowerBounds().length > 0) {
+        // library container is used as is when nothing changed (e.g. contains only preserved variables)
+        final boolean container = type.getClass() == WildcardTypeImpl.class;
+        final Type[] lowerBounds = TypeContainers.lowerBounds(type);
+        if (lowerBounds.length > 0) {
             // only one lower bound could be (? super A)
-            final Type lowerBound = resolveTypeVariables(
-                    type.getLowerBounds(), generics, countPreservedVariables)[0];
+            final Type lowerBound = resolveTypeVariables(lowerBounds[0], generics, countPreservedVariables);
+            final boolean unchanged = container && lowerBound == lowerBounds[0]
+                    && lowerBounds.length == 1 && isObjectUpperBound(type);
             // flatten <? super Object> to Object
-            res = lowerBound == Object.class
-                    ? Object.class : WildcardTypeImpl.lower(lowerBound);
+            res = lowerBound == Object.class ? Object.class
+                    : TypeInterner.intern(unchanged ? type : WildcardTypeImpl.lower(lowerBound));
         } else {
             // could be multiple upper bounds because of named generic bounds repackage (T extends A & B)
-            final Type[] upperBounds = resolveTypeVariables(type.getUpperBounds(), generics, countPreservedVariables);
+            final Type[] bounds = TypeContainers.upperBounds(type);
+            final Type[] upperBounds = resolveTypeVariablesIfChanged(bounds, generics, countPreservedVariables);
+            final boolean unchanged = container && upperBounds == bounds;
             // flatten <? extends Object> (<?>) to Object and <? extends Something> to Something
-            res = upperBounds.length == 1 ? upperBounds[0] : WildcardTypeImpl.upper(upperBounds);
+            res = upperBounds.length == 1 ? upperBounds[0]
+                    : TypeInterner.intern(unchanged ? type : WildcardTypeImpl.upper(upperBounds));
         }
         return res;
     }
@@ -715,6 +763,15 @@ public final class GenericsUtils {
                                                          final boolean countPreservedVariables) {
         final Type componentType = resolveTypeVariables(
                 type.getGenericComponentType(), generics, countPreservedVariables);
-        return ArrayTypeUtils.toArrayType(componentType);
+        // library container is used as is when nothing changed (e.g. contains only preserved variables)
+        // (array of class is always replaced with array class)
+        final boolean unchanged = type.getClass() == GenericArrayTypeImpl.class
+                && componentType == type.getGenericComponentType() && !(componentType instanceof Class);
+        return unchanged ? TypeInterner.intern(type) : ArrayTypeUtils.toArrayType(componentType);
+    }
+
+    private static boolean isObjectUpperBound(final WildcardType type) {
+        final Type[] upperBounds = TypeContainers.upperBounds(type);
+        return upperBounds.length == 1 && upperBounds[0] == Object.class;
     }
 }
@@ -0,0 +1,185 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
+import ru.vyarus.java.generics.resolver.util.cache.WeakClassCache;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cached class hierarchy templates. Template is a class hierarchy resolved with preserved root class variables
+ * (root generics, including possible outer class generics, are replaced with {@link ExplicitTypeVariable}, like in
+ * {@link TypeVariableUtils#trackRootVariables(Class)}). Generics of any hierarchy type for any root class
+ * parametrization could be computed from template with a single substitution (without hierarchy resolution).
+ * <p>
+ * Templates are cached by class (cache does not prevent class unloading). Templates cache is disabled together
+ * with descriptors cache (see {@link GenericsInfoFactory#CACHE_PROPERTY}) and cleared with
+ * {@link GenericsInfoFactory#clearCache()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class HierarchyTemplates {
+
+    private static final WeakClassCache<Template> CACHE = new WeakClassCache<Template>();
+
+    private HierarchyTemplates() {
+    }
+
+    /**
+     * @param type root class
+     * @return resolved class hierarchy with preserved root generics (as {@link ExplicitTypeVariable})
+     */
+    public static Map<Class<?>, ImmutableGenericsMap> template(final Class<?> type) {
+        return getTemplate(type).types;
+    }
+
+    /**
+     * Inner classes in hierarchy (except root) may use generics of outer classes. Such generics are resolved
+     * by upper bound in template, but actual hierarchy resolution could use known outer class generics (in
+     * inlying contexts), so template could not be used for such cases.
+     *
+     * @param type root class
+     * @return true if hierarchy contains inner classes (except root class)
+     */
+    public static boolean hasInnerTypes(final Class<?> type) {
+        return getTemplate(type).innerTypes;
+    }
+
+    /**
+     * Computes hierarchy type generics for root class parametrization. Result is the same as
+     * {@code GenericsResolutionUtils.resolve(type, rootGenerics).get(target)}, but without hierarchy resolution
+     * (for cached template).
+     *
+     * @param type         root class
+     * @param rootGenerics root class generics (including outer class generics, if root is inner class)
+     * @param target       class from root class hierarchy
+     * @return target class generics
+     * @throws IllegalArgumentException if target class is not present in root class hierarchy
+     */
+    public static LinkedHashMap<String, Type> resolve(final Class<?> type,
+                                                      final Map<String, Type> rootGenerics,
+                                                      final Class<?> target) {
+        if (target == type) {
+            // root generics are not changed by hierarchy resolution
+            return new LinkedHashMap<String, Type>(rootGenerics);
+        }
+        final ImmutableGenericsMap generics = template(type).get(target);
+        if (generics == null) {
+            throw new IllegalArgumentException(String.format("Type %s is not assignable from %s",
+                    target.getName(), type.getName()));
+        }
+        return substitute(generics, rootGenerics);
+    }
+
+    /**
+     * Computes generics of all hierarchy types for root class parametrization with a single substitution pass.
+     * Result is the same as {@code GenericsResolutionUtils.resolve(type, rootGenerics)} (without ignored classes
+     * and known generics).
+     *
+     * @param type         root class
+     * @param rootGenerics root class generics (including outer class generics, if root is inner class)
+     * @return generics of all types in class hierarchy
+     */
+    public static Map<Class<?>, ImmutableGenericsMap> resolveHierarchy(final Class<?> type,
+                                                                       final Map<String, Type> rootGenerics) {
+        final Map<Class<?>, ImmutableGenericsMap> template = template(type);
+        final Map<Class<?>, ImmutableGenericsMap> res =
+                new HashMap<Class<?>, ImmutableGenericsMap>(template.size() * 4 / 3 + 1);
+        for (Map.Entry<Class<?>, ImmutableGenericsMap> entry : template.entrySet()) {
+            final Class<?> target = entry.getKey();
+            final ImmutableGenericsMap generics = entry.getValue();
+            // types without generics (most interfaces) share the same empty map
+            res.put(target, target == type ? ImmutableGenericsMap.of(rootGenerics)
+                    : generics.isEmpty() ? generics : ImmutableGenericsMap.of(substitute(generics, rootGenerics)));
+        }
+        return res;
+    }
+
+    /**
+     * Removes all cached templates.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    private static Template getTemplate(final Class<?> type) {
+        return GenericsInfoFactory.isCacheEnabled()
+                ? CACHE.get(type, null, new WeakClassCache.Loader<Template>() {
+                    @Override
+                    public Template load() {
+                        return new Template(type, createTemplate(type));
+                    }
+                })
+                : new Template(type, createTemplate(type));
+    }
+
+    private static LinkedHashMap<String, Type> substitute(final ImmutableGenericsMap generics,
+                                                          final Map<String, Type> rootGenerics) {
+        final int size = generics.size();
+        final LinkedHashMap<String, Type> res = new LinkedHashMap<String, Type>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            res.put(generics.getName(i), TypeVariableUtils.resolveAllTypeVariables(generics.getType(i), rootGenerics));
+        }
+        return res;
+    }
+
+    private static Map<Class<?>, ImmutableGenericsMap> createTemplate(final Class<?> type) {
+        final LinkedHashMap<String, Type> rootGenerics = new LinkedHashMap<String, Type>();
+        // raw generics used only to get all visible root generics names (including outer class generics)
+        for (String name : GenericsResolutionUtils.resolveRawGenerics(type).keySet()) {
+            final TypeVariable var = findVariable(type, name);
+            rootGenerics.put(name, var == null ? new ExplicitTypeVariable(name) : new ExplicitTypeVariable(var));
+        }
+        return GenericsResolutionUtils.resolve(type,
+                rootGenerics,
+                Collections.<Class<?>, Map<String, Type>>emptyMap(),
+                Collections.<Class<?>>emptyList());
+    }
+
+    /**
+     * Search variable declaration in class or outer classes (class variables may hide outer class variables).
+     *
+     * @param type class
+     * @param name variable name
+     * @return variable or null if not found
+     */
+    private static TypeVariable findVariable(final Class<?> type, final String name) {
+        Class<?> current = type;
+        while (current != null) {
+            for (TypeVariable var : current.getTypeParameters()) {
+                if (var.getName().equals(name)) {
+                    return var;
+                }
+            }
+            current = (Class<?>) TypeUtils.getOuter(current);
+        }
+        return null;
+    }
+
+    /**
+     * Cached class template.
+     */
+    private static final class Template {
+        private final Map<Class<?>, ImmutableGenericsMap> types;
+        private final boolean innerTypes;
+
+        Template(final Class<?> root, final Map<Class<?>, ImmutableGenericsMap> types) {
+            this.types = types;
+            boolean inner = false;
+            for (Class<?> type : types.keySet()) {
+                if (type != root && TypeUtils.getOuter(type) != null) {
+                    inner = true;
+                    break;
+                }
+            }
+            this.innerTypes = inner;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package ru.vyarus.java.generics.resolver.util;
+
+import ru.vyarus.java.generics.resolver.error.GenericsResolutionException;
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lazily resolved class hierarchy generics: same as {@link GenericsResolutionUtils#resolve(Class, LinkedHashMap,
+ * Map, List)} result, but generics of composing type are resolved only on first access (by
+ * {@link #get(Object)}).
+ * <p>
+ * Only raw hierarchy structure is collected on creation: composing types and their declarations (sub types,
+ * declaring type as superclass or interface). Type generics resolution requires only generics of types on the path
+ * from root to this type, so accessing only one (or few) types of huge hierarchy (e.g. proxies) is much cheaper
+ * than complete hierarchy resolution.
+ * <p>
+ * Composing types are known without resolution ({@link #keySet()}, {@link #containsKey(Object)}). Complete
+ * resolution is forced with {@link #resolveAll()} and before any entries iteration (e.g. map copying). Map is
+ * unmodifiable and thread safe (concurrent resolution of the same type may happen, but result is always the same).
+ * <p>
+ * IMPORTANT: hierarchy errors (e.g. incompatible generics of multiple interface appearances) are thrown
+ * on the first access of incorrect type and not on map creation.
+ *
+ * @author Vyacheslav Rusakov
+ * @see GenericsResolutionUtils#resolveLazy(Class, LinkedHashMap, Map, List)
+ * @since 16.10.2026
+ */
+@SuppressWarnings("PMD.LooseCoupling")
+public final class LazyHierarchy extends AbstractMap<Class<?>, ImmutableGenericsMap> {
+
+    private final Class<?> root;
+    private final LinkedHashMap<String, Type> rootGenerics;
+    private final Map<Class<?>, ? extends Map<String, Type>> knownGenerics;
+    private final List<Class<?>> ignoreClasses;
+    // composing type -> declarations in discovery order (root has no declarations)
+    private final Map<Class<?>, List<Declaration>> declarations = new LinkedHashMap<Class<?>, List<Declaration>>();
+    private final ConcurrentMap<Class<?>, ImmutableGenericsMap> resolved =
+            new ConcurrentHashMap<Class<?>, ImmutableGenericsMap>();
+    private final EntrySet entries = new EntrySet();
+
+    LazyHierarchy(final Class<?> root,
+                  final LinkedHashMap<String, Type> rootGenerics,
+                  final Map<Class<?>, ? extends Map<String, Type>> knownGenerics,
+                  final List<Class<?>> ignoreClasses) {
+        this.root = root;
+        this.rootGenerics = rootGenerics;
+        this.knownGenerics = knownGenerics;
+        this.ignoreClasses = ignoreClasses;
+        declarations.put(root, Collections.<Declaration>emptyList());
+        collectType(root);
+    }
+
+    /**
+     * @return hierarchy root class
+     */
+    public Class<?> getRootClass() {
+        return root;
+    }
+
+    /**
+     * @param type composing type
+     * @return true if type generics already resolved
+     */
+    public boolean isResolved(final Class<?> type) {
+        return resolved.containsKey(type);
+    }
+
+    /**
+     * @return count of already resolved types
+     */
+    public int getResolvedCount() {
+        return resolved.size();
+    }
+
+    /**
+     * Resolves generics of all not yet resolved types. Useful to validate hierarchy (all hierarchy errors are
+     * thrown) or to resolve types before descriptor publication.
+     *
+     * @throws GenericsResolutionException if resolution fails
+     */
+    public void resolveAll() {
+        if (resolved.size() < declarations.size()) {
+            for (Class<?> type : declarations.keySet()) {
+                get(type);
+            }
+        }
+    }
+
+    /**
+     * Resolves generics of not yet resolved type (and all types on the path to it).
+     *
+     * @param key class
+     * @return type generics or null if type is not a part of hierarchy
+     * @throws GenericsResolutionException if resolution fails
+     */
+    @Override
+    public ImmutableGenericsMap get(final Object key) {
+        ImmutableGenericsMap res = resolved.get(key);
+        if (res == null && declarations.containsKey(key)) {
+            try {
+                res = generics((Class<?>) key);
+            } catch (Exception ex) {
+                throw new GenericsResolutionException(root, rootGenerics, knownGenerics, ex);
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return declarations.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return declarations.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    /**
+     * @return composing types (types are not resolved)
+     */
+    @Override
+    public Set<Class<?>> keySet() {
+        return Collections.unmodifiableSet(declarations.keySet());
+    }
+
+    /**
+     * @return entries (all types resolved before iteration)
+     */
+    @Override
+    public Set<Entry<Class<?>, ImmutableGenericsMap>> entrySet() {
+        return entries;
+    }
+
+    private ImmutableGenericsMap generics(final Class<?> type) {
+        ImmutableGenericsMap res = resolved.get(type);
+        if (res == null) {
+            res = ImmutableGenericsMap.of(type == root ? rootGenerics : resolve(type));
+            final ImmutableGenericsMap prev = resolved.putIfAbsent(type, res);
+            if (prev != null) {
+                res = prev;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Same logic as in {@link GenericsResolutionUtils#resolve(Class, LinkedHashMap, Map, List)}, but from target
+     * type side: generics of all declaring types are resolved first.
+     *
+     * @param type composing type (not root)
+     * @return resolved type generics
+     */
+    private Map<String, Type> resolve(final Class<?> type) {
+        final boolean known = knownGenerics.containsKey(type);
+        if (!type.isInterface()) {
+            // superclass has exactly one declaration
+            final LinkedHashMap<String, Type> generics = known
+                    ? new LinkedHashMap<String, Type>(knownGenerics.get(type))
+                    : GenericsResolutionUtils.analyzeParent(declarations.get(type).get(0).host,
+                    generics(declarations.get(type).get(0).host));
+            return GenericsResolutionUtils.fillOuterGenerics(type, generics, knownGenerics);
+        }
+        if (known) {
+            return knownGenerics.get(type);
+        }
+        Map<String, Type> res = null;
+        for (Declaration declaration : declarations.get(type)) {
+            if (declaration.type instanceof ParameterizedType) {
+                final LinkedHashMap<String, Type> generics = GenericsResolutionUtils
+                        .resolveGenerics(declaration.type, generics(declaration.host));
+                if (res != null) {
+                    // multiple interface appearances
+                    GenericsResolutionUtils.merge(type, generics, res);
+                }
+                res = generics;
+            } else {
+                res = type.getTypeParameters().length > 0
+                        ? GenericsResolutionUtils.resolveRawGenerics(type) : EmptyGenericsMap.getInstance();
+            }
+        }
+        return res;
+    }
+
+    private void collectType(final Class<?> type) {
+        Class<?> supertype = type;
+        while (true) {
+            for (Type iface : supertype.getGenericInterfaces()) {
+                collectInterface(iface, supertype);
+            }
+            final Class next = supertype.getSuperclass();
+            if (next == null || Object.class == next || ignoreClasses.contains(next)) {
+                break;
+            }
+            register(next, supertype, supertype.getGenericSuperclass());
+            supertype = next;
+        }
+    }
+
+    private void collectInterface(final Type iface, final Class<?> hostType) {
+        final Class interfaceType = GenericsUtils.resolveClassIgnoringVariables(iface);
+        if (ignoreClasses.contains(interfaceType)) {
+            return;
+        }
+        // groovy specific interface (all groovy objects implements it) is not a part of hierarchy
+        final boolean skip = !knownGenerics.containsKey(interfaceType) && !(iface instanceof ParameterizedType)
+                && interfaceType.getTypeParameters().length == 0
+                && GenericsResolutionUtils.GROOVY_OBJECT.equals(interfaceType.getSimpleName());
+        final boolean collected = declarations.containsKey(interfaceType);
+        if (!skip) {
+            register(interfaceType, hostType, iface);
+        }
+        if (!collected) {
+            collectType(interfaceType);
+        }
+    }
+
+    private void register(final Class<?> type, final Class<?> host, final Type declaration) {
+        List<Declaration> list = declarations.get(type);
+        if (list == null) {
+            list = new ArrayList<Declaration>(1);
+            declarations.put(type, list);
+        }
+        list.add(new Declaration(host, declaration));
+    }
+
+    /**
+     * Type declaration in hierarchy.
+     */
+    private static final class Declaration {
+        // type declaring superclass or interface
+        private final Class<?> host;
+        // generic declaration (superclass or interface)
+        private final Type type;
+
+        Declaration(final Class<?> host, final Type type) {
+            this.host = host;
+            this.type = type;
+        }
+    }
+
+    /**
+     * Entries view, resolving all types before iteration (so errors are thrown before first entry).
+     */
+    private final class EntrySet extends AbstractSet<Entry<Class<?>, ImmutableGenericsMap>> {
+
+        @Override
+        public Iterator<Entry<Class<?>, ImmutableGenericsMap>> iterator() {
+            resolveAll();
+            final Iterator<Class<?>> types = declarations.keySet().iterator();
+            return new Iterator<Entry<Class<?>, ImmutableGenericsMap>>() {
+                @Override
+                public boolean hasNext() {
+                    return types.hasNext();
+                }
+
+                @Override
+                public Entry<Class<?>, ImmutableGenericsMap> next() {
+                    final Class<?> type = types.next();
+                    return new SimpleImmutableEntry<Class<?>, ImmutableGenericsMap>(type, get(type));
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("Hierarchy is immutable");
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return declarations.size();
+        }
+    }
+}
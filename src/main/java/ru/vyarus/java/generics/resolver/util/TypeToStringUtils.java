@@ -1,12 +1,16 @@
 package ru.vyarus.java.generics.resolver.util;
 
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
 import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
+import ru.vyarus.java.generics.resolver.util.cache.WeakClassCache;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.PrintableGenericsMap;
 
+import java.io.IOException;
 import java.lang.reflect.*;
 import java.util.Map;
 
@@ -21,6 +25,12 @@ public final class TypeToStringUtils {
     private static final String COMMA_SEPARATOR = ", ";
     private static final String HASH = "#";
     private static final String DOT = ".";
+    private static final String OBJECT = "Object";
+    private static final int DEFAULT_BUFFER = 64;
+
+    private static final WeakClassCache<String> CLASS_NAMES = new WeakClassCache<String>();
+    // cache switch is read once (system property lookup is too expensive for each rendered class)
+    private static volatile boolean namesCache = GenericsInfoFactory.isCacheEnabled();
 
     private TypeToStringUtils() {
     }
@@ -76,26 +86,66 @@ public final class TypeToStringUtils {
      * @see #toStringTypeIgnoringVariables(Type) shortcut to print Object instead of not known generic
      * @see #toStringType(Type) shortcut for types without variables
      */
-    @SuppressWarnings("PMD.UseStringBufferForStringAppends")
     public static String toStringType(final Type type, final Map<String, Type> generics) {
-        final String res;
+        // class names are cached (no need for buffer)
+        return type instanceof Class
+                ? className((Class) type) : appendType(new StringBuilder(DEFAULT_BUFFER), type, generics).toString();
+    }
+
+    /**
+     * Same as {@link #toStringType(Type, Map)}, but type is written directly into provided buffer (no intermediate
+     * strings created). Useful for rendering types into larger strings (log messages, cache keys).
+     * <p>
+     * Note that buffer may contain partially written type in case of error.
+     *
+     * @param buffer   buffer to write type into
+     * @param type     type to convert to string
+     * @param generics type class generics type
+     * @return provided buffer
+     * @throws UnknownGenericException when found generic not declared on type (e.g. method generic)
+     */
+    public static StringBuilder appendType(final StringBuilder buffer,
+                                           final Type type,
+                                           final Map<String, Type> generics) {
         if (type instanceof Class) {
-            res = processClass((Class) type);
+            buffer.append(className((Class) type));
         } else if (type instanceof ParameterizedType) {
-            res = processParametrizedType((ParameterizedType) type, generics);
+            appendParametrizedType(buffer, (ParameterizedType) type, generics);
         } else if (type instanceof GenericArrayType) {
-            res = toStringType(((GenericArrayType) type).getGenericComponentType(), generics) + "[]";
+            appendType(buffer, ((GenericArrayType) type).getGenericComponentType(), generics).append("[]");
         } else if (type instanceof WildcardType) {
-            res = processWildcardType((WildcardType) type, generics);
+            appendWildcardType(buffer, (WildcardType) type, generics);
         } else if (type instanceof ExplicitTypeVariable) {
             // print generic name (only when PrintableGenericsMap used)
-            res = type.toString();
+            buffer.append(type.toString());
         } else {
             // deep generics nesting case
             // when PrintableGenericsMap used and generics is not known, will print generic name (see above)
-            res = toStringType(declaredGeneric((TypeVariable) type, generics), generics);
+            appendType(buffer, declaredGeneric((TypeVariable) type, generics), generics);
+        }
+        return buffer;
+    }
+
+    /**
+     * Same as {@link #appendType(StringBuilder, Type, Map)}, but for any appendable (e.g. {@link java.io.Writer}).
+     * Type is rendered into a single buffer and then written into appendable.
+     *
+     * @param out      appendable to write type into
+     * @param type     type to convert to string
+     * @param generics type class generics type
+     * @return provided appendable
+     * @throws UnknownGenericException when found generic not declared on type (e.g. method generic)
+     * @throws IllegalStateException   if appendable write fails
+     */
+    public static Appendable appendType(final Appendable out, final Type type, final Map<String, Type> generics) {
+        if (out instanceof StringBuilder) {
+            return appendType((StringBuilder) out, type, generics);
+        }
+        try {
+            return out.append(appendType(new StringBuilder(DEFAULT_BUFFER), type, generics));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to write type", ex);
         }
-        return res;
     }
 
     /**
@@ -166,20 +216,36 @@ public final class TypeToStringUtils {
             // only one argument
             res = toStringType(types[0], generics);
         } else {
-            final StringBuilder buf = new StringBuilder(types.length * 20);
-            boolean first = true;
-            for (Type type : types) {
-                if (!first) {
-                    buf.append(separator);
-                }
-                buf.append(toStringType(type, generics));
-                first = false;
-            }
-            res = buf.toString();
+            res = appendTypes(new StringBuilder(types.length * 20), types, separator, generics).toString();
         }
         return res;
     }
 
+    /**
+     * Same as {@link #toStringTypes(Type[], String, Map)}, but types are written directly into provided buffer.
+     *
+     * @param buffer    buffer to write types into
+     * @param types     types to convert to string
+     * @param separator separator string
+     * @param generics  generics (common for all types)
+     * @return provided buffer
+     * @throws UnknownGenericException when found generic not declared on type (e.g. method generic)
+     */
+    public static StringBuilder appendTypes(final StringBuilder buffer,
+                                            final Type[] types,
+                                            final String separator,
+                                            final Map<String, Type> generics) {
+        boolean first = true;
+        for (Type type : types) {
+            if (!first) {
+                buffer.append(separator);
+            }
+            appendType(buffer, type, generics);
+            first = false;
+        }
+        return buffer;
+    }
+
     /**
      * <pre>{@code class B extends A<Long> {}
      * class A<T> {
@@ -198,10 +264,9 @@ public final class TypeToStringUtils {
      * @see ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap to print Object instead of not known generic
      */
     public static String toStringMethod(final Method method, final Map<String, Type> generics) {
-        return String.format("%s %s(%s)",
-                toStringType(method.getGenericReturnType(), generics),
-                method.getName(),
-                toStringTypes(method.getGenericParameterTypes(), generics));
+        final StringBuilder res = new StringBuilder(DEFAULT_BUFFER);
+        appendType(res, method.getGenericReturnType(), generics).append(' ').append(method.getName()).append('(');
+        return appendTypes(res, method.getGenericParameterTypes(), COMMA_SEPARATOR, generics).append(')').toString();
     }
 
     /**
@@ -222,9 +287,20 @@ public final class TypeToStringUtils {
      * @see ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap to print Object instead of not known generic
      */
     public static String toStringConstructor(final Constructor constructor, final Map<String, Type> generics) {
-        return String.format("%s(%s)",
-                toStringType(constructor.getDeclaringClass()),
-                toStringTypes(constructor.getGenericParameterTypes(), generics));
+        final StringBuilder res = new StringBuilder(DEFAULT_BUFFER);
+        res.append(className(constructor.getDeclaringClass())).append('(');
+        return appendTypes(res, constructor.getGenericParameterTypes(), COMMA_SEPARATOR, generics)
+                .append(')').toString();
+    }
+
+    /**
+     * Removes all cached class names (see {@link #toStringType(Type)} for class names rendering) and re-reads
+     * cache property ({@link GenericsInfoFactory#CACHE_PROPERTY}). Called by {@link GenericsInfoFactory#clearCache()}
+     * and {@link GenericsInfoFactory#disableCache()}.
+     */
+    public static void clearCache() {
+        namesCache = GenericsInfoFactory.isCacheEnabled();
+        CLASS_NAMES.clear();
     }
 
     /**
@@ -266,6 +342,28 @@ public final class TypeToStringUtils {
         return res;
     }
 
+    /**
+     * Rendered names are cached (together with descriptors cache, see {@link GenericsInfoFactory#CACHE_PROPERTY})
+     * because inner and anonymous classes rendering requires reflective lookups. Cache property is checked on
+     * class initialization and on cache clear ({@link #clearCache()}).
+     *
+     * @param clazz class
+     * @return to string class representation
+     * @see #processClass(Class)
+     */
+    private static String className(final Class clazz) {
+        if (!namesCache) {
+            return processClass(clazz);
+        }
+        final String res = CLASS_NAMES.get(clazz);
+        return res != null ? res : CLASS_NAMES.get(clazz, null, new WeakClassCache.Loader<String>() {
+            @Override
+            public String load() {
+                return processClass(clazz);
+            }
+        });
+    }
+
     /**
      * For usual classes {@link Class#getSimpleName()} returned.
      * <p>
@@ -305,7 +403,7 @@ public final class TypeToStringUtils {
         // simpleName on inner class is not informative at all
         if (clazz.getEnclosingClass() != null) {
             // for a chain of inner classes
-            res = processClass(clazz.getEnclosingClass());
+            res = className(clazz.getEnclosingClass());
             try {
                 if (clazz.getEnclosingConstructor() != null) {
                     res += HASH + toStringConstructor(clazz.getEnclosingConstructor(), IgnoreGenericsMap.getInstance());
@@ -329,39 +427,96 @@ public final class TypeToStringUtils {
         return res;
     }
 
-    @SuppressWarnings("PMD.UseStringBufferForStringAppends")
-    private static String processParametrizedType(final ParameterizedType parametrized,
-                                                  final Map<String, Type> generics) {
-        final StringBuilder res = new StringBuilder(50);
-        res.append(toStringType(parametrized.getRawType(), generics));
-        final Type[] args = parametrized.getActualTypeArguments();
+    private static void appendParametrizedType(final StringBuilder buffer,
+                                               final ParameterizedType parametrized,
+                                               final Map<String, Type> generics) {
+        final int start = buffer.length();
+        appendType(buffer, parametrized.getRawType(), generics);
+        final Type[] args = TypeContainers.arguments(parametrized);
         if (args.length > 0) {
-            final String params = toStringTypes(args, generics);
+            final int params = buffer.length();
+            appendTypes(buffer.append('<'), args, COMMA_SEPARATOR, generics);
             // do not print absent parametrization (it can't be checked before toString)
-            if (!params.replace(COMMA_SEPARATOR, "").replace("Object", "").isEmpty()) {
-                res.append('<').append(params).append('>');
+            if (isObjectsOnly(buffer, params + 1)) {
+                buffer.setLength(params);
+            } else {
+                buffer.append('>');
             }
         }
-        final String str = res.toString();
         // important to cover potential owner type generics declaration (Owner<String>.Inner<Integer>)
         // (here we assume only correct types: self-constructed parameterized types may not contain outer generics)
         // note that toStringType will already include outer type, but without generics
         final Type outer = TypeUtils.getOuter(parametrized);
-        return mergeOuterClassGenerics(
-                outer == null ? null : toStringType(outer, new IgnoreGenericsMap(generics)),
-                str);
+        if (outer != null) {
+            mergeOuterClassGenerics(buffer, start, toStringType(outer, new IgnoreGenericsMap(generics)));
+        }
     }
 
-    private static String processWildcardType(final WildcardType wildcard, final Map<String, Type> generics) {
-        final String res;
-        if (wildcard.getLowerBounds().length == 0) {
+    /**
+     * Buffer version of {@link #mergeOuterClassGenerics(String, String)}.
+     *
+     * @param buffer buffer with inner type at the end
+     * @param start  inner type start position
+     * @param outer  outer type toString with properly rendered generics
+     */
+    private static void mergeOuterClassGenerics(final StringBuilder buffer, final int start, final String outer) {
+        final int idx = outer.indexOf('<');
+        final int len = idx > 0 ? idx : outer.length();
+        if (!regionMatches(buffer, start, outer, len)) {
+            // this is for incorrect cases when parameterized type is constructed with different types
+            // (used mainly for tests)
+            buffer.insert(start, outer + DOT);
+        } else if (idx > 0) {
+            // replace pure outer with outer including generics
+            buffer.replace(start, start + idx, outer);
+        }
+    }
+
+    /**
+     * @param buffer buffer
+     * @param from   rendered generics start position
+     * @return true if all rendered generics are {@code Object}
+     */
+    private static boolean isObjectsOnly(final StringBuilder buffer, final int from) {
+        int pos = from;
+        final int length = buffer.length();
+        while (pos < length) {
+            if (regionMatches(buffer, pos, COMMA_SEPARATOR, COMMA_SEPARATOR.length())) {
+                pos += COMMA_SEPARATOR.length();
+            } else if (regionMatches(buffer, pos, OBJECT, OBJECT.length())) {
+                pos += OBJECT.length();
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionMatches(final StringBuilder buffer,
+                                         final int from,
+                                         final String str,
+                                         final int length) {
+        if (buffer.length() - from < length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.charAt(from + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendWildcardType(final StringBuilder buffer,
+                                           final WildcardType wildcard,
+                                           final Map<String, Type> generics) {
+        if (TypeContainers.lowerBounds(wildcard).length == 0) {
             // could be multiple bounds, because of stored named generic bounds (<T extends A & B>)
             // see GenericsResolutionUtils.resolveRawGeneric()
-            res = "? extends " + toStringTypes(wildcard.getUpperBounds(), " & ", generics);
+            appendTypes(buffer.append("? extends "), TypeContainers.upperBounds(wildcard), " & ", generics);
         } else {
-            res = "? super " + toStringType(wildcard.getLowerBounds()[0], generics);
+            appendType(buffer.append("? super "), TypeContainers.lowerBounds(wildcard)[0], generics);
         }
-        return res;
     }
 
     private static Type declaredGeneric(final TypeVariable generic, final Map<String, Type> declarations) {
@@ -1,5 +1,6 @@
 package ru.vyarus.java.generics.resolver.util;
 
+import ru.vyarus.java.generics.resolver.util.cache.TypeChecksCache;
 import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory;
 import ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory;
 import ru.vyarus.java.generics.resolver.util.walk.AssignabilityTypesVisitor;
@@ -9,6 +10,7 @@ import ru.vyarus.java.generics.resolver.util.walk.TypesWalker;
 
 import java.lang.reflect.*;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -79,7 +81,12 @@ public final class TypeUtils {
             // assume correct type implementation (for faster check)
             return false;
         }
-        return doMoreSpecificWalk(what, comparingTo).isMoreSpecific();
+        final Boolean cached = TypeChecksCache.get(TypeChecksCache.Check.MORE_SPECIFIC, what, comparingTo);
+        if (cached != null) {
+            return cached;
+        }
+        return TypeChecksCache.put(TypeChecksCache.Check.MORE_SPECIFIC, what, comparingTo,
+                doMoreSpecificWalk(what, comparingTo).isMoreSpecific());
     }
 
     /**
@@ -96,8 +103,13 @@ public final class TypeUtils {
             // assume correct type implementation (for faster check)
             return true;
         }
+        final Boolean cached = TypeChecksCache.get(TypeChecksCache.Check.MORE_SPECIFIC_OR_EQUAL, what, comparingTo);
+        if (cached != null) {
+            return cached;
+        }
         final ComparatorTypesVisitor visitor = doMoreSpecificWalk(what, comparingTo);
-        return visitor.isMoreSpecific() || visitor.isEqual();
+        return TypeChecksCache.put(TypeChecksCache.Check.MORE_SPECIFIC_OR_EQUAL, what, comparingTo,
+                visitor.isMoreSpecific() || visitor.isEqual());
     }
 
     /**
@@ -130,10 +142,14 @@ public final class TypeUtils {
             // assume correct type implementation (for faster check)
             return true;
         }
+        final Boolean cached = TypeChecksCache.get(TypeChecksCache.Check.ASSIGNABLE, what, toType);
+        if (cached != null) {
+            return cached;
+        }
         final AssignabilityTypesVisitor visitor = new AssignabilityTypesVisitor();
         TypesWalker.walk(what, toType, visitor);
 
-        return visitor.isAssignable();
+        return TypeChecksCache.put(TypeChecksCache.Check.ASSIGNABLE, what, toType, visitor.isAssignable());
     }
 
     /**
@@ -220,9 +236,17 @@ public final class TypeUtils {
      * @see TypesWalker for implementation details
      */
     public static boolean isCompatible(final Type one, final Type two) {
+        if (one == two) {
+            // the same type (common for interned types, see TypeInterner)
+            return true;
+        }
+        final Boolean cached = TypeChecksCache.get(TypeChecksCache.Check.COMPATIBLE, one, two);
+        if (cached != null) {
+            return cached;
+        }
         final CompatibilityTypesVisitor visitor = new CompatibilityTypesVisitor();
         TypesWalker.walk(one, two, visitor);
-        return visitor.isCompatible();
+        return TypeChecksCache.put(TypeChecksCache.Check.COMPATIBLE, one, two, visitor.isCompatible());
     }
 
 
@@ -302,6 +326,20 @@ public final class TypeUtils {
         return CommonTypeFactory.build(one, two, true);
     }
 
+    /**
+     * Multiple types version of {@link #getCommonType(Type, Type)}. Duplicate types are ignored, so for many
+     * types of few classes only a few common type calculations would be performed.
+     *
+     * @param types types
+     * @return maximum class assignable to all types or {@code Object} if classes are incompatible
+     * @throws IllegalArgumentException if no types provided
+     * @see CommonTypeFactory#build(java.util.Collection, boolean, java.util.concurrent.ExecutorService) for parallel
+     * calculation
+     */
+    public static Type getCommonType(final Collection<? extends Type> types) {
+        return CommonTypeFactory.build(types, true);
+    }
+
     /**
      * Analyze provided instance and return instance type. In the simplest case it would be just
      * {@code instance.getClass()}, but with class generics resolved by upper bounds. In case of multiple instances
@@ -2,6 +2,7 @@ package ru.vyarus.java.generics.resolver.util;
 
 import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable;
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
 import ru.vyarus.java.generics.resolver.util.walk.MatchVariablesVisitor;
 import ru.vyarus.java.generics.resolver.util.walk.TypesWalker;
 
@@ -52,7 +53,7 @@ public final class TypeVariableUtils {
      * @return resolved generics for all types in class hierarchy with root variables preserved
      */
     @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
-    public static Map<Class<?>, LinkedHashMap<String, Type>> trackRootVariables(
+    public static Map<Class<?>, ImmutableGenericsMap> trackRootVariables(
             final Class<?> type,
             final List<Class<?>> ignoreClasses) {
         // leave type variables to track where would they go
@@ -63,7 +64,7 @@ public final class TypeVariableUtils {
         }
         return GenericsResolutionUtils.resolve(type,
                 rootGenerics,
-                Collections.<Class<?>, LinkedHashMap<String, Type>>emptyMap(),
+                Collections.<Class<?>, Map<String, Type>>emptyMap(),
                 ignoreClasses == null ? Collections.<Class<?>>emptyList() : ignoreClasses);
     }
 
@@ -74,7 +75,7 @@ public final class TypeVariableUtils {
      * @param type class to analyze
      * @return resolved generics for all types in class hierarchy with root variables preserved
      */
-    public static Map<Class<?>, LinkedHashMap<String, Type>> trackRootVariables(final Class type) {
+    public static Map<Class<?>, ImmutableGenericsMap> trackRootVariables(final Class type) {
         return trackRootVariables(type, null);
     }
 
@@ -0,0 +1,74 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+/**
+ * Cache statistics snapshot.
+ *
+ * @author Vyacheslav Rusakov
+ * @see EvictionPolicy#getStats()
+ * @since 16.10.2026
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long size;
+    private final long weight;
+
+    public CacheStats(final long hits, final long misses, final long evictions, final long size, final long weight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    /**
+     * @return count of cache hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return count of cache misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return count of evicted entries
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return count of cached entries
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return total weight of cached entries
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return hits ratio (from 0 to 1) or 0 if cache was not used
+     */
+    public double getHitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[hits=%s, misses=%s, evictions=%s, size=%s, weight=%s]",
+                hits, misses, evictions, size, weight);
+    }
+}
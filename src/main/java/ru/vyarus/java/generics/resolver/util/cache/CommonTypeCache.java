@@ -0,0 +1,162 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
+
+import java.lang.reflect.Type;
+
+/**
+ * Optional cache of common types, calculated with
+ * {@link ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory#build(Type, Type, boolean)} (and so
+ * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#getCommonType(Type, Type)}). Common type calculation
+ * requires both types hierarchies intersection, which is expensive for repeated calculations for the same types
+ * (e.g. median type calculation for many instances of the same classes).
+ * <p>
+ * Results are cached by types pair (after types cleanup: variables resolved and primitives wrapped) and interfaces
+ * inclusion flag. Only complete calculation results are cached (intermediate results could contain cycle
+ * placeholders). Instance types ({@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType}) are
+ * replaced with ordinary types by cleanup, so mutable types are never used as keys.
+ * <p>
+ * Cache is bounded (least recently used pairs are evicted) and thread safe. Note that cache references types
+ * strongly (and so their classes), so do not enable it together with class reloading tools.
+ * <p>
+ * Cache is disabled by default. It could be enabled with system property or environment variable
+ * {@code System.setProperty(CommonTypeCache.CACHE_PROPERTY, '1000')} (maximum cached pairs; property value checked
+ * on class initialization) or with {@link #enable(int)}. Cache statistics is available with {@link #getStats()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see TypeChecksCache
+ * @since 16.10.2026
+ */
+public final class CommonTypeCache {
+
+    /**
+     * System property or environment variable name to enable common types cache. Value is maximum cached pairs
+     * count. If value is not a positive number - cache disabled.
+     */
+    public static final String CACHE_PROPERTY = CommonTypeCache.class.getName() + ".size";
+
+    private static volatile StripedLruCache<Key, Type> cache =
+            StripedLruCache.create(StripedLruCache.readSize(CACHE_PROPERTY));
+
+    private CommonTypeCache() {
+    }
+
+    /**
+     * @param one                     first type
+     * @param two                     second type
+     * @param alwaysIncludeInterfaces interfaces inclusion flag
+     * @return cached common type or null if result is not cached (or cache disabled)
+     */
+    public static Type get(final Type one, final Type two, final boolean alwaysIncludeInterfaces) {
+        final StripedLruCache<Key, Type> values = cache;
+        return values == null || !isCacheable(one, two)
+                ? null : values.get(new Key(one, two, alwaysIncludeInterfaces));
+    }
+
+    /**
+     * Stores common type (if cache enabled and types could be cached).
+     *
+     * @param one                     first type
+     * @param two                     second type
+     * @param alwaysIncludeInterfaces interfaces inclusion flag
+     * @param result                  common type
+     * @return common type
+     */
+    public static Type put(final Type one, final Type two, final boolean alwaysIncludeInterfaces,
+                           final Type result) {
+        final StripedLruCache<Key, Type> values = cache;
+        if (values != null && isCacheable(one, two) && TypeContainers.isStableHash(result)) {
+            values.put(new Key(one, two, alwaysIncludeInterfaces), result);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if cache enabled, false otherwise
+     * @see #CACHE_PROPERTY
+     */
+    public static boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Enables cache (or re-creates cache with new size if already enabled). Statistics is reset.
+     *
+     * @param maxEntries maximum cached pairs count
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static void enable(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxEntries);
+        }
+        System.setProperty(CACHE_PROPERTY, String.valueOf(maxEntries));
+        cache = StripedLruCache.create(maxEntries);
+    }
+
+    /**
+     * Disables cache (cached results are removed).
+     */
+    public static void disable() {
+        System.clearProperty(CACHE_PROPERTY);
+        cache = null;
+    }
+
+    /**
+     * Removes all cached results. Statistics is not reset.
+     */
+    public static void clear() {
+        final StripedLruCache<Key, Type> values = cache;
+        if (values != null) {
+            values.clear();
+        }
+    }
+
+    /**
+     * Weight is always equal to size (each pair weight is 1).
+     *
+     * @return statistics snapshot (empty statistics when cache is disabled)
+     */
+    public static CacheStats getStats() {
+        final StripedLruCache<Key, Type> values = cache;
+        return values == null ? new CacheStats(0, 0, 0, 0, 0) : values.getStats();
+    }
+
+    private static boolean isCacheable(final Type one, final Type two) {
+        return TypeContainers.isStableHash(one) && TypeContainers.isStableHash(two);
+    }
+
+    /**
+     * Cache key: types pair (order is important) and interfaces inclusion flag.
+     */
+    private static final class Key {
+        private final Type one;
+        private final Type two;
+        private final boolean interfaces;
+        private final int hash;
+
+        Key(final Type one, final Type two, final boolean interfaces) {
+            this.one = one;
+            this.two = two;
+            this.interfaces = interfaces;
+            this.hash = 31 * (31 * (interfaces ? 1 : 0) + one.hashCode()) + two.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return hash == that.hash && interfaces == that.interfaces
+                    && one.equals(that.one) && two.equals(that.two);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
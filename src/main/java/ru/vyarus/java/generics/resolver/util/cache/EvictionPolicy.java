@@ -0,0 +1,286 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import ru.vyarus.java.generics.resolver.util.metrics.StripedCounter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache eviction policy. Policy tracks cached entries and decides what entries must be evicted when
+ * cache exceeds entries limit or weight limit (approximate retained size, computed with {@link Weigher}).
+ * Also, policy counts cache hits, misses and evictions (see {@link #getStats()}).
+ * <p>
+ * Policy bookkeeping (cache writes) is performed under lock. Cache hits are recorded without lock (cache reads
+ * stay lock-free): accessed keys are buffered in striped lossy buffers and applied to entries order under lock
+ * (on next write or when buffer is full). Under heavy concurrent reads some accesses could be dropped, so entries
+ * order is approximate (hits count is always exact). Policy instance must not be shared between caches.
+ * <p>
+ * Implementations must only implement entries ordering ({@link #onAdd(Object)}, {@link #onAccess(Object)},
+ * {@link #onRemove(Object)} and {@link #selectVictim()}). All these methods are called under lock.
+ *
+ * @param <V> cached value type
+ * @author Vyacheslav Rusakov
+ * @see LruEvictionPolicy
+ * @see LfuEvictionPolicy
+ * @since 16.10.2026
+ */
+public abstract class EvictionPolicy<V> {
+
+    /**
+     * Unlimited entries count or weight.
+     */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final long maxEntries;
+    private final long maxWeight;
+    private final Weigher<? super V> weigher;
+
+    // power of two, not less than cpus count (up to 16)
+    private static final int READ_STRIPES = readStripes();
+    // buffered accesses per stripe
+    private static final int READ_BUFFER = 16;
+    // stripe counters distance in array (avoid false sharing)
+    private static final int PADDING = 16;
+
+    private final Map<Object, Long> weights = new HashMap<Object, Long>();
+    private final Lock lock = new ReentrantLock();
+    private final AtomicReferenceArray<Object> reads = new AtomicReferenceArray<Object>(READ_STRIPES * READ_BUFFER);
+    private final AtomicIntegerArray readCounts = new AtomicIntegerArray(READ_STRIPES * PADDING);
+    private final StripedCounter hits = new StripedCounter();
+    private final StripedCounter misses = new StripedCounter();
+    private long totalWeight;
+    private long evictions;
+
+    /**
+     * @param maxEntries maximum entries count (or {@link #UNLIMITED})
+     * @param maxWeight  maximum weight of all entries (or {@link #UNLIMITED})
+     * @param weigher    entry weigher (may be null only for unlimited weight)
+     */
+    protected EvictionPolicy(final long maxEntries, final long maxWeight, final Weigher<? super V> weigher) {
+        if (maxEntries <= 0 || maxWeight <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Entries and weight limits must be positive: %s, %s", maxEntries, maxWeight));
+        }
+        if (weigher == null && maxWeight != UNLIMITED) {
+            throw new IllegalArgumentException("Weigher required for weight limit");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Called by cache on existing value access. Access is buffered and applied to entries order later (no lock).
+     *
+     * @param key cache key
+     */
+    public void recordHit(final Object key) {
+        hits.increment();
+        final int stripe = (int) Thread.currentThread().getId() & (READ_STRIPES - 1);
+        final int counter = stripe * PADDING;
+        final int pos = readCounts.get(counter);
+        if (pos < READ_BUFFER && readCounts.compareAndSet(counter, pos, pos + 1)) {
+            reads.lazySet(stripe * READ_BUFFER + pos, key);
+        } else if (pos >= READ_BUFFER && lock.tryLock()) {
+            // full buffer: apply buffered accesses (only if policy is not busy, otherwise access is dropped)
+            try {
+                drainReads();
+                access(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Called by cache when value is not found.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Called by cache when new value is stored.
+     *
+     * @param key   cache key
+     * @param value stored value
+     * @return keys to evict from cache (could contain just stored key if entry is heavier than weight limit)
+     */
+    public List<Object> recordWrite(final Object key, final V value) {
+        final long weight = weigher == null ? 1 : weigher.weigh(value);
+        List<Object> evicted = Collections.emptyList();
+        lock.lock();
+        try {
+            // actual entries order is required for victim selection
+            drainReads();
+            final Long prev = weights.put(key, weight);
+            if (prev == null) {
+                onAdd(key);
+            } else {
+                totalWeight -= prev;
+                onAccess(key);
+            }
+            totalWeight += weight;
+
+            while (!weights.isEmpty() && (weights.size() > maxEntries || totalWeight > maxWeight)) {
+                final Object victim = selectVictim();
+                remove(victim);
+                evictions++;
+                if (evicted.isEmpty()) {
+                    evicted = new ArrayList<Object>();
+                }
+                evicted.add(victim);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return evicted;
+    }
+
+    /**
+     * Called by cache when entry is removed (not by policy decision, e.g. when key class was garbage collected).
+     *
+     * @param key cache key
+     */
+    public void recordRemoval(final Object key) {
+        lock.lock();
+        try {
+            if (weights.containsKey(key)) {
+                remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called by cache on cache clear. Statistics is not reset.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            for (int i = 0; i < READ_STRIPES; i++) {
+                readCounts.set(i * PADDING, 0);
+            }
+            for (int i = 0; i < reads.length(); i++) {
+                reads.set(i, null);
+            }
+            weights.clear();
+            totalWeight = 0;
+            onClear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return statistics snapshot
+     */
+    public CacheStats getStats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits.sum(), misses.sum(), evictions, weights.size(), totalWeight);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return maximum entries count
+     */
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return maximum weight of all entries
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + getStats();
+    }
+
+    /**
+     * New entry added.
+     *
+     * @param key cache key
+     */
+    protected abstract void onAdd(Object key);
+
+    /**
+     * Existing entry accessed (or re-written).
+     *
+     * @param key cache key
+     */
+    protected abstract void onAccess(Object key);
+
+    /**
+     * Entry removed (evicted or removed by cache).
+     *
+     * @param key cache key
+     */
+    protected abstract void onRemove(Object key);
+
+    /**
+     * All entries removed.
+     */
+    protected abstract void onClear();
+
+    /**
+     * Called only when policy tracks at least one entry.
+     *
+     * @return key to evict
+     */
+    protected abstract Object selectVictim();
+
+    private void remove(final Object key) {
+        totalWeight -= weights.remove(key);
+        onRemove(key);
+    }
+
+    private void access(final Object key) {
+        // entry could be already removed
+        if (weights.containsKey(key)) {
+            onAccess(key);
+        }
+    }
+
+    /**
+     * Applies buffered accesses (called under lock). Accesses are applied in stripes order (not in actual
+     * access order).
+     */
+    private void drainReads() {
+        for (int stripe = 0; stripe < READ_STRIPES; stripe++) {
+            final int counter = stripe * PADDING;
+            final int count = Math.min(readCounts.get(counter), READ_BUFFER);
+            for (int i = 0; i < count; i++) {
+                // key could be not yet stored by concurrent thread (lost access)
+                final Object key = reads.getAndSet(stripe * READ_BUFFER + i, null);
+                if (key != null) {
+                    access(key);
+                }
+            }
+            readCounts.set(counter, 0);
+        }
+    }
+
+    private static int readStripes() {
+        int res = 1;
+        final int cpus = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+        while (res < cpus) {
+            res <<= 1;
+        }
+        return res;
+    }
+}
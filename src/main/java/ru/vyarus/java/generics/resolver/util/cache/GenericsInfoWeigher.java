@@ -0,0 +1,76 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+
+/**
+ * Approximate retained size (in bytes) of {@link GenericsInfo}. Counts only descriptor structures (maps and
+ * type containers): classes are not counted because they are shared (and not owned by descriptor).
+ * Estimation is rough (assuming 64bit jvm with compressed pointers), but enough to keep cache memory predictable.
+ * Lazy descriptors are weighed without resolution (resolved generics types are not counted).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class GenericsInfoWeigher implements Weigher<GenericsInfo> {
+
+    // descriptor object with types map and ignored classes array
+    private static final int INFO_SIZE = 96;
+    // types map entry and compact generics map
+    private static final int TYPE_SIZE = 72;
+    // generic name and type references in generics map
+    private static final int GENERIC_SIZE = 8;
+    // type container object (parameterized, wildcard or array type)
+    private static final int CONTAINER_SIZE = 32;
+    // type reference in array
+    private static final int REFERENCE_SIZE = 4;
+
+    @Override
+    public long weigh(final GenericsInfo value) {
+        long res = INFO_SIZE;
+        if (value.isLazy()) {
+            // types map access would force complete hierarchy resolution: counting only declared generics
+            for (Class<?> type : value.getComposingTypes()) {
+                res += TYPE_SIZE + GENERIC_SIZE * type.getTypeParameters().length;
+            }
+        } else {
+            for (Map.Entry<Class<?>, ? extends Map<String, Type>> entry : value.getTypesMap().entrySet()) {
+                res += TYPE_SIZE;
+                for (Type type : entry.getValue().values()) {
+                    res += GENERIC_SIZE + weigh(type);
+                }
+            }
+        }
+        return res;
+    }
+
+    private long weigh(final Type type) {
+        long res = 0;
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            res = CONTAINER_SIZE + weigh(parameterizedType.getActualTypeArguments());
+            if (parameterizedType.getOwnerType() != null) {
+                res += weigh(parameterizedType.getOwnerType());
+            }
+        } else if (type instanceof WildcardType) {
+            final WildcardType wildcardType = (WildcardType) type;
+            res = CONTAINER_SIZE + weigh(wildcardType.getUpperBounds()) + weigh(wildcardType.getLowerBounds());
+        } else if (type instanceof GenericArrayType) {
+            res = CONTAINER_SIZE + weigh(((GenericArrayType) type).getGenericComponentType());
+        }
+        return res;
+    }
+
+    private long weigh(final Type... types) {
+        long res = CONTAINER_SIZE / 2;
+        for (Type type : types) {
+            res += REFERENCE_SIZE + weigh(type);
+        }
+        return res;
+    }
+}
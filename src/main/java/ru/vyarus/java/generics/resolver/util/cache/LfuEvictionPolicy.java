@@ -0,0 +1,102 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Least frequently used eviction policy: evicts entries with the smallest access count. When multiple entries
+ * have the same access count, the oldest one is evicted. Just added entry is never evicted (otherwise
+ * new entries could never get into full cache), unless it's the only entry (too heavy for weight limit).
+ *
+ * @param <V> cached value type
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class LfuEvictionPolicy<V> extends EvictionPolicy<V> {
+
+    private final Map<Object, Integer> frequencies = new HashMap<Object, Integer>();
+    // frequency -> keys in addition order
+    private final TreeMap<Integer, Set<Object>> buckets = new TreeMap<Integer, Set<Object>>();
+    private Object lastAdded;
+
+    /**
+     * @param maxEntries maximum entries count
+     */
+    public LfuEvictionPolicy(final long maxEntries) {
+        this(maxEntries, UNLIMITED, null);
+    }
+
+    /**
+     * @param maxEntries maximum entries count (or {@link #UNLIMITED})
+     * @param maxWeight  maximum weight of all entries (or {@link #UNLIMITED})
+     * @param weigher    entry weigher (may be null only for unlimited weight)
+     */
+    public LfuEvictionPolicy(final long maxEntries, final long maxWeight, final Weigher<? super V> weigher) {
+        super(maxEntries, maxWeight, weigher);
+    }
+
+    @Override
+    protected void onAdd(final Object key) {
+        frequencies.put(key, 1);
+        bucket(1).add(key);
+        lastAdded = key;
+    }
+
+    @Override
+    protected void onAccess(final Object key) {
+        final Integer frequency = frequencies.get(key);
+        removeFromBucket(key, frequency);
+        // avoid overflow for extremely popular entries
+        final int next = frequency == Integer.MAX_VALUE ? frequency : frequency + 1;
+        frequencies.put(key, next);
+        bucket(next).add(key);
+    }
+
+    @Override
+    protected void onRemove(final Object key) {
+        removeFromBucket(key, frequencies.remove(key));
+        if (key.equals(lastAdded)) {
+            lastAdded = null;
+        }
+    }
+
+    @Override
+    protected void onClear() {
+        frequencies.clear();
+        buckets.clear();
+        lastAdded = null;
+    }
+
+    @Override
+    protected Object selectVictim() {
+        for (Set<Object> bucket : buckets.values()) {
+            for (Object key : bucket) {
+                if (!key.equals(lastAdded)) {
+                    return key;
+                }
+            }
+        }
+        // only just added entry remain
+        return lastAdded;
+    }
+
+    private Set<Object> bucket(final Integer frequency) {
+        Set<Object> res = buckets.get(frequency);
+        if (res == null) {
+            res = new LinkedHashSet<Object>();
+            buckets.put(frequency, res);
+        }
+        return res;
+    }
+
+    private void removeFromBucket(final Object key, final Integer frequency) {
+        final Set<Object> bucket = buckets.get(frequency);
+        bucket.remove(key);
+        if (bucket.isEmpty()) {
+            buckets.remove(frequency);
+        }
+    }
+}
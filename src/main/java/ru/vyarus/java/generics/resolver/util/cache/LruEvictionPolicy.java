@@ -0,0 +1,58 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used eviction policy: evicts entries which were not accessed for the longest time.
+ *
+ * @param <V> cached value type
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class LruEvictionPolicy<V> extends EvictionPolicy<V> {
+
+    // access ordered
+    private final Map<Object, Boolean> order = new LinkedHashMap<Object, Boolean>(16, 0.75f, true);
+
+    /**
+     * @param maxEntries maximum entries count
+     */
+    public LruEvictionPolicy(final long maxEntries) {
+        this(maxEntries, UNLIMITED, null);
+    }
+
+    /**
+     * @param maxEntries maximum entries count (or {@link #UNLIMITED})
+     * @param maxWeight  maximum weight of all entries (or {@link #UNLIMITED})
+     * @param weigher    entry weigher (may be null only for unlimited weight)
+     */
+    public LruEvictionPolicy(final long maxEntries, final long maxWeight, final Weigher<? super V> weigher) {
+        super(maxEntries, maxWeight, weigher);
+    }
+
+    @Override
+    protected void onAdd(final Object key) {
+        order.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    protected void onAccess(final Object key) {
+        order.get(key);
+    }
+
+    @Override
+    protected void onRemove(final Object key) {
+        order.remove(key);
+    }
+
+    @Override
+    protected void onClear() {
+        order.clear();
+    }
+
+    @Override
+    protected Object selectVictim() {
+        return order.keySet().iterator().next();
+    }
+}
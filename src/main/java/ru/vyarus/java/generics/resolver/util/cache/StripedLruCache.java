@@ -0,0 +1,161 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded thread safe cache for optional results caches: cache is split into stripes (selected by key hash) with
+ * separate locks. Each stripe is an access ordered map with size limit, so least recently used entries are evicted
+ * (total bound is approximate because stripe limit is rounded up).
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class StripedLruCache<K, V> {
+
+    private static final int STRIPES = 16;
+
+    private final Stripe<K, V>[] stripes;
+
+    /**
+     * @param maxEntries maximum cached entries (must be positive)
+     */
+    @SuppressWarnings("unchecked")
+    public StripedLruCache(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxEntries);
+        }
+        stripes = new Stripe[STRIPES];
+        final int limit = (maxEntries + STRIPES - 1) / STRIPES;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<K, V>(limit);
+        }
+    }
+
+    /**
+     * Reads maximum cache size from system property or environment variable.
+     *
+     * @param property property name
+     * @return maximum cache size or 0 if property not set or not a number
+     */
+    static int readSize(final String property) {
+        final String value = System.getProperty(property, System.getenv(property));
+        int res = 0;
+        if (value != null) {
+            try {
+                res = Integer.parseInt(value.trim());
+            } catch (NumberFormatException ignored) {
+                // not a number - cache disabled
+                res = 0;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param maxEntries maximum cached entries
+     * @param <K>        key type
+     * @param <V>        value type
+     * @return cache or null if size is not positive (cache disabled)
+     */
+    static <K, V> StripedLruCache<K, V> create(final int maxEntries) {
+        return maxEntries > 0 ? new StripedLruCache<K, V>(maxEntries) : null;
+    }
+
+    /**
+     * @param key key
+     * @return cached value or null
+     */
+    public V get(final K key) {
+        final Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            final V res = stripe.get(key);
+            if (res == null) {
+                stripe.misses++;
+            } else {
+                stripe.hits++;
+            }
+            return res;
+        }
+    }
+
+    /**
+     * @param key   key
+     * @param value value
+     */
+    public void put(final K key, final V value) {
+        final Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    /**
+     * Removes all cached entries (statistics is not reset).
+     */
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Weight is always equal to size (each entry weight is 1).
+     *
+     * @return statistics snapshot
+     */
+    public CacheStats getStats() {
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        long size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                hits += stripe.hits;
+                misses += stripe.misses;
+                evictions += stripe.evictions;
+                size += stripe.size();
+            }
+        }
+        return new CacheStats(hits, misses, evictions, size, size);
+    }
+
+    private Stripe<K, V> stripe(final K key) {
+        final int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * Cache segment: access ordered map with size limit (lru). All access is synchronized on stripe instance.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int limit;
+        long hits;
+        long misses;
+        long evictions;
+
+        Stripe(final int limit) {
+            super(16, 0.75f, true);
+            this.limit = limit;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            final boolean res = size() > limit;
+            if (res) {
+                evictions++;
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
+
+import java.lang.reflect.Type;
+
+/**
+ * Optional cache of types checks results:
+ * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isAssignable(Type, Type)},
+ * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isCompatible(Type, Type)},
+ * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isMoreSpecific(Type, Type)} and
+ * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isMoreSpecificOrEqual(Type, Type)}. Each check requires
+ * types walking (with hierarchy resolution for parameterized types), which is expensive for repeated checks of the
+ * same types pair (e.g. in message routing).
+ * <p>
+ * Cache is bounded (least recently used pairs are evicted) and thread safe: cache is split into stripes (selected by
+ * pair hash) with separate locks. Failed checks (exceptions) are not cached. Pairs with instance types
+ * ({@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType}) are never cached because instance
+ * types are mutable.
+ * <p>
+ * Note that cache references types strongly (and so their classes), so do not enable it together with class
+ * reloading tools (see {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory#CACHE_PROPERTY}).
+ * <p>
+ * Cache is disabled by default. It could be enabled with system property or environment variable
+ * {@code System.setProperty(TypeChecksCache.CACHE_PROPERTY, '10000')} (maximum cached pairs; property value checked
+ * on class initialization) or with {@link #enable(int)}. Cache statistics is available with {@link #getStats()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class TypeChecksCache {
+
+    /**
+     * System property or environment variable name to enable types checks cache. Value is maximum cached pairs
+     * count. If value is not a positive number - cache disabled.
+     */
+    public static final String CACHE_PROPERTY = TypeChecksCache.class.getName() + ".size";
+
+    private static volatile StripedLruCache<Key, Boolean> cache =
+            StripedLruCache.create(StripedLruCache.readSize(CACHE_PROPERTY));
+
+    private TypeChecksCache() {
+    }
+
+    /**
+     * Check types. Each check is cached separately.
+     */
+    public enum Check {
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isAssignable(Type, Type)}.
+         */
+        ASSIGNABLE,
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isCompatible(Type, Type)}.
+         */
+        COMPATIBLE,
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isMoreSpecific(Type, Type)}.
+         */
+        MORE_SPECIFIC,
+        /**
+         * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#isMoreSpecificOrEqual(Type, Type)}.
+         */
+        MORE_SPECIFIC_OR_EQUAL
+    }
+
+    /**
+     * @param check check type
+     * @param one   first type
+     * @param two   second type
+     * @return cached check result or null if result is not cached (or cache disabled)
+     */
+    public static Boolean get(final Check check, final Type one, final Type two) {
+        final StripedLruCache<Key, Boolean> values = cache;
+        return values == null || !isCacheable(one, two) ? null : values.get(new Key(check, one, two));
+    }
+
+    /**
+     * Stores check result (if cache enabled and types could be cached).
+     *
+     * @param check  check type
+     * @param one    first type
+     * @param two    second type
+     * @param result check result
+     * @return check result
+     */
+    public static boolean put(final Check check, final Type one, final Type two, final boolean result) {
+        final StripedLruCache<Key, Boolean> values = cache;
+        if (values != null && isCacheable(one, two)) {
+            values.put(new Key(check, one, two), result);
+        }
+        return result;
+    }
+
+    /**
+     * @return true if cache enabled, false otherwise
+     * @see #CACHE_PROPERTY
+     */
+    public static boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Enables cache (or re-creates cache with new size if already enabled). Statistics is reset.
+     *
+     * @param maxEntries maximum cached pairs count
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static void enable(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxEntries);
+        }
+        System.setProperty(CACHE_PROPERTY, String.valueOf(maxEntries));
+        cache = StripedLruCache.create(maxEntries);
+    }
+
+    /**
+     * Disables cache (cached results are removed).
+     */
+    public static void disable() {
+        System.clearProperty(CACHE_PROPERTY);
+        cache = null;
+    }
+
+    /**
+     * Removes all cached results. Statistics is not reset.
+     */
+    public static void clear() {
+        final StripedLruCache<Key, Boolean> values = cache;
+        if (values != null) {
+            values.clear();
+        }
+    }
+
+    /**
+     * Weight is always equal to size (each pair weight is 1).
+     *
+     * @return statistics snapshot (empty statistics when cache is disabled)
+     */
+    public static CacheStats getStats() {
+        final StripedLruCache<Key, Boolean> values = cache;
+        return values == null ? new CacheStats(0, 0, 0, 0, 0) : values.getStats();
+    }
+
+    private static boolean isCacheable(final Type one, final Type two) {
+        return TypeContainers.isStableHash(one) && TypeContainers.isStableHash(two);
+    }
+
+    /**
+     * Cache key: check type and types pair (order is important).
+     */
+    private static final class Key {
+        private final Check check;
+        private final Type one;
+        private final Type two;
+        private final int hash;
+
+        Key(final Check check, final Type one, final Type two) {
+            this.check = check;
+            this.one = one;
+            this.two = two;
+            this.hash = 31 * (31 * check.ordinal() + one.hashCode()) + two.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) obj;
+            return hash == that.hash && check == that.check && one.equals(that.one) && two.equals(that.two);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent cache of values, computed for class (optionally with additional qualifier, e.g. ignored classes).
+ * <p>
+ * Cache is lock-free for reads and for different keys: values for different classes are computed in parallel.
+ * For the same key value is computed only once: concurrent threads, requesting the same missing key, wait
+ * for the first thread to compute value (lock is held on key slot only and not on the entire cache).
+ * <p>
+ * Class is referenced weakly and so does not prevent class unloading. Value is referenced softly because
+ * cached value (e.g. {@link ru.vyarus.java.generics.resolver.context.GenericsInfo}) would almost always
+ * reference the key class itself (strong value reference would make weak key useless). In the worst case,
+ * value will be computed one more time after garbage collection under memory pressure. Stale entries are removed
+ * on cache writes.
+ * <p>
+ * Qualifier object must be immutable and implement proper equals and hash code. Null qualifier means
+ * no qualifier. Use {@link #classesQualifier(Class[])} for classes qualifier (to avoid strong references on
+ * qualifier classes).
+ * <p>
+ * By default, cache is unbounded. Bounded {@link EvictionPolicy} could be configured with
+ * {@link #setPolicy(EvictionPolicy)} (note that bounded cache writes are synchronized by policy, but reads
+ * stay lock-free).
+ *
+ * @param <V> value type
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class WeakClassCache<V> {
+
+    private final ConcurrentMap<Key, Slot<V>> cache = new ConcurrentHashMap<Key, Slot<V>>();
+    private final ReferenceQueue<Class<?>> queue = new ReferenceQueue<Class<?>>();
+    private volatile EvictionPolicy<? super V> policy;
+
+    /**
+     * @param type class
+     * @return cached value or null if value not cached
+     */
+    public V get(final Class<?> type) {
+        return get(type, null);
+    }
+
+    /**
+     * @param type      class
+     * @param qualifier additional key qualifier (may be null)
+     * @return cached value or null if value not cached
+     */
+    public V get(final Class<?> type, final Object qualifier) {
+        final Slot<V> slot = cache.get(new LookupKey(type, qualifier));
+        final V res = slot == null ? null : slot.value();
+        final EvictionPolicy<? super V> policy = this.policy;
+        if (policy != null) {
+            if (res == null) {
+                policy.recordMiss();
+            } else {
+                policy.recordHit(slot.key);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Returns cached value or compute and cache new value (only once for the same key, even under concurrent
+     * access). When loader fails, nothing is cached and exception is propagated (concurrently waiting threads
+     * would try to compute value again).
+     *
+     * @param type      class
+     * @param qualifier additional key qualifier (may be null)
+     * @param loader    value loader to call when value is not cached
+     * @return cached or just computed value
+     */
+    public V get(final Class<?> type, final Object qualifier, final Loader<V> loader) {
+        final LookupKey lookup = new LookupKey(type, qualifier);
+        Slot<V> slot = cache.get(lookup);
+        V res = slot == null ? null : slot.value();
+        if (res == null) {
+            expungeStaleEntries();
+            if (slot == null) {
+                final Slot<V> created = new Slot<V>(new WeakKey(type, qualifier, queue));
+                slot = cache.putIfAbsent(created.key, created);
+                if (slot == null) {
+                    slot = created;
+                }
+            }
+            try {
+                res = slot.compute(loader, this);
+            } catch (RuntimeException ex) {
+                // do not cache failed slot
+                cache.remove(lookup, slot);
+                throw ex;
+            }
+        } else if (policy != null) {
+            policy.recordHit(slot.key);
+        }
+        return res;
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        cache.clear();
+        // remove references to already removed entries
+        while (queue.poll() != null) {
+            // nothing
+        }
+        final EvictionPolicy<? super V> policy = this.policy;
+        if (policy != null) {
+            policy.clear();
+        }
+    }
+
+    /**
+     * Configures eviction policy. Cache is cleared on policy change (to start with consistent policy state).
+     * Policy instance must not be shared with other caches.
+     *
+     * @param policy eviction policy or null for unbounded cache
+     */
+    public void setPolicy(final EvictionPolicy<? super V> policy) {
+        if (policy != null) {
+            policy.clear();
+        }
+        this.policy = policy;
+        clear();
+    }
+
+    /**
+     * @return eviction policy or null for unbounded cache
+     */
+    public EvictionPolicy<? super V> getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Note that size may include entries with values, cleared by garbage collector.
+     *
+     * @return count of cached entries
+     */
+    public int size() {
+        expungeStaleEntries();
+        return cache.size();
+    }
+
+    /**
+     * @return true if cache contains no entries, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Creates qualifier for classes list (e.g. ignored classes). Classes are referenced weakly and so
+     * qualifier does not prevent classes unloading (entry, qualified with unloaded class become unreachable and
+     * will be removed when key class unloads). Classes order is important: lists with different order are not equal.
+     *
+     * @param classes classes to create qualifier for
+     * @return qualifier object or null if no classes provided
+     */
+    public static Object classesQualifier(final Class<?>... classes) {
+        return classes.length == 0 ? null : new ClassesQualifier(classes);
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends Class<?>> ref = queue.poll();
+        while (ref != null) {
+            cache.remove(ref);
+            final EvictionPolicy<? super V> policy = this.policy;
+            if (policy != null) {
+                policy.recordRemoval(ref);
+            }
+            ref = queue.poll();
+        }
+    }
+
+    /**
+     * Registers just computed value in eviction policy (if configured) and remove evicted entries.
+     *
+     * @param slot  value slot
+     * @param value computed value
+     */
+    private void valueComputed(final Slot<V> slot, final V value) {
+        final EvictionPolicy<? super V> policy = this.policy;
+        if (policy != null) {
+            policy.recordMiss();
+            // slot could be already evicted or cache cleared
+            if (cache.get(slot.key) == slot) {
+                final List<Object> evicted = policy.recordWrite(slot.key, value);
+                for (Object key : evicted) {
+                    cache.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Value computation callback.
+     *
+     * @param <V> value type
+     */
+    public interface Loader<V> {
+
+        /**
+         * @return computed value (must not be null)
+         */
+        V load();
+    }
+
+    /**
+     * Value holder. Used for per-key synchronization.
+     *
+     * @param <V> value type
+     */
+    private static final class Slot<V> {
+        private final WeakKey key;
+        private volatile SoftReference<V> value;
+
+        Slot(final WeakKey key) {
+            this.key = key;
+        }
+
+        V value() {
+            final SoftReference<V> ref = value;
+            return ref == null ? null : ref.get();
+        }
+
+        V compute(final Loader<V> loader, final WeakClassCache<V> cache) {
+            V res = value();
+            if (res == null) {
+                synchronized (this) {
+                    // value could be computed while thread waits for lock
+                    res = value();
+                    if (res == null) {
+                        res = loader.load();
+                        value = new SoftReference<V>(res);
+                        cache.valueComputed(this, res);
+                    }
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Common key contract: lookup and stored keys must be equal for the same class and qualifier.
+     */
+    private interface Key {
+
+        Class<?> getType();
+
+        Object getQualifier();
+    }
+
+    /**
+     * Stored key with weak class reference.
+     */
+    private static final class WeakKey extends WeakReference<Class<?>> implements Key {
+        private final Object qualifier;
+        private final int hash;
+
+        WeakKey(final Class<?> type, final Object qualifier, final ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.qualifier = qualifier;
+            this.hash = hash(type, qualifier);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return get();
+        }
+
+        @Override
+        public Object getQualifier() {
+            return qualifier;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            // stale key is equal only to itself (required for removal)
+            return this == obj || (obj instanceof Key && matches(this, (Key) obj));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Lightweight key used for lookups (avoid weak reference creation).
+     */
+    private static final class LookupKey implements Key {
+        private final Class<?> type;
+        private final Object qualifier;
+        private final int hash;
+
+        LookupKey(final Class<?> type, final Object qualifier) {
+            this.type = type;
+            this.qualifier = qualifier;
+            this.hash = hash(type, qualifier);
+        }
+
+        @Override
+        public Class<?> getType() {
+            return type;
+        }
+
+        @Override
+        public Object getQualifier() {
+            return qualifier;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || (obj instanceof Key && matches(this, (Key) obj));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Qualifier for classes list with weak references to classes.
+     */
+    private static final class ClassesQualifier {
+        private final WeakReference<Class<?>>[] classes;
+        private final int hash;
+
+        @SuppressWarnings("unchecked")
+        ClassesQualifier(final Class<?>... classes) {
+            this.classes = new WeakReference[classes.length];
+            int res = 1;
+            for (int i = 0; i < classes.length; i++) {
+                this.classes[i] = new WeakReference<Class<?>>(classes[i]);
+                res = 31 * res + System.identityHashCode(classes[i]);
+            }
+            this.hash = res;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ClassesQualifier)) {
+                return false;
+            }
+            final WeakReference<Class<?>>[] other = ((ClassesQualifier) obj).classes;
+            boolean res = hash == obj.hashCode() && classes.length == other.length;
+            for (int i = 0; res && i < classes.length; i++) {
+                final Class<?> type = classes[i].get();
+                res = type != null && type == other[i].get();
+            }
+            return res;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static int hash(final Class<?> type, final Object qualifier) {
+        return 31 * System.identityHashCode(type) + (qualifier == null ? 0 : qualifier.hashCode());
+    }
+
+    private static boolean matches(final Key one, final Key two) {
+        final Class<?> type = one.getType();
+        final Object qualifier = one.getQualifier();
+        return type != null && type == two.getType()
+                && (qualifier == null ? two.getQualifier() == null : qualifier.equals(two.getQualifier()));
+    }
+}
@@ -0,0 +1,21 @@
+package ru.vyarus.java.generics.resolver.util.cache;
+
+/**
+ * Computes approximate cached value weight (e.g. retained size in bytes) for weight-limited eviction policies.
+ *
+ * @param <V> value type
+ * @author Vyacheslav Rusakov
+ * @see EvictionPolicy
+ * @see GenericsInfoWeigher
+ * @since 16.10.2026
+ */
+public interface Weigher<V> {
+
+    /**
+     * Called once, when value is stored in cache.
+     *
+     * @param value cached value
+     * @return value weight (must not be negative)
+     */
+    long weigh(V value);
+}
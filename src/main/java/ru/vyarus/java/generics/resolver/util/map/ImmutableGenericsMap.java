@@ -0,0 +1,218 @@
+package ru.vyarus.java.generics.resolver.util.map;
+
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact immutable generics map: generic names and types are stored in a single array (in declaration order).
+ * Used for resolved hierarchies storage (e.g. {@link ru.vyarus.java.generics.resolver.context.GenericsInfo})
+ * because usually classes have only 1-3 generics and usual {@link java.util.LinkedHashMap} is much heavier
+ * (entry objects, hash table and linked list for just a few generics).
+ * <p>
+ * Iteration order is the same as in source map. Lookup by name is linear, which is faster than hashing for
+ * small maps. Positional access is also available ({@link #getName(int)}, {@link #getType(int)}).
+ * <p>
+ * Map is immutable: any modification attempt will lead to {@link UnsupportedOperationException}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class ImmutableGenericsMap extends AbstractMap<String, Type> {
+
+    private static final ImmutableGenericsMap EMPTY = new ImmutableGenericsMap(new Object[0]);
+
+    // generic names and types interleaved: [name0, type0, name1, type1, ...] (single array for minimal footprint)
+    private final Object[] data;
+
+    private ImmutableGenericsMap(final Object[] data) {
+        this.data = data;
+    }
+
+    /**
+     * @param generics generics map (order is important!)
+     * @return immutable map with the same content (the same instance if map is already immutable)
+     */
+    public static ImmutableGenericsMap of(final Map<String, ? extends Type> generics) {
+        if (generics instanceof ImmutableGenericsMap) {
+            return (ImmutableGenericsMap) generics;
+        }
+        if (generics.isEmpty()) {
+            return EMPTY;
+        }
+        final Object[] data = new Object[generics.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, ? extends Type> entry : generics.entrySet()) {
+            data[i++] = entry.getKey();
+            data[i++] = entry.getValue();
+        }
+        return new ImmutableGenericsMap(data);
+    }
+
+    /**
+     * @return shared empty map instance
+     */
+    public static ImmutableGenericsMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param name generic name
+     * @return generic position or -1 if generic not found
+     */
+    public int indexOf(final Object name) {
+        for (int i = 0; i < data.length; i += 2) {
+            // names are usually the same instances (from class declaration)
+            if (data[i] == name || data[i].equals(name)) {
+                return i / 2;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param position generic position
+     * @return generic name
+     * @throws IndexOutOfBoundsException for wrong position
+     */
+    public String getName(final int position) {
+        return (String) data[checkPosition(position) * 2];
+    }
+
+    /**
+     * @param position generic position
+     * @return generic type
+     * @throws IndexOutOfBoundsException for wrong position
+     */
+    public Type getType(final int position) {
+        return (Type) data[checkPosition(position) * 2 + 1];
+    }
+
+    /**
+     * List is a view, backed by map (no copy).
+     *
+     * @return unmodifiable list of generic types (in declaration order)
+     */
+    public List<Type> getTypes() {
+        return new AbstractList<Type>() {
+            @Override
+            public Type get(final int index) {
+                return getType(index);
+            }
+
+            @Override
+            public int size() {
+                return ImmutableGenericsMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return data.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return getTypes().contains(value);
+    }
+
+    @Override
+    public Type get(final Object key) {
+        final int idx = indexOf(key);
+        return idx < 0 ? null : (Type) data[idx * 2 + 1];
+    }
+
+    @Override
+    public Collection<Type> values() {
+        return getTypes();
+    }
+
+    @Override
+    public Type put(final String key, final Type value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends Type> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Type remove(final Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Entry<String, Type>> entrySet() {
+        return new AbstractSet<Entry<String, Type>>() {
+            @Override
+            public Iterator<Entry<String, Type>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ImmutableGenericsMap.this.size();
+            }
+        };
+    }
+
+    private int checkPosition(final int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Generic position " + position + " is out of range [0, "
+                    + size() + ")");
+        }
+        return position;
+    }
+
+    /**
+     * Array-backed entries iterator.
+     */
+    private class EntryIterator implements Iterator<Entry<String, Type>> {
+        private int pos;
+
+        @Override
+        public boolean hasNext() {
+            return pos < data.length;
+        }
+
+        @Override
+        public Entry<String, Type> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, Type> res =
+                    new SimpleImmutableEntry<String, Type>((String) data[pos], (Type) data[pos + 1]);
+            pos += 2;
+            return res;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
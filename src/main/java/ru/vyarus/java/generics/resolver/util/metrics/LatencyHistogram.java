@@ -0,0 +1,133 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with exponential (power of two) buckets: bucket i counts durations
+ * in [2^i, 2^(i+1)) nanoseconds (first bucket also counts 0 and 1 ns, last bucket counts all longer durations).
+ * Percentiles are approximate: bucket upper bound is returned (at most 2 times more than actual value).
+ * <p>
+ * Buckets are striped (like {@link StripedCounter}): each stripe has its own buckets row, so concurrent threads
+ * usually update different cache lines.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Count of buckets (last bucket starts from ~4.5 minutes).
+     */
+    public static final int BUCKETS = 40;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(StripedCounter.STRIPES * BUCKETS);
+    private final StripedCounter total = new StripedCounter();
+
+    /**
+     * @param nanos measured duration
+     */
+    public void record(final long nanos) {
+        buckets.getAndIncrement(StripedCounter.stripe() * BUCKETS + bucket(nanos));
+        total.add(nanos);
+    }
+
+    /**
+     * @return count of recorded durations
+     */
+    public long getCount() {
+        long res = 0;
+        for (long count : getBuckets()) {
+            res += count;
+        }
+        return res;
+    }
+
+    /**
+     * @return sum of all recorded durations (nanoseconds)
+     */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * @return mean duration (nanoseconds) or 0 if nothing recorded
+     */
+    public long getMeanNanos() {
+        final long count = getCount();
+        return count == 0 ? 0 : getTotalNanos() / count;
+    }
+
+    /**
+     * @param percentile percentile (from 0 to 100, e.g. 99)
+     * @return upper bound of bucket, containing percentile (nanoseconds) or 0 if nothing recorded
+     */
+    public long getPercentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100] range: " + percentile);
+        }
+        final long[] counts = getBuckets();
+        long count = 0;
+        for (long value : counts) {
+            count += value;
+        }
+        long res = 0;
+        if (count > 0) {
+            final long target = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= target) {
+                    res = upperBound(i);
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @return durations count per bucket (bucket i for [2^i, 2^(i+1)) ns)
+     */
+    public long[] getBuckets() {
+        final long[] res = new long[BUCKETS];
+        for (int stripe = 0; stripe < StripedCounter.STRIPES; stripe++) {
+            for (int i = 0; i < BUCKETS; i++) {
+                res[i] += buckets.get(stripe * BUCKETS + i);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Resets histogram (concurrent updates may be lost).
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        total.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%s, mean=%sus, p50=%sus, p99=%sus, total=%sms",
+                getCount(), toMicros(getMeanNanos()), toMicros(getPercentileNanos(50)),
+                toMicros(getPercentileNanos(99)), TimeUnit.NANOSECONDS.toMillis(getTotalNanos()));
+    }
+
+    private static int bucket(final long nanos) {
+        // position of the highest bit
+        final int res = nanos <= 1 ? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+        return Math.min(res, BUCKETS - 1);
+    }
+
+    private static long upperBound(final int bucket) {
+        return (1L << (bucket + 1)) - 1;
+    }
+
+    private static String toMicros(final long nanos) {
+        return String.format(Locale.ENGLISH, "%.1f", nanos / 1000d);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+/**
+ * Resolver metrics listener. Register custom implementation with
+ * {@link ResolverMetrics#setListener(MetricsListener)} to export resolver costs into monitoring system
+ * (or use {@link StripedMetricsListener} counters).
+ * <p>
+ * Methods are called synchronously from resolution threads (possibly concurrently), so implementation must be
+ * thread safe and fast (e.g. only increment counters). Listener must not call resolver api (to avoid recursion).
+ * Durations are in nanoseconds.
+ *
+ * @author Vyacheslav Rusakov
+ * @see StripedMetricsListener
+ * @since 16.10.2026
+ */
+public interface MetricsListener {
+
+    /**
+     * Descriptor found in {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory} cache.
+     *
+     * @param type    root class (or inlying context class)
+     * @param inlying true for inlying contexts cache, false for descriptors cache
+     */
+    void descriptorCacheHit(Class<?> type, boolean inlying);
+
+    /**
+     * Descriptor not found in {@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory} cache (or cache
+     * disabled) and will be resolved (resolution is reported with {@link #hierarchyResolved(Class, int, boolean,
+     * long)}).
+     *
+     * @param type    root class (or inlying context class)
+     * @param inlying true for inlying contexts cache, false for descriptors cache
+     */
+    void descriptorCacheMiss(Class<?> type, boolean inlying);
+
+    /**
+     * Hierarchy resolved with {@link ru.vyarus.java.generics.resolver.util.GenericInfoUtils#create(Class,
+     * Class[])} (or other create method).
+     *
+     * @param type           root class
+     * @param composingTypes count of types in resolved hierarchy
+     * @param inlying        true for inlying context (type resolved in context of other class)
+     * @param nanos          resolution duration
+     */
+    void hierarchyResolved(Class<?> type, int composingTypes, boolean inlying, long nanos);
+
+    /**
+     * Types walked with {@link ru.vyarus.java.generics.resolver.util.walk.TypesWalker#walk(java.lang.reflect.Type,
+     * java.lang.reflect.Type, ru.vyarus.java.generics.resolver.util.walk.TypesVisitor)}.
+     *
+     * @param steps count of compared type pairs
+     * @param depth maximum walk depth (1 for simple types)
+     * @param nanos walk duration
+     */
+    void typesWalked(int steps, int depth, long nanos);
+
+    /**
+     * Common type computed with {@link ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory#build(
+     * java.lang.reflect.Type, java.lang.reflect.Type, boolean)}.
+     *
+     * @param cached true if result was found in {@link ru.vyarus.java.generics.resolver.util.cache.CommonTypeCache}
+     * @param nanos  computation duration
+     */
+    void commonTypeBuilt(boolean cached, long nanos);
+
+    /**
+     * Instance type built with {@link ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory#build(
+     * ru.vyarus.java.generics.resolver.util.type.instance.InstanceRetention, Object...)}.
+     *
+     * @param instances count of provided instances
+     * @param nanos     build duration
+     */
+    void instanceTypeBuilt(int instances, long nanos);
+}
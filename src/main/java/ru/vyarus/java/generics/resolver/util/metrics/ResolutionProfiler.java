@@ -0,0 +1,211 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Diagnostic mode for finding pathological hierarchies (e.g. deep proxies or complex recursive generic bounds),
+ * dominating application warm-up. Records resolution costs per class ({@link TypeProfile}):
+ * <ul>
+ * <li>Hierarchy analysis time and composing types count (class is resolution root)</li>
+ * <li>Declaration generics resolution time (generics resolved by declared bounds)</li>
+ * <li>Types walks (compatibility checks) count and time (for both walked types)</li>
+ * <li>Repeated descriptor cache misses (class resolved more than once)</li>
+ * </ul>
+ * Use {@link #report(int)} to get classes, ranked by total resolution time (or {@link #getProfiles()} for raw
+ * data).
+ * <p>
+ * Profiler is disabled by default. It could be enabled with system property or environment variable
+ * {@code System.setProperty(ResolutionProfiler.PROFILER_PROPERTY, 'true')} (property value checked on class
+ * initialization) or with {@link #enable()}. When disabled, the only overhead is volatile field read.
+ * <p>
+ * Note that profiler references profiled classes (use {@link #disable()} or {@link #clear()} to release them).
+ * Lazy hierarchies ({@link ru.vyarus.java.generics.resolver.context.GenericsInfoFactory#LAZY_PROPERTY}) are not
+ * profiled.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class ResolutionProfiler {
+
+    /**
+     * System property or environment variable name to enable profiler.
+     * If value is 'true' - profiler enabled, otherwise disabled.
+     */
+    public static final String PROFILER_PROPERTY = ResolutionProfiler.class.getName() + ".enabled";
+
+    private static final ConcurrentMap<Class<?>, TypeProfile> PROFILES =
+            new ConcurrentHashMap<Class<?>, TypeProfile>();
+
+    private static volatile boolean enabled = Boolean.parseBoolean(
+            System.getProperty(PROFILER_PROPERTY, System.getenv(PROFILER_PROPERTY)));
+
+    private ResolutionProfiler() {
+    }
+
+    /**
+     * @return true if profiler enabled, false otherwise
+     * @see #PROFILER_PROPERTY
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables profiler.
+     */
+    public static void enable() {
+        System.setProperty(PROFILER_PROPERTY, Boolean.TRUE.toString());
+        enabled = true;
+    }
+
+    /**
+     * Disables profiler and clears collected data.
+     */
+    public static void disable() {
+        System.setProperty(PROFILER_PROPERTY, Boolean.FALSE.toString());
+        enabled = false;
+        clear();
+    }
+
+    /**
+     * Removes collected data.
+     */
+    public static void clear() {
+        PROFILES.clear();
+    }
+
+    /**
+     * @param type class
+     * @return collected class profile or null if class was not profiled
+     */
+    public static TypeProfile getProfile(final Class<?> type) {
+        return PROFILES.get(type);
+    }
+
+    /**
+     * @return all collected profiles, ordered by total time (the most expensive first)
+     */
+    public static List<TypeProfile> getProfiles() {
+        final List<TypeProfile> res = new ArrayList<TypeProfile>(PROFILES.values());
+        Collections.sort(res, new Comparator<TypeProfile>() {
+            @Override
+            public int compare(final TypeProfile one, final TypeProfile two) {
+                final long oneTime = one.getTotalTime();
+                final long twoTime = two.getTotalTime();
+                return oneTime > twoTime ? -1 : (oneTime == twoTime ? 0 : 1);
+            }
+        });
+        return res;
+    }
+
+    /**
+     * @param limit maximum count of classes in report
+     * @return the most expensive classes report
+     */
+    public static String report(final int limit) {
+        final List<TypeProfile> profiles = getProfiles();
+        final int count = Math.min(limit, profiles.size());
+        final StringBuilder res = new StringBuilder(String.format(Locale.ENGLISH,
+                "Generics resolution profile (top %s of %s classes)%n", count, profiles.size()))
+                .append(String.format(Locale.ENGLISH, "%10s %10s %8s %7s %10s %8s %10s %8s  %s%n",
+                        "total ms", "analyze ms", "resolved", "types", "raw ms", "walks", "walk ms",
+                        "repeated", "class"));
+        for (TypeProfile profile : profiles.subList(0, count)) {
+            res.append(String.format(Locale.ENGLISH, "%10.3f %10.3f %8s %7s %10.3f %8s %10.3f %8s  %s%n",
+                    toMillis(profile.getTotalTime()), toMillis(profile.getAnalyzeTime()), profile.getResolutions(),
+                    profile.getComposingTypes(), toMillis(profile.getRawGenericsTime()), profile.getWalks(),
+                    toMillis(profile.getWalkTime()), profile.getRepeatedMisses(), profile.getType().getName()));
+        }
+        return res.toString();
+    }
+
+    /**
+     * Operation start time. When profiler disabled, time is not measured.
+     *
+     * @return current time in nanoseconds or 0 if profiler disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Internal hook: hierarchy analyzed.
+     *
+     * @param type           root class
+     * @param composingTypes count of types in hierarchy
+     * @param start          analysis start ({@link #start()})
+     */
+    public static void analyzed(final Class<?> type, final int composingTypes, final long start) {
+        if (enabled && start != 0) {
+            profile(type).analyzed(composingTypes, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Internal hook: class declaration generics resolved.
+     *
+     * @param type  class
+     * @param start resolution start ({@link #start()})
+     */
+    public static void rawGenerics(final Class<?> type, final long start) {
+        if (enabled && start != 0) {
+            profile(type).rawGenerics(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Internal hook: types walked.
+     *
+     * @param one   first type
+     * @param two   second type
+     * @param start walk start ({@link #start()})
+     */
+    public static void walked(final Type one, final Type two, final long start) {
+        if (enabled && start != 0) {
+            final long nanos = System.nanoTime() - start;
+            final Class<?> oneType = GenericsUtils.resolveClassIgnoringVariables(one);
+            final Class<?> twoType = GenericsUtils.resolveClassIgnoringVariables(two);
+            profile(oneType).walked(nanos);
+            if (oneType != twoType) {
+                profile(twoType).walked(nanos);
+            }
+        }
+    }
+
+    /**
+     * Internal hook: descriptor is not found in cache and will be resolved.
+     *
+     * @param type root class
+     */
+    public static void cacheMiss(final Class<?> type) {
+        if (enabled) {
+            profile(type).missed();
+        }
+    }
+
+    private static TypeProfile profile(final Class<?> type) {
+        TypeProfile res = PROFILES.get(type);
+        if (res == null) {
+            res = new TypeProfile(type);
+            final TypeProfile prev = PROFILES.putIfAbsent(type, res);
+            if (prev != null) {
+                res = prev;
+            }
+        }
+        return res;
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
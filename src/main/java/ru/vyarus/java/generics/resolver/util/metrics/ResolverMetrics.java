@@ -0,0 +1,155 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfo;
+
+/**
+ * Resolver metrics registration point. By default, metrics are not collected: no-op listener is used and
+ * resolver does not even measure time (the only overhead is volatile field read).
+ * <p>
+ * Register listener to collect metrics: {@code ResolverMetrics.setListener(new StripedMetricsListener())}.
+ * Only one listener could be registered (use custom composite listener to notify multiple listeners).
+ * <p>
+ * Static event methods are used by resolver internally (not intended to be called by user code).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class ResolverMetrics {
+
+    private static final MetricsListener NO_OP = new NoOpListener();
+
+    private static volatile MetricsListener listener = NO_OP;
+
+    private ResolverMetrics() {
+    }
+
+    /**
+     * @param listener metrics listener or null to disable metrics
+     */
+    public static void setListener(final MetricsListener listener) {
+        ResolverMetrics.listener = listener == null ? NO_OP : listener;
+    }
+
+    /**
+     * @return registered listener (no-op listener when metrics disabled)
+     */
+    public static MetricsListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @return true if metrics listener registered, false otherwise
+     */
+    public static boolean isEnabled() {
+        return listener != NO_OP;
+    }
+
+    /**
+     * Operation start time for duration measurement. When metrics disabled, time is not measured.
+     *
+     * @return current time in nanoseconds or 0 if metrics disabled
+     */
+    public static long start() {
+        return listener == NO_OP ? 0 : System.nanoTime();
+    }
+
+    /**
+     * @param type    root class
+     * @param inlying true for inlying contexts cache
+     * @param hit     true if descriptor found in cache
+     */
+    public static void descriptorCache(final Class<?> type, final boolean inlying, final boolean hit) {
+        final MetricsListener listener = ResolverMetrics.listener;
+        if (listener != NO_OP) {
+            if (hit) {
+                listener.descriptorCacheHit(type, inlying);
+            } else {
+                listener.descriptorCacheMiss(type, inlying);
+            }
+        }
+    }
+
+    /**
+     * @param info    resolved descriptor
+     * @param inlying true for inlying context
+     * @param start   resolution start ({@link #start()})
+     */
+    public static void hierarchyResolved(final GenericsInfo info, final boolean inlying, final long start) {
+        final MetricsListener listener = ResolverMetrics.listener;
+        if (listener != NO_OP && start != 0) {
+            listener.hierarchyResolved(info.getRootClass(), info.getComposingTypes().size(), inlying,
+                    System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param steps walked type pairs
+     * @param depth maximum depth
+     * @param start walk start ({@link #start()})
+     */
+    public static void typesWalked(final int steps, final int depth, final long start) {
+        final MetricsListener listener = ResolverMetrics.listener;
+        if (listener != NO_OP && start != 0) {
+            listener.typesWalked(steps, depth, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param cached true if result was cached
+     * @param start  computation start ({@link #start()})
+     */
+    public static void commonTypeBuilt(final boolean cached, final long start) {
+        final MetricsListener listener = ResolverMetrics.listener;
+        if (listener != NO_OP && start != 0) {
+            listener.commonTypeBuilt(cached, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param instances count of instances
+     * @param start     build start ({@link #start()})
+     */
+    public static void instanceTypeBuilt(final int instances, final long start) {
+        final MetricsListener listener = ResolverMetrics.listener;
+        if (listener != NO_OP && start != 0) {
+            listener.instanceTypeBuilt(instances, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Default listener (metrics disabled).
+     */
+    private static final class NoOpListener implements MetricsListener {
+
+        @Override
+        public void descriptorCacheHit(final Class<?> type, final boolean inlying) {
+            // no-op
+        }
+
+        @Override
+        public void descriptorCacheMiss(final Class<?> type, final boolean inlying) {
+            // no-op
+        }
+
+        @Override
+        public void hierarchyResolved(final Class<?> type, final int composingTypes,
+                                      final boolean inlying, final long nanos) {
+            // no-op
+        }
+
+        @Override
+        public void typesWalked(final int steps, final int depth, final long nanos) {
+            // no-op
+        }
+
+        @Override
+        public void commonTypeBuilt(final boolean cached, final long nanos) {
+            // no-op
+        }
+
+        @Override
+        public void instanceTypeBuilt(final int instances, final long nanos) {
+            // no-op
+        }
+    }
+}
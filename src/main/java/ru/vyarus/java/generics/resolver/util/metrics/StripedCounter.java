@@ -0,0 +1,83 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free counter for highly concurrent updates (java 6 compatible analog of {@code LongAdder}). Value is split
+ * into stripes (selected by thread) so concurrent threads usually update different cells. Each stripe cell is
+ * padded to occupy its own cache line (to avoid false sharing).
+ * <p>
+ * Sum is not an atomic snapshot: concurrent updates may be partially counted.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class StripedCounter {
+
+    /**
+     * Count of stripes: power of two, not less then available processors (max 64).
+     */
+    static final int STRIPES = stripes();
+    // 8 longs = 64 bytes (cache line)
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    /**
+     * Increment counter.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * @param value value to add
+     */
+    public void add(final long value) {
+        cells.getAndAdd(stripe() * PADDING, value);
+    }
+
+    /**
+     * @return current counter value
+     */
+    public long sum() {
+        long res = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            res += cells.get(i * PADDING);
+        }
+        return res;
+    }
+
+    /**
+     * Resets counter to 0 (concurrent updates may be lost).
+     */
+    public void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(sum());
+    }
+
+    /**
+     * @return stripe index for current thread
+     */
+    static int stripe() {
+        final long id = Thread.currentThread().getId();
+        // mix bits to spread sequential thread ids
+        final int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private static int stripes() {
+        int res = 1;
+        final int cpus = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+        while (res < cpus) {
+            res <<= 1;
+        }
+        return res;
+    }
+}
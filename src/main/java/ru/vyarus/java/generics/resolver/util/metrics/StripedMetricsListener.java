@@ -0,0 +1,209 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics listener accumulating counters and latency histograms (lock-free, suitable for production use).
+ * Register with {@code ResolverMetrics.setListener(new StripedMetricsListener())} and periodically export
+ * values into monitoring system (or just log {@link #toString()} report).
+ * <p>
+ * Counters are cumulative (since creation or last {@link #reset()}).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ResolverMetrics
+ * @since 16.10.2026
+ */
+@SuppressWarnings("PMD.TooManyFields")
+public class StripedMetricsListener implements MetricsListener {
+
+    private final StripedCounter descriptorHits = new StripedCounter();
+    private final StripedCounter descriptorMisses = new StripedCounter();
+    private final StripedCounter inlyingHits = new StripedCounter();
+    private final StripedCounter inlyingMisses = new StripedCounter();
+    private final LatencyHistogram hierarchy = new LatencyHistogram();
+    private final LatencyHistogram inlyingHierarchy = new LatencyHistogram();
+    private final StripedCounter composingTypes = new StripedCounter();
+    private final LatencyHistogram walk = new LatencyHistogram();
+    private final StripedCounter walkSteps = new StripedCounter();
+    private final AtomicInteger walkMaxDepth = new AtomicInteger();
+    private final LatencyHistogram commonType = new LatencyHistogram();
+    private final StripedCounter commonTypeCached = new StripedCounter();
+    private final LatencyHistogram instanceType = new LatencyHistogram();
+    private final StripedCounter instances = new StripedCounter();
+
+    @Override
+    public void descriptorCacheHit(final Class<?> type, final boolean inlying) {
+        (inlying ? inlyingHits : descriptorHits).increment();
+    }
+
+    @Override
+    public void descriptorCacheMiss(final Class<?> type, final boolean inlying) {
+        (inlying ? inlyingMisses : descriptorMisses).increment();
+    }
+
+    @Override
+    public void hierarchyResolved(final Class<?> type, final int composingTypes,
+                                  final boolean inlying, final long nanos) {
+        (inlying ? inlyingHierarchy : hierarchy).record(nanos);
+        this.composingTypes.add(composingTypes);
+    }
+
+    @Override
+    public void typesWalked(final int steps, final int depth, final long nanos) {
+        walk.record(nanos);
+        walkSteps.add(steps);
+        int max = walkMaxDepth.get();
+        while (depth > max && !walkMaxDepth.compareAndSet(max, depth)) {
+            max = walkMaxDepth.get();
+        }
+    }
+
+    @Override
+    public void commonTypeBuilt(final boolean cached, final long nanos) {
+        commonType.record(nanos);
+        if (cached) {
+            commonTypeCached.increment();
+        }
+    }
+
+    @Override
+    public void instanceTypeBuilt(final int instances, final long nanos) {
+        instanceType.record(nanos);
+        this.instances.add(instances);
+    }
+
+    /**
+     * @return descriptors cache hits
+     */
+    public long getDescriptorHits() {
+        return descriptorHits.sum();
+    }
+
+    /**
+     * @return descriptors cache misses (or requests with disabled cache)
+     */
+    public long getDescriptorMisses() {
+        return descriptorMisses.sum();
+    }
+
+    /**
+     * @return inlying contexts cache hits
+     */
+    public long getInlyingHits() {
+        return inlyingHits.sum();
+    }
+
+    /**
+     * @return inlying contexts cache misses
+     */
+    public long getInlyingMisses() {
+        return inlyingMisses.sum();
+    }
+
+    /**
+     * @return current count of cached descriptors
+     */
+    public long getCacheSize() {
+        return GenericsInfoFactory.getCacheSize();
+    }
+
+    /**
+     * @return root hierarchies resolution durations
+     */
+    public LatencyHistogram getHierarchy() {
+        return hierarchy;
+    }
+
+    /**
+     * @return inlying hierarchies resolution durations
+     */
+    public LatencyHistogram getInlyingHierarchy() {
+        return inlyingHierarchy;
+    }
+
+    /**
+     * @return total count of composing types in all resolved hierarchies
+     */
+    public long getComposingTypes() {
+        return composingTypes.sum();
+    }
+
+    /**
+     * @return types walk durations
+     */
+    public LatencyHistogram getWalk() {
+        return walk;
+    }
+
+    /**
+     * @return total count of walked type pairs
+     */
+    public long getWalkSteps() {
+        return walkSteps.sum();
+    }
+
+    /**
+     * @return maximum types walk depth
+     */
+    public int getWalkMaxDepth() {
+        return walkMaxDepth.get();
+    }
+
+    /**
+     * @return common type computation durations
+     */
+    public LatencyHistogram getCommonType() {
+        return commonType;
+    }
+
+    /**
+     * @return count of common types found in cache
+     */
+    public long getCommonTypeCached() {
+        return commonTypeCached.sum();
+    }
+
+    /**
+     * @return instance type build durations
+     */
+    public LatencyHistogram getInstanceType() {
+        return instanceType;
+    }
+
+    /**
+     * @return total count of instances used for instance types
+     */
+    public long getInstances() {
+        return instances.sum();
+    }
+
+    /**
+     * Resets all counters (concurrent updates may be lost).
+     */
+    public void reset() {
+        for (StripedCounter counter : new StripedCounter[]{descriptorHits, descriptorMisses, inlyingHits,
+                inlyingMisses, composingTypes, walkSteps, commonTypeCached, instances, }) {
+            counter.reset();
+        }
+        for (LatencyHistogram histogram : new LatencyHistogram[]{hierarchy, inlyingHierarchy, walk, commonType,
+                instanceType, }) {
+            histogram.reset();
+        }
+        walkMaxDepth.set(0);
+    }
+
+    @Override
+    public String toString() {
+        final String nl = String.format("%n");
+        return "descriptors cache: hits=" + getDescriptorHits() + ", misses=" + getDescriptorMisses()
+                + ", size=" + getCacheSize() + nl
+                + "inlying cache: hits=" + getInlyingHits() + ", misses=" + getInlyingMisses() + nl
+                + "hierarchy: " + hierarchy + ", composing types=" + getComposingTypes() + nl
+                + "inlying hierarchy: " + inlyingHierarchy + nl
+                + "types walk: " + walk + ", steps=" + getWalkSteps() + ", max depth=" + getWalkMaxDepth() + nl
+                + "common type: " + commonType + ", cached=" + getCommonTypeCached() + nl
+                + "instance type: " + instanceType + ", instances=" + getInstances();
+    }
+}
@@ -0,0 +1,130 @@
+package ru.vyarus.java.generics.resolver.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolution costs of one class, collected by {@link ResolutionProfiler}. Values are updated concurrently (not
+ * an atomic snapshot). All durations are in nanoseconds.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class TypeProfile {
+
+    private final Class<?> type;
+    private final AtomicLong resolutions = new AtomicLong();
+    private final AtomicLong analyzeTime = new AtomicLong();
+    private final AtomicLong maxAnalyzeTime = new AtomicLong();
+    private volatile int composingTypes;
+    private final AtomicLong rawGenericsTime = new AtomicLong();
+    private final AtomicLong walks = new AtomicLong();
+    private final AtomicLong walkTime = new AtomicLong();
+    private final AtomicLong repeatedMisses = new AtomicLong();
+
+    TypeProfile(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @return profiled class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return count of class hierarchy resolutions (class was resolution root)
+     */
+    public long getResolutions() {
+        return resolutions.get();
+    }
+
+    /**
+     * @return total time of class hierarchy analysis
+     */
+    public long getAnalyzeTime() {
+        return analyzeTime.get();
+    }
+
+    /**
+     * @return maximum time of single class hierarchy analysis
+     */
+    public long getMaxAnalyzeTime() {
+        return maxAnalyzeTime.get();
+    }
+
+    /**
+     * @return count of composing types in class hierarchy (last resolution)
+     */
+    public int getComposingTypes() {
+        return composingTypes;
+    }
+
+    /**
+     * @return total time of class declaration generics resolution (raw generics by declared bounds)
+     */
+    public long getRawGenericsTime() {
+        return rawGenericsTime.get();
+    }
+
+    /**
+     * @return count of types walks with this class as one of walked types
+     */
+    public long getWalks() {
+        return walks.get();
+    }
+
+    /**
+     * @return total time of types walks with this class
+     */
+    public long getWalkTime() {
+        return walkTime.get();
+    }
+
+    /**
+     * Repeated miss is descriptors cache miss for already resolved class (cache disabled or cleared, descriptor
+     * evicted or garbage collected).
+     *
+     * @return count of repeated descriptor cache misses
+     */
+    public long getRepeatedMisses() {
+        return repeatedMisses.get();
+    }
+
+    /**
+     * @return total class resolution cost (analysis, raw generics and walks time)
+     */
+    public long getTotalTime() {
+        return getAnalyzeTime() + getRawGenericsTime() + getWalkTime();
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + " " + getTotalTime() + "ns";
+    }
+
+    void analyzed(final int composingTypes, final long nanos) {
+        resolutions.incrementAndGet();
+        analyzeTime.addAndGet(nanos);
+        this.composingTypes = composingTypes;
+        long max = maxAnalyzeTime.get();
+        while (nanos > max && !maxAnalyzeTime.compareAndSet(max, nanos)) {
+            max = maxAnalyzeTime.get();
+        }
+    }
+
+    void rawGenerics(final long nanos) {
+        rawGenericsTime.addAndGet(nanos);
+    }
+
+    void walked(final long nanos) {
+        walks.incrementAndGet();
+        walkTime.addAndGet(nanos);
+    }
+
+    void missed() {
+        if (resolutions.get() > 0) {
+            repeatedMisses.incrementAndGet();
+        }
+    }
+}
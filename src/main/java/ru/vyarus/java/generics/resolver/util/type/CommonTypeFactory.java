@@ -1,20 +1,29 @@
 package ru.vyarus.java.generics.resolver.util.type;
 
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
 import ru.vyarus.java.generics.resolver.util.ArrayTypeUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.cache.CommonTypeCache;
 import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics;
 
 import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Calculates common (base) type for provided types (maximum type to which both types could be downcasted).
@@ -30,6 +39,8 @@ import java.util.*;
 @SuppressWarnings("PMD.GodClass")
 public final class CommonTypeFactory {
 
+    // minimal count of distinct types for parallel reduction task
+    private static final int PARALLEL_CHUNK = 16;
     // specificity comparator (more specific types first)
     private static final Comparator<Type> TYPE_COMPARATOR = Collections.reverseOrder(new TypesComparator());
 
@@ -59,19 +70,169 @@ public final class CommonTypeFactory {
      * @param alwaysIncludeInterfaces true to resolve not only base class but also all common interfaces, false
      *                                to look common class only and lookup interfaces inly when no base class found
      * @return maximum class assignable to both types or {@code Object} if classes are incompatible
+     * @see CommonTypeCache for optional results cache
      */
     public static Type build(final Type one,
                              final Type two,
                              final boolean alwaysIncludeInterfaces) {
+        final long start = ResolverMetrics.start();
         // get rid of possible variables
         final Type first = cleanupTypeForComparison(one);
         final Type second = cleanupTypeForComparison(two);
 
+        final Type cached = CommonTypeCache.get(first, second, alwaysIncludeInterfaces);
+        if (cached != null) {
+            ResolverMetrics.commonTypeBuilt(true, start);
+            return cached;
+        }
+        // paths cache used only to prevent cycles during current resolution (may contain placeholders)
         final Type res = buildImpl(first, second, alwaysIncludeInterfaces, new PathsCache());
         // during resolution wildcard types may be used as temporal placeholders (to prevent cycles)
         // and after resolution there might be wildcards with only one upper bound
         // so we need to repackage type to get rid of such wildcards
-        return GenericsUtils.resolveTypeVariables(res, EmptyGenericsMap.getInstance());
+        final Type common = CommonTypeCache.put(first, second, alwaysIncludeInterfaces,
+                GenericsUtils.resolveTypeVariables(res, EmptyGenericsMap.getInstance()));
+        ResolverMetrics.commonTypeBuilt(false, start);
+        return common;
+    }
+
+    /**
+     * Builds common type for multiple types (sequential reduction: common type of first two types, then common
+     * type of result with the third type, etc.). Duplicate types are removed first (a duplicate could not change
+     * already computed common type), so calculation cost depends on distinct types count and not on provided types
+     * count. Pairwise results are cached if {@link CommonTypeCache} is enabled.
+     *
+     * @param types                   types to build common type for
+     * @param alwaysIncludeInterfaces true to resolve not only base class but also all common interfaces, false
+     *                                to look common class only and lookup interfaces inly when no base class found
+     * @return maximum class assignable to all types or {@code Object} if classes are incompatible
+     * @throws IllegalArgumentException if no types provided
+     * @see #build(Type, Type, boolean)
+     */
+    public static Type build(final Collection<? extends Type> types, final boolean alwaysIncludeInterfaces) {
+        return reduce(distinct(types), alwaysIncludeInterfaces);
+    }
+
+    /**
+     * Same as {@link #build(Collection, boolean)}, but with parallel reduction for large number of distinct types:
+     * distinct types are split into chunks, chunks are reduced in parallel with provided executor and then chunk
+     * results are reduced (in chunks order).
+     * <p>
+     * Common type calculation is not associative when common interfaces are involved (e.g. without interfaces,
+     * {@code Integer} and {@code Double} are reduced to {@code Number}, which has less common interfaces with
+     * {@code String} than {@code Double}), so parallel
+     * result is used only when it is the same as sequential: interfaces are not included, all types are classes
+     * and their common class (without generics) is found. Otherwise (or when distinct types count is small),
+     * types are reduced sequentially in current thread. Result is always the same as for
+     * {@link #build(Collection, boolean)}.
+     *
+     * @param types                   types to build common type for
+     * @param alwaysIncludeInterfaces true to resolve not only base class but also all common interfaces, false
+     *                                to look common class only and lookup interfaces inly when no base class found
+     * @param executor                executor for parallel reduction
+     * @return maximum class assignable to all types or {@code Object} if classes are incompatible
+     * @throws IllegalArgumentException if no types provided
+     * @throws IllegalStateException    if reduction was interrupted
+     */
+    public static Type build(final Collection<? extends Type> types,
+                             final boolean alwaysIncludeInterfaces,
+                             final ExecutorService executor) {
+        final List<Type> distinct = distinct(types);
+        final int chunk = Math.max(PARALLEL_CHUNK,
+                (distinct.size() + Runtime.getRuntime().availableProcessors() - 1)
+                        / Runtime.getRuntime().availableProcessors());
+        Type res = null;
+        if (!alwaysIncludeInterfaces && distinct.size() > chunk && isClasses(distinct)) {
+            final List<Future<Type>> parts = new ArrayList<Future<Type>>();
+            for (int i = 0; i < distinct.size(); i += chunk) {
+                final List<Type> part = distinct.subList(i, Math.min(i + chunk, distinct.size()));
+                parts.add(executor.submit(new Callable<Type>() {
+                    @Override
+                    public Type call() {
+                        return reduce(part, false);
+                    }
+                }));
+            }
+            final List<Type> results = new ArrayList<Type>(parts.size());
+            for (Future<Type> part : parts) {
+                results.add(waitFor(part));
+            }
+            res = reduce(results, false);
+        }
+        // parallel result is exact only when common class found (raw classes intersection is associative)
+        if (res == null || !isExactClass(res, distinct)) {
+            res = reduce(distinct, alwaysIncludeInterfaces);
+        }
+        return res;
+    }
+
+    private static List<Type> distinct(final Collection<? extends Type> types) {
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("No types provided");
+        }
+        return new ArrayList<Type>(new LinkedHashSet<Type>(types));
+    }
+
+    /**
+     * @param types types to check
+     * @return true if all types are classes (possibly parameterized), but not interfaces or arrays
+     */
+    private static boolean isClasses(final List<Type> types) {
+        boolean res = true;
+        for (Type type : types) {
+            final Type raw = type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType() : type;
+            if (!(raw instanceof Class) || ((Class) raw).isInterface() || ((Class) raw).isArray()) {
+                res = false;
+                break;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * When reduced type is a class (not {@code Object}) then common class was found on each reduction step (once
+     * interfaces appear, reduction result could never become class again). Common class does not depend on
+     * reduction order, but its generics do, so only class without generics could be accepted.
+     *
+     * @param res   parallel reduction result
+     * @param types reduced types
+     * @return true if result is the same as sequential reduction result
+     */
+    private static boolean isExactClass(final Type res, final List<Type> types) {
+        boolean exact = res instanceof Class && res != Object.class
+                && ((Class) res).getTypeParameters().length == 0;
+        if (exact) {
+            for (Type type : types) {
+                // parameterized type could be selected as is
+                if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == res) {
+                    exact = false;
+                    break;
+                }
+            }
+        }
+        return exact;
+    }
+
+    private static Type reduce(final List<Type> types, final boolean alwaysIncludeInterfaces) {
+        Type res = null;
+        for (Type type : types) {
+            res = res == null ? type : build(res, type, alwaysIncludeInterfaces);
+        }
+        return res;
+    }
+
+    private static Type waitFor(final Future<Type> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Common type calculation interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException("Common type calculation failed", ex.getCause());
+        }
     }
 
     private static Type buildImpl(final Type first,
@@ -197,7 +358,7 @@ public final class CommonTypeFactory {
                 if (type != Object.class) {
                     if (type instanceof WildcardType) {
                         // unwrap wildcard because we actually need only all classes
-                        mergeWildcardTypes(res, ((WildcardType) type).getUpperBounds());
+                        mergeWildcardTypes(res, TypeContainers.upperBounds((WildcardType) type));
                     } else {
                         mergeWildcardTypes(res, type);
                     }
@@ -275,8 +436,8 @@ public final class CommonTypeFactory {
                                           final PathsCache cache) {
         // resolve complete hierarchies, preserving all generics
         // (even if types are ParameterizedType it will be counted)
-        final Map<Class<?>, LinkedHashMap<String, Type>> firstContext = resolveHierarchy(first);
-        final Map<Class<?>, LinkedHashMap<String, Type>> secondContext = resolveHierarchy(second);
+        final Map<Class<?>, ImmutableGenericsMap> firstContext = resolveHierarchy(first);
+        final Map<Class<?>, ImmutableGenericsMap> secondContext = resolveHierarchy(second);
 
         // all types in hierarchies
         final Set<Class<?>> firstComposingTypes = new HashSet<Class<?>>(firstContext.keySet());
@@ -309,7 +470,7 @@ public final class CommonTypeFactory {
      * @param type type to build hierarchy for
      * @return complete type hierarchy with resolved generics
      */
-    private static Map<Class<?>, LinkedHashMap<String, Type>> resolveHierarchy(final Type type) {
+    private static Map<Class<?>, ImmutableGenericsMap> resolveHierarchy(final Type type) {
         return GenericsResolutionUtils.resolve(
                 GenericsUtils.resolveClass(type),
                 GenericsResolutionUtils.resolveGenerics(type, EmptyGenericsMap.getInstance()));
@@ -334,8 +495,8 @@ public final class CommonTypeFactory {
      */
     private static Type buildResultType(final Class<?> type,
                                         final Set<Class<?>> contracts,
-                                        final Map<Class<?>, LinkedHashMap<String, Type>> firstContext,
-                                        final Map<Class<?>, LinkedHashMap<String, Type>> secondContext,
+                                        final Map<Class<?>, ImmutableGenericsMap> firstContext,
+                                        final Map<Class<?>, ImmutableGenericsMap> secondContext,
                                         final boolean alwaysIncludeInterfaces,
                                         final PathsCache cache) {
 
@@ -412,8 +573,8 @@ public final class CommonTypeFactory {
      * @return complete common type
      */
     private static Type buildCommonType(final Class<?> type,
-                                        final Map<Class<?>, LinkedHashMap<String, Type>> firstContext,
-                                        final Map<Class<?>, LinkedHashMap<String, Type>> secondContext,
+                                        final Map<Class<?>, ImmutableGenericsMap> firstContext,
+                                        final Map<Class<?>, ImmutableGenericsMap> secondContext,
                                         final boolean alwaysIncludeInterfaces,
                                         final PathsCache cache) {
         final TypeVariable<? extends Class<?>>[] typeParameters = type.getTypeParameters();
@@ -601,10 +762,10 @@ public final class CommonTypeFactory {
                 }
             } else {
                 // try to use different type if possible (to avoid Some<Some> cases)
-                if (res.equals(root)
-                        && bound instanceof WildcardType && (((WildcardType) bound).getUpperBounds()).length > 1) {
+                if (res.equals(root) && bound instanceof WildcardType
+                        && TypeContainers.upperBounds((WildcardType) bound).length > 1) {
                     // use second type by specificity
-                    res = GenericsUtils.resolveClass(((WildcardType) bound).getUpperBounds()[1]);
+                    res = GenericsUtils.resolveClass(TypeContainers.upperBounds((WildcardType) bound)[1]);
                 }
             }
             this.upperBound = new Type[]{res};
@@ -0,0 +1,258 @@
+package ru.vyarus.java.generics.resolver.util.type;
+
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.type.instance.GenericArrayInstanceType;
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceRetention;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Incremental version of {@link TypeUtils#getInstanceType(Object...)} for cases when instances could not be
+ * collected into array (e.g. streamed records). Instances are provided one by one (or with iterator) and
+ * {@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType} could be built at any moment:
+ * <pre>{@code
+ * InstanceTypeAccumulator acc = InstanceTypeAccumulator.reservoir(100);
+ * while (stream.hasNext()) {
+ *     acc.add(stream.next());
+ * }
+ * Type type = acc.build();
+ * }</pre>
+ * <p>
+ * Median type is updated on each new instance class, so only distinct classes are stored. Instances, referenced
+ * by built instance type, are selected by sampling strategy:
+ * <ul>
+ * <li>{@link #create()} - all instances retained (result is the same as with
+ * {@link TypeUtils#getInstanceType(Object...)})</li>
+ * <li>{@link #firstInstances(int)} - only first N (not null) instances are analyzed and retained, all other
+ * instances are ignored (the cheapest option, but median type could be less precise)</li>
+ * <li>{@link #reservoir(int)} - all instances are used for median type calculation, but only N randomly selected
+ * instances retained (uniform sample)</li>
+ * </ul>
+ * For arrays, array elements are accumulated with the same strategy (for array component type) without
+ * copying.
+ * <p>
+ * Accumulator is not thread safe. Built type is independent from accumulator (accumulation could continue).
+ *
+ * @author Vyacheslav Rusakov
+ * @see InstanceTypeFactory
+ * @since 16.10.2026
+ */
+public final class InstanceTypeAccumulator {
+
+    private final int limit;
+    private final Random random;
+    // distinct classes of all analyzed instances
+    private final Set<Class<?>> classes = new HashSet<Class<?>>();
+    // retained instances
+    private final List<Object> sample = new ArrayList<Object>();
+    private Type median;
+    // count of analyzed (not null) instances
+    private long count;
+    // lazily created accumulator for array elements
+    private InstanceTypeAccumulator component;
+    // retention for built types
+    private InstanceRetention retention = InstanceRetention.STRONG;
+
+    private InstanceTypeAccumulator(final int limit, final Random random) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Sample size must be positive: " + limit);
+        }
+        this.limit = limit;
+        this.random = random;
+    }
+
+    /**
+     * @return accumulator retaining all instances
+     */
+    public static InstanceTypeAccumulator create() {
+        return new InstanceTypeAccumulator(Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * All instances after limit are ignored (not analyzed). Use it when instances are known to be uniform.
+     *
+     * @param limit maximum count of instances to analyze
+     * @return accumulator analyzing only first instances
+     * @throws IllegalArgumentException if limit is not positive
+     */
+    public static InstanceTypeAccumulator firstInstances(final int limit) {
+        return new InstanceTypeAccumulator(limit, null);
+    }
+
+    /**
+     * All instances are analyzed (for median type), but only limited random sample is retained.
+     *
+     * @param size maximum count of retained instances
+     * @return accumulator with reservoir sampling
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static InstanceTypeAccumulator reservoir(final int size) {
+        return reservoir(size, new Random());
+    }
+
+    /**
+     * Same as {@link #reservoir(int)}, but with custom random (e.g. with fixed seed for reproducible results).
+     *
+     * @param size   maximum count of retained instances
+     * @param random random for sampling
+     * @return accumulator with reservoir sampling
+     * @throws IllegalArgumentException if size is not positive
+     */
+    public static InstanceTypeAccumulator reservoir(final int size, final Random random) {
+        return new InstanceTypeAccumulator(size, random);
+    }
+
+    /**
+     * Instances retention for built types (by default, {@link InstanceRetention#STRONG}). Note that
+     * accumulator itself always references sampled instances strongly.
+     *
+     * @param retention instances retention
+     * @return accumulator instance for chained calls
+     */
+    public InstanceTypeAccumulator retention(final InstanceRetention retention) {
+        this.retention = retention;
+        if (component != null) {
+            component.retention(retention);
+        }
+        return this;
+    }
+
+    /**
+     * Nulls are ignored (as in {@link TypeUtils#getInstanceType(Object...)}).
+     *
+     * @param instance instance to analyze
+     * @return accumulator instance for chained calls
+     */
+    public InstanceTypeAccumulator add(final Object instance) {
+        if (instance != null && !isSaturated()) {
+            count++;
+            final Class<?> type = instance.getClass();
+            if (classes.add(type)) {
+                // sequential reduction (same as for instances array)
+                median = median == null ? type : TypeUtils.getCommonType(median, type);
+            }
+            retain(instance);
+            if (instance instanceof Object[]) {
+                addElements((Object[]) instance);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param instances instances to analyze
+     * @return accumulator instance for chained calls
+     */
+    public InstanceTypeAccumulator addAll(final Iterator<?> instances) {
+        while (instances.hasNext() && !isSaturated()) {
+            add(instances.next());
+        }
+        return this;
+    }
+
+    /**
+     * @param instances instances to analyze
+     * @return accumulator instance for chained calls
+     */
+    public InstanceTypeAccumulator addAll(final Iterable<?> instances) {
+        return addAll(instances.iterator());
+    }
+
+    /**
+     * @param instances instances to analyze
+     * @return accumulator instance for chained calls
+     */
+    public InstanceTypeAccumulator addAll(final Object... instances) {
+        for (Object instance : instances) {
+            if (isSaturated()) {
+                break;
+            }
+            add(instance);
+        }
+        return this;
+    }
+
+    /**
+     * @return count of analyzed (not null) instances
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return true if no instances analyzed yet
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Builds type for currently accumulated instances. Result is the same as
+     * {@link TypeUtils#getInstanceType(Object...)} for retained instances, except median type (and array component
+     * type) which is computed for all analyzed instances.
+     *
+     * @return instance type if non null instances present or simple class (arrays class or just {@code Object})
+     */
+    public Type build() {
+        if (median == null) {
+            // null assignable to anything (as Object in assignability logic)
+            return Object.class;
+        }
+        final Object[] instances = sample.toArray();
+        return GenericsUtils.resolveClass(median).isArray()
+                ? buildArrayType(instances) : InstanceTypeFactory.buildType(retention, median, instances);
+    }
+
+    private boolean isSaturated() {
+        // only first instances strategy ignores instances
+        return random == null && count >= limit;
+    }
+
+    private void retain(final Object instance) {
+        if (sample.size() < limit) {
+            sample.add(instance);
+        } else if (random != null) {
+            // reservoir sampling: each instance retained with equal probability
+            final long pos = (long) (random.nextDouble() * count);
+            if (pos < limit) {
+                sample.set((int) pos, instance);
+            }
+        }
+    }
+
+    private void addElements(final Object... elements) {
+        if (component == null) {
+            component = new InstanceTypeAccumulator(limit, random).retention(retention);
+        }
+        component.addAll(elements);
+    }
+
+    private Type buildArrayType(final Object... instances) {
+        // only arrays with non null elements are retained (nothing interesting in empty arrays)
+        final List<Object> arrays = new ArrayList<Object>(instances.length);
+        for (Object instance : instances) {
+            if (instance instanceof Object[] && hasElements((Object[]) instance)) {
+                arrays.add(instance);
+            }
+        }
+        // component could be empty (or not analyzed) only if all arrays are empty
+        return arrays.isEmpty() || component == null || component.isEmpty()
+                ? median : new GenericArrayInstanceType(retention, component.build(), arrays.toArray());
+    }
+
+    private static boolean hasElements(final Object... array) {
+        for (Object obj : array) {
+            if (obj != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,15 +2,18 @@ package ru.vyarus.java.generics.resolver.util.type;
 
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics;
 import ru.vyarus.java.generics.resolver.util.type.instance.GenericArrayInstanceType;
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceRetention;
 import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType;
 import ru.vyarus.java.generics.resolver.util.type.instance.WildcardInstanceType;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Instance analysis logic for {@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType} construction.
@@ -20,6 +23,7 @@ import java.util.List;
  * @see ParameterizedInstanceType
  * @see GenericArrayInstanceType
  * @see WildcardInstanceType
+ * @see InstanceTypeAccumulator for incremental analysis
  * @since 26.03.2019
  */
 public final class InstanceTypeFactory {
@@ -40,19 +44,37 @@ public final class InstanceTypeFactory {
      *
      * @param instances instances to build type for
      * @return instance type if non null instances present or simple class (arrays class or just {@code Object})
+     * @see #build(InstanceRetention, Object...) for custom instances retention
      */
     public static Type build(final Object... instances) {
+        return build(InstanceRetention.STRONG, instances);
+    }
+
+    /**
+     * Same as {@link #build(Object...)}, but with custom instances retention (for all built instance types,
+     * including inner types).
+     *
+     * @param retention instances retention
+     * @param instances instances to build type for
+     * @return instance type if non null instances present or simple class (arrays class or just {@code Object})
+     */
+    public static Type build(final InstanceRetention retention, final Object... instances) {
+        final long start = ResolverMetrics.start();
         final Object[] objects = filterNulls(instances);
 
+        final Type res;
         if (objects.length == 0) {
             // null assignable to anything (as Object in assignability logic)
-            return Object.class;
-        }
-
-        final Type median = getMedianType(objects);
-        final Class<?> type = GenericsUtils.resolveClass(median);
+            res = Object.class;
+        } else {
+            final Type median = getMedianType(objects);
+            final Class<?> type = GenericsUtils.resolveClass(median);
 
-        return type.isArray() ? buildArrayType(median, instances) : buildType(median, objects);
+            res = type.isArray()
+                    ? buildArrayType(retention, median, objects) : buildType(retention, median, objects);
+        }
+        ResolverMetrics.instanceTypeBuilt(instances.length, start);
+        return res;
     }
 
     private static Object[] filterNulls(final Object... objects) {
@@ -82,28 +104,26 @@ public final class InstanceTypeFactory {
     }
 
     private static Type getMedianType(final Object... instances) {
-        Type median = null;
-
+        // common type depends only on distinct classes (usually there are few classes for many instances)
+        final Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
         for (Object obj : instances) {
-            final Class<?> type = obj.getClass();
-            if (median == null) {
-                median = type;
-            } else {
-                median = TypeUtils.getCommonType(median, type);
-            }
+            classes.add(obj.getClass());
         }
-        return median;
+        return classes.size() == 1 ? classes.iterator().next() : TypeUtils.getCommonType(classes);
     }
 
-    private static Type buildArrayType(final Type median, final Object... objects) {
+    private static Type buildArrayType(final InstanceRetention retention,
+                                       final Type median,
+                                       final Object... objects) {
         // search for non empty arrays
         final List<Object[]> arrays = new ArrayList<Object[]>();
-        final List<Object> elements = new ArrayList<Object>();
+        // Component type is a median type for all elements in all arrays (elements are not copied)
+        final InstanceTypeAccumulator elements = InstanceTypeAccumulator.create().retention(retention);
         for (Object object : objects) {
             final Object[] arr = filterNulls((Object[]) object);
             if (arr.length > 0) {
                 arrays.add(arr);
-                Collections.addAll(elements, arr);
+                elements.addAll(arr);
             }
         }
         if (arrays.isEmpty()) {
@@ -112,21 +132,24 @@ public final class InstanceTypeFactory {
             return median;
         }
 
-        // Component type is a median type for all elements in all arrays
-        final Type componentType = build(elements.toArray());
-
-        return new GenericArrayInstanceType(componentType, arrays.toArray());
+        return new GenericArrayInstanceType(retention, elements.build(), arrays.toArray());
     }
 
-    private static Type buildType(final Type median, final Object... objects) {
+    /**
+     * @param retention instances retention
+     * @param median    median type of all instances
+     * @param objects   not null instances
+     * @return instance type for not array median type
+     */
+    static Type buildType(final InstanceRetention retention, final Type median, final Object... objects) {
         if (median instanceof WildcardType && ((WildcardType) median).getUpperBounds().length > 1) {
             // using only the first type as instance type and other types will remain as simple correcting types
             // (no type info lost)
             final Type[] upperBounds = ((WildcardType) median).getUpperBounds();
-            upperBounds[0] = new ParameterizedInstanceType(upperBounds[0], objects);
-            return new WildcardInstanceType(upperBounds, objects);
+            upperBounds[0] = new ParameterizedInstanceType(retention, upperBounds[0], objects);
+            return new WildcardInstanceType(retention, upperBounds, objects);
         }
         // even if there will be wildcard, internal logic will use the first upper bound type only
-        return new ParameterizedInstanceType(median, objects);
+        return new ParameterizedInstanceType(retention, median, objects);
     }
 }
@@ -0,0 +1,390 @@
+package ru.vyarus.java.generics.resolver.util.type;
+
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyTemplates;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.cache.CacheStats;
+import ru.vyarus.java.generics.resolver.util.cache.StripedLruCache;
+import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+import ru.vyarus.java.generics.resolver.util.walk.ComparatorTypesVisitor;
+import ru.vyarus.java.generics.resolver.util.walk.TypesWalker;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of target types for searching all targets, assignable from some type (in terms of
+ * {@link TypeUtils#isAssignable(Type, Type)}). For example, registered handler parameter types
+ * ({@code Event<Order>}, {@code Event<? extends Payment>}) could be selected for event type with
+ * {@code index.findAssignable(eventType)}.
+ * <p>
+ * Targets are grouped by raw class and, inside raw class group, by first generic class. For searched type only
+ * groups of classes from type hierarchy are checked (and, inside group, only targets with first generic assignable
+ * from type's first generic). Candidates are checked with {@link TypeMatcher} so results are always the same as
+ * with direct {@link TypeUtils#isAssignable(Type, Type)} calls for each target. Not indexable targets (arrays,
+ * inner classes, variables, etc.) are checked for each searched type.
+ * <p>
+ * Found targets are ordered by specificity (see {@link ComparatorTypesVisitor}): more specific targets go first.
+ * Not comparable targets (incompatible or equally specific) preserve registration order.
+ * <p>
+ * Search results are cached by searched type (instance types are not cached as they could change). Cache is
+ * bounded ({@link #DEFAULT_CACHE_SIZE} least recently searched types by default) because searched types reference
+ * classes (long living index must not grow infinitely and hold classes from short living class loaders).
+ * Use {@link #clearCache()} to reset cache.
+ * <p>
+ * Index is immutable and thread safe.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class TypeDispatchIndex {
+
+    /**
+     * Default maximum count of cached search results.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final IgnoreGenericsMap IGNORE = IgnoreGenericsMap.getInstance();
+
+    private final List<Type> targets;
+    // targets grouped by raw class
+    private final Map<Class<?>, Group> groups = new HashMap<Class<?>, Group>();
+    // targets which could not be indexed (checked for each type)
+    private final List<Target> fallback = new ArrayList<Target>();
+    // null when cache disabled
+    private final StripedLruCache<Type, List<Type>> cache;
+
+    private TypeDispatchIndex(final Collection<? extends Type> types, final int cacheSize) {
+        this.cache = cacheSize > 0 ? new StripedLruCache<Type, List<Type>>(cacheSize) : null;
+        this.targets = Collections.unmodifiableList(new ArrayList<Type>(new LinkedHashSet<Type>(types)));
+        for (int i = 0; i < targets.size(); i++) {
+            final Type type = targets.get(i);
+            final Target target = new Target(i, type);
+            final Class<?> cls = TypeContainers.isStableHash(type) ? TypeMatcher.simpleClass(type) : null;
+            if (cls == null) {
+                fallback.add(target);
+            } else {
+                Group group = groups.get(cls);
+                if (group == null) {
+                    group = new Group(cls);
+                    groups.put(cls, group);
+                }
+                group.add(target);
+            }
+        }
+    }
+
+    /**
+     * @param targets target types
+     * @return index for target types
+     */
+    public static TypeDispatchIndex of(final Type... targets) {
+        return of(Arrays.asList(targets));
+    }
+
+    /**
+     * @param targets target types (duplicates are ignored)
+     * @return index for target types
+     */
+    public static TypeDispatchIndex of(final Collection<? extends Type> targets) {
+        return of(targets, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param targets   target types (duplicates are ignored)
+     * @param cacheSize maximum count of cached search results (0 to disable cache)
+     * @return index for target types
+     */
+    public static TypeDispatchIndex of(final Collection<? extends Type> targets, final int cacheSize) {
+        return new TypeDispatchIndex(targets, cacheSize);
+    }
+
+    /**
+     * @return registered targets (in registration order)
+     */
+    public List<Type> getTargets() {
+        return targets;
+    }
+
+    /**
+     * Search targets, accepting provided type: {@code TypeUtils.isAssignable(type, target) == true}.
+     *
+     * @param type type to search targets for
+     * @return found targets ordered by specificity (more specific first) or empty list
+     */
+    public List<Type> findAssignable(final Type type) {
+        // instance types could change
+        final boolean cacheable = cache != null && TypeContainers.isStableHash(type);
+        List<Type> res = cacheable ? cache.get(type) : null;
+        if (res == null) {
+            res = Collections.unmodifiableList(orderBySpecificity(search(type)));
+            if (cacheable) {
+                cache.put(type, res);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Removes cached search results.
+     */
+    public void clearCache() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return count of cached search results
+     */
+    public int getCacheSize() {
+        return cache == null ? 0 : (int) cache.getStats().getSize();
+    }
+
+    /**
+     * @return search results cache statistics or null if cache disabled
+     */
+    public CacheStats getCacheStats() {
+        return cache == null ? null : cache.getStats();
+    }
+
+    @Override
+    public String toString() {
+        return "TypeDispatchIndex[" + targets.size() + " targets]";
+    }
+
+    private List<Type> search(final Type type) {
+        final Class<?> cls = TypeMatcher.simpleClass(type);
+        final List<Target> candidates = new ArrayList<Target>(fallback);
+        if (cls == null || cls == Object.class) {
+            // not indexable type (or unknown type Object, assignable to anything): check all targets
+            for (Group group : groups.values()) {
+                group.collectAll(candidates);
+            }
+        } else {
+            final Map<String, Type> generics = GenericsResolutionUtils.resolveGenerics(type, IGNORE);
+            for (Class<?> hierarchyType : hierarchy(cls)) {
+                final Group group = groups.get(hierarchyType);
+                if (group != null) {
+                    group.collect(cls, generics, candidates);
+                }
+            }
+        }
+        // restore registration order
+        Collections.sort(candidates, new Comparator<Target>() {
+            @Override
+            public int compare(final Target o1, final Target o2) {
+                return o1.position < o2.position ? -1 : (o1.position == o2.position ? 0 : 1);
+            }
+        });
+        final List<Type> res = new ArrayList<Type>();
+        for (Target target : candidates) {
+            if (target.matcher.isAssignableFrom(type)) {
+                res.add(target.matcher.getTarget());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Stable topological sort: on each step selects first (in registration order) type without more specific
+     * types among remaining types.
+     *
+     * @param types found types in registration order
+     * @return types ordered by specificity
+     */
+    private static List<Type> orderBySpecificity(final List<Type> types) {
+        final int size = types.size();
+        if (size < 2) {
+            return types;
+        }
+        // moreSpecific[i][j] == true when type i is more specific than type j
+        final boolean[][] moreSpecific = new boolean[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                moreSpecific[i][j] = isMoreSpecific(types.get(i), types.get(j));
+                moreSpecific[j][i] = !moreSpecific[i][j] && isMoreSpecific(types.get(j), types.get(i));
+            }
+        }
+        final List<Type> res = new ArrayList<Type>(size);
+        final boolean[] used = new boolean[size];
+        while (res.size() < size) {
+            int selected = -1;
+            for (int i = 0; i < size && selected < 0; i++) {
+                if (!used[i] && !hasMoreSpecific(i, moreSpecific, used)) {
+                    selected = i;
+                }
+            }
+            if (selected < 0) {
+                // impossible for consistent comparisons, but avoid infinite loop
+                selected = firstNotUsed(used);
+            }
+            used[selected] = true;
+            res.add(types.get(selected));
+        }
+        return res;
+    }
+
+    private static boolean isMoreSpecific(final Type one, final Type two) {
+        if (one.equals(two)) {
+            return false;
+        }
+        final ComparatorTypesVisitor visitor = new ComparatorTypesVisitor();
+        TypesWalker.walk(one, two, visitor);
+        // incompatible types are not comparable
+        return visitor.isCompatible() && visitor.isMoreSpecific();
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static boolean hasMoreSpecific(final int index, final boolean[][] moreSpecific, final boolean[] used) {
+        for (int i = 0; i < used.length; i++) {
+            if (!used[i] && moreSpecific[i][index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private static int firstNotUsed(final boolean[] used) {
+        int res = 0;
+        while (used[res]) {
+            res++;
+        }
+        return res;
+    }
+
+    /**
+     * @param type class
+     * @return class, all its superclasses and interfaces (including Object)
+     */
+    private static Set<Class<?>> hierarchy(final Class<?> type) {
+        final Set<Class<?>> res = new LinkedHashSet<Class<?>>();
+        collectHierarchy(type, res);
+        res.add(Object.class);
+        return res;
+    }
+
+    private static void collectHierarchy(final Class<?> type, final Set<Class<?>> res) {
+        if (type != null && res.add(type)) {
+            collectHierarchy(type.getSuperclass(), res);
+            for (Class<?> iface : type.getInterfaces()) {
+                collectHierarchy(iface, res);
+            }
+        }
+    }
+
+    /**
+     * Indexable generic class: single upper bound of class, parameterized type or upper bounded wildcard
+     * (without variables). Object and arrays are not indexable.
+     *
+     * @param type generic value
+     * @return generic class or null if generic is not indexable
+     */
+    private static Class<?> indexableClass(final Type type) {
+        final boolean simple = type instanceof Class || type instanceof ParameterizedType
+                || (type instanceof WildcardType && TypeContainers.lowerBounds((WildcardType) type).length == 0);
+        if (!simple || !TypeContainers.isStableHash(type) || !GenericsUtils.findVariables(type).isEmpty()) {
+            return null;
+        }
+        final Class[] bounds = GenericsUtils.resolveUpperBounds(type, IGNORE);
+        return bounds.length == 1 && bounds[0] != Object.class && !bounds[0].isArray() ? bounds[0] : null;
+    }
+
+    /**
+     * Registered target.
+     */
+    private static class Target {
+        private final int position;
+        private final TypeMatcher matcher;
+
+        Target(final int position, final Type type) {
+            this.position = position;
+            this.matcher = TypeMatcher.of(type);
+        }
+    }
+
+    /**
+     * Targets with the same raw class. Parameterized targets are indexed by first generic class.
+     * For example, {@code Event<Order>} is indexed by Order and {@code Event<? extends Payment>} by Payment.
+     * Types with first generic not assignable to target's generic class could not be assignable to target.
+     */
+    private static class Group {
+        private final Class<?> type;
+        // first generic name or null if class is not generic
+        private final String generic;
+        // targets indexed by first generic class
+        private final Map<Class<?>, List<Target>> indexed = new HashMap<Class<?>, List<Target>>();
+        // targets with unknown or not indexable first generic
+        private final List<Target> other = new ArrayList<Target>();
+
+        Group(final Class<?> type) {
+            this.type = type;
+            this.generic = type.getTypeParameters().length > 0 ? type.getTypeParameters()[0].getName() : null;
+        }
+
+        void add(final Target target) {
+            final Type type = target.matcher.getTarget();
+            final Class<?> key = generic != null && type instanceof ParameterizedType
+                    ? indexableClass(TypeContainers.arguments((ParameterizedType) type)[0]) : null;
+            if (key == null) {
+                other.add(target);
+            } else {
+                List<Target> list = indexed.get(key);
+                if (list == null) {
+                    list = new ArrayList<Target>();
+                    indexed.put(key, list);
+                }
+                list.add(target);
+            }
+        }
+
+        void collectAll(final List<Target> res) {
+            res.addAll(other);
+            for (List<Target> list : indexed.values()) {
+                res.addAll(list);
+            }
+        }
+
+        /**
+         * @param cls      searched type class (group class must be in its hierarchy)
+         * @param generics searched type generics
+         * @param res      candidates collection
+         */
+        void collect(final Class<?> cls, final Map<String, Type> generics, final List<Target> res) {
+            if (indexed.isEmpty()) {
+                res.addAll(other);
+                return;
+            }
+            // searched type generic, projected to group type (the same way as in types walker)
+            final Type value = cls == type ? generics.get(generic)
+                    : HierarchyTemplates.resolve(cls, generics, type).get(generic);
+            final Class<?> key = value == null ? null : indexableClass(value);
+            if (key == null) {
+                // unknown generic is assignable to anything
+                collectAll(res);
+            } else {
+                res.addAll(other);
+                for (Class<?> hierarchyType : hierarchy(key)) {
+                    final List<Target> list = indexed.get(hierarchyType);
+                    if (list != null) {
+                        res.addAll(list);
+                    }
+                }
+            }
+        }
+    }
+}
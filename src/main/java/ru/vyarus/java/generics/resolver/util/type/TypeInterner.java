@@ -0,0 +1,136 @@
+package ru.vyarus.java.generics.resolver.util.type;
+
+import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
+import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Optional canonical pool of resolved types. Type containers ({@link ParameterizedTypeImpl},
+ * {@link WildcardTypeImpl} and {@link GenericArrayTypeImpl}) are created on each type resolution (e.g.
+ * {@link ru.vyarus.java.generics.resolver.util.GenericsUtils#resolveTypeVariables(Type, Map)}) so the same type
+ * (e.g. {@code List<String>}) could be duplicated many times. When interner is enabled, resolved types are replaced
+ * with canonical instances: duplicates are not retained and equal types are usually the same instance (so
+ * containers equality check short-circuits on identity).
+ * <p>
+ * Pool is weak: canonical type is removed from pool when it's not referenced anymore (pool does not prevent
+ * class unloading).
+ * <p>
+ * Only immutable types could be pooled, so only exact library container classes (not subclasses), composed of
+ * classes, variables and other such containers are interned (checked with
+ * {@link TypeContainers#isInternable(Type)}). For example, instance types
+ * ({@link ru.vyarus.java.generics.resolver.util.type.instance.InstanceType}) extend library containers, but
+ * are mutable.
+ * <p>
+ * Interner is disabled by default. It could be enabled with system property or environment variable
+ * {@code System.setProperty(TypeInterner.INTERN_PROPERTY, 'true')} (property value checked on class
+ * initialization) or with {@link #enable()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class TypeInterner {
+
+    /**
+     * System property or environment variable name to enable types interning.
+     * If value is 'true' - interner enabled, otherwise disabled.
+     */
+    public static final String INTERN_PROPERTY = TypeInterner.class.getName() + ".enabled";
+
+    // pool is split to reduce contention (stripe selected by type hash)
+    private static final int STRIPES = 16;
+    @SuppressWarnings("unchecked")
+    private static final Map<Type, WeakReference<Type>>[] POOL = new Map[STRIPES];
+
+    private static volatile boolean enabled = Boolean.parseBoolean(
+            System.getProperty(INTERN_PROPERTY, System.getenv(INTERN_PROPERTY)));
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            POOL[i] = new WeakHashMap<Type, WeakReference<Type>>();
+        }
+    }
+
+    private TypeInterner() {
+    }
+
+    /**
+     * When interner is disabled or type is not supported, provided type is returned as is.
+     *
+     * @param type type to intern (may be null)
+     * @param <T>  type class
+     * @return canonical type instance (equal to provided type)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T intern(final T type) {
+        // internability is computed on container creation (constant time check)
+        if (!enabled || type instanceof Class || !TypeContainers.isInternable(type)) {
+            return type;
+        }
+        final int hash = type.hashCode();
+        final Map<Type, WeakReference<Type>> stripe = POOL[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        synchronized (stripe) {
+            final WeakReference<Type> ref = stripe.get(type);
+            final Type res = ref == null ? null : ref.get();
+            if (res != null) {
+                return (T) res;
+            }
+            stripe.put(type, new WeakReference<Type>(type));
+        }
+        return type;
+    }
+
+    /**
+     * @return true if interner enabled, false otherwise
+     * @see #INTERN_PROPERTY
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables types interning.
+     */
+    public static void enable() {
+        System.setProperty(INTERN_PROPERTY, Boolean.TRUE.toString());
+        enabled = true;
+    }
+
+    /**
+     * Disables types interning and clears pool.
+     */
+    public static void disable() {
+        System.setProperty(INTERN_PROPERTY, Boolean.FALSE.toString());
+        enabled = false;
+        clear();
+    }
+
+    /**
+     * Removes all canonical types from pool.
+     */
+    public static void clear() {
+        for (Map<Type, WeakReference<Type>> stripe : POOL) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * @return count of pooled types
+     */
+    public static int size() {
+        int res = 0;
+        for (Map<Type, WeakReference<Type>> stripe : POOL) {
+            synchronized (stripe) {
+                res += stripe.size();
+            }
+        }
+        return res;
+    }
+}
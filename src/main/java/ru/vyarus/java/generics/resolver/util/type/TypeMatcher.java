@@ -0,0 +1,329 @@
+package ru.vyarus.java.generics.resolver.util.type;
+
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
+import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyTemplates;
+import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
+import ru.vyarus.java.generics.resolver.util.TypeUtils;
+import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled checks against one target type. Useful when many types must be checked against the same
+ * type (e.g. in routing or validation logic): {@code TypeMatcher.of(target).isAssignableFrom(type)}.
+ * <p>
+ * Results are always the same as for {@link TypeUtils} methods ({@link TypeUtils#isAssignable(Type, Type)},
+ * {@link TypeUtils#isCompatible(Type, Type)}, {@link TypeUtils#isMoreSpecific(Type, Type)} and
+ * {@link TypeUtils#isMoreSpecificOrEqual(Type, Type)}), but target type is analyzed only once: target is compiled
+ * into tree of classes and resolved generics (for each generic position) and only checked type is resolved
+ * on each check (the same way as in {@link ru.vyarus.java.generics.resolver.util.walk.TypesWalker}):
+ * <ul>
+ * <li>Class target without generics is checked with {@link Class#isAssignableFrom(Class)}</li>
+ * <li>For parameterized target, checked type generics are projected on target class (through cached hierarchy
+ * template) and compared only with compiled target generics positions</li>
+ * <li>Unknown target generics (Object) are not checked at all for assignability and compatibility</li>
+ * </ul>
+ * Compiled checks are used only for simple types (classes and parameterized types, not inner, not arrays and
+ * not primitives). Other cases (including checked type, which is a super type of target for compatibility and
+ * specificity checks) are delegated to {@link TypeUtils} (and so could use
+ * {@link ru.vyarus.java.generics.resolver.util.cache.TypeChecksCache} if enabled).
+ * <p>
+ * Matcher is immutable and thread safe.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public final class TypeMatcher {
+
+    private static final IgnoreGenericsMap IGNORE = IgnoreGenericsMap.getInstance();
+    private static final Node OBJECT = new Node(Object.class, new String[0], new Node[0]);
+
+    private final Type target;
+    // compiled target or null when target could not be compiled
+    private final Node node;
+
+    private TypeMatcher(final Type target) {
+        this.target = target;
+        // instance types could change (so target is analyzed on each check)
+        this.node = TypeContainers.isStableHash(target) ? compile(target) : null;
+    }
+
+    /**
+     * @param target target type
+     * @return matcher for target type
+     */
+    public static TypeMatcher of(final Type target) {
+        return new TypeMatcher(target);
+    }
+
+    /**
+     * @return target type
+     */
+    public Type getTarget() {
+        return target;
+    }
+
+    /**
+     * @param type type to check
+     * @return true if type could be assigned to target type, false otherwise
+     * @see TypeUtils#isAssignable(Type, Type)
+     */
+    public boolean isAssignableFrom(final Type type) {
+        final Check check = check(type, Check.ASSIGNABLE);
+        return check == null ? TypeUtils.isAssignable(type, target) : check.assignable;
+    }
+
+    /**
+     * @param type type to check
+     * @return true if type is compatible with target type, false otherwise
+     * @see TypeUtils#isCompatible(Type, Type)
+     */
+    public boolean isCompatible(final Type type) {
+        final Check check = check(type, Check.COMPATIBLE);
+        return check == null ? TypeUtils.isCompatible(type, target) : check.compatible;
+    }
+
+    /**
+     * @param type type to check
+     * @return true if type is more specific than target type, false otherwise (including when types are equal)
+     * @throws IllegalArgumentException when types are not compatible
+     * @see TypeUtils#isMoreSpecific(Type, Type)
+     */
+    public boolean isMoreSpecific(final Type type) {
+        final Check check = compare(type);
+        return check == null ? TypeUtils.isMoreSpecific(type, target) : check.moreSpecific && !check.equal;
+    }
+
+    /**
+     * @param type type to check
+     * @return true if type is more specific than target type or equal, false otherwise
+     * @throws IllegalArgumentException when types are not compatible
+     * @see TypeUtils#isMoreSpecificOrEqual(Type, Type)
+     */
+    public boolean isMoreSpecificOrEqual(final Type type) {
+        final Check check = compare(type);
+        return check == null ? TypeUtils.isMoreSpecificOrEqual(type, target) : check.moreSpecific || check.equal;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeMatcher[" + TypeToStringUtils.toStringTypeIgnoringVariables(target) + "]";
+    }
+
+    /**
+     * Simple type is a class or parameterized type which is not inner (outer class generics are not involved),
+     * not array and not primitive.
+     *
+     * @param type type
+     * @return type class for simple type or null
+     */
+    static Class<?> simpleClass(final Type type) {
+        Class<?> res = null;
+        if (type instanceof Class) {
+            res = (Class<?>) type;
+        } else if (type instanceof ParameterizedType && ((ParameterizedType) type).getOwnerType() == null) {
+            res = (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return res == null || res.isArray() || res.isPrimitive() || TypeUtils.isInner(res) ? null : res;
+    }
+
+    /**
+     * Target type is resolved the same way as in types walker.
+     *
+     * @param type target type
+     * @return compiled target or null if target is not simple type
+     */
+    private static Node compile(final Type type) {
+        final Map<String, Type> known = new IgnoreGenericsMap(GenericsResolutionUtils.resolveGenerics(type, IGNORE));
+        return compile(GenericsUtils.resolveTypeVariables(type, known), known, new ArrayList<Type>());
+    }
+
+    private static Node compile(final Type type, final Map<String, Type> known, final List<Type> path) {
+        // recursive declaration (Some<T extends Some<T>>) is not compiled
+        final Class<?> cls = type == Object.class || path.contains(type) ? null : simpleClass(type);
+        Node res = type == Object.class ? OBJECT : null;
+        if (cls != null) {
+            final TypeVariable[] vars = cls.getTypeParameters();
+            final Map<String, Type> generics = vars.length == 0
+                    ? null : GenericsResolutionUtils.resolveGenerics(type, known);
+            final String[] names = new String[vars.length];
+            final Node[] args = new Node[vars.length];
+            boolean compiled = true;
+            path.add(type);
+            for (int i = 0; compiled && i < vars.length; i++) {
+                names[i] = vars[i].getName();
+                args[i] = compile(generics.get(names[i]), known, path);
+                compiled = args[i] != null;
+            }
+            path.remove(path.size() - 1);
+            res = compiled ? new Node(cls, names, args) : null;
+        }
+        return res;
+    }
+
+    /**
+     * @param type type to check
+     * @param mode check mode
+     * @return check result or null if type could not be checked with compiled target
+     */
+    private Check check(final Type type, final int mode) {
+        Check res = null;
+        if (node != null) {
+            // checked type resolved the same way as in types walker
+            final Map<String, Type> known =
+                    new IgnoreGenericsMap(GenericsResolutionUtils.resolveGenerics(type, IGNORE));
+            final Type actual = GenericsUtils.resolveTypeVariables(type, known);
+            // outer types are walked separately
+            if (TypeUtils.getOuter(actual) == null) {
+                res = new Check(mode, known);
+                res.visit(node, actual);
+                if (res.unsupported) {
+                    res = null;
+                }
+            }
+        }
+        return res;
+    }
+
+    private Check compare(final Type type) {
+        final Check res = check(type, Check.SPECIFICITY);
+        if (res != null && !res.compatible) {
+            throw new IllegalArgumentException(String.format(
+                    "Type %s can't be compared to %s because they are not compatible",
+                    TypeToStringUtils.toStringTypeIgnoringVariables(type),
+                    TypeToStringUtils.toStringTypeIgnoringVariables(target)));
+        }
+        return res;
+    }
+
+    /**
+     * Compiled target type: class and resolved generics (in declaration order).
+     */
+    private static final class Node {
+        private final Class<?> type;
+        private final String[] names;
+        private final Node[] args;
+        // all generics are unknown (Object)
+        private final boolean unknownArgs;
+
+        Node(final Class<?> type, final String[] names, final Node[] args) {
+            this.type = type;
+            this.names = names;
+            this.args = args;
+            boolean unknown = true;
+            for (Node arg : args) {
+                unknown = unknown && arg == OBJECT;
+            }
+            this.unknownArgs = unknown;
+        }
+    }
+
+    /**
+     * Checked type walk against compiled target. Repeats {@link ru.vyarus.java.generics.resolver.util.walk.TypesWalker}
+     * logic with {@link ru.vyarus.java.generics.resolver.util.walk.AssignabilityTypesVisitor},
+     * {@link ru.vyarus.java.generics.resolver.util.walk.CompatibilityTypesVisitor} or
+     * {@link ru.vyarus.java.generics.resolver.util.walk.ComparatorTypesVisitor} rules (for simple types only).
+     */
+    private static final class Check {
+        static final int ASSIGNABLE = 0;
+        static final int COMPATIBLE = 1;
+        static final int SPECIFICITY = 2;
+
+        private final int mode;
+        private final Map<String, Type> known;
+        private boolean unsupported;
+        private boolean compatible = true;
+        private boolean assignable = true;
+        private boolean moreSpecific = true;
+        private boolean equal = true;
+
+        Check(final int mode, final Map<String, Type> known) {
+            this.mode = mode;
+            this.known = known;
+        }
+
+        /**
+         * @param target compiled target
+         * @param type   checked type
+         * @return true to continue walking, false to stop
+         */
+        boolean visit(final Node target, final Type type) {
+            final boolean res;
+            if (target == OBJECT) {
+                // anything is compatible with Object and nothing to walk
+                if (mode == SPECIFICITY) {
+                    moreSpecific = moreSpecific && type != Object.class;
+                    equal = equal && type == Object.class;
+                }
+                res = true;
+            } else {
+                final Class<?> cls = simpleClass(type);
+                if (cls == null) {
+                    unsupported = true;
+                    res = false;
+                } else if (!target.type.isAssignableFrom(cls) && !cls.isAssignableFrom(target.type)) {
+                    compatible = false;
+                    assignable = false;
+                    moreSpecific = false;
+                    equal = false;
+                    res = false;
+                } else {
+                    res = !next(target, cls) || cls == Object.class
+                            || target.type.getTypeParameters().length == 0 && cls.getTypeParameters().length == 0
+                            || visitGenerics(target, type, cls);
+                }
+            }
+            return res;
+        }
+
+        /**
+         * @param target compiled target
+         * @param cls    checked type class
+         * @return true to go deeper
+         */
+        private boolean next(final Node target, final Class<?> cls) {
+            boolean res = true;
+            if (mode == ASSIGNABLE) {
+                // Object is unknown type and assignable to anything
+                assignable = cls == Object.class || target.type.isAssignableFrom(cls);
+                res = assignable;
+            } else if (mode == SPECIFICITY && cls != target.type) {
+                // edge case: Object on the left could not be more specific
+                moreSpecific = cls != Object.class && target.type.isAssignableFrom(cls);
+                equal = false;
+            }
+            return res;
+        }
+
+        private boolean visitGenerics(final Node target, final Type type, final Class<?> cls) {
+            boolean res = true;
+            if (cls != target.type && cls.isAssignableFrom(target.type)) {
+                // target generics must be projected to checked type: not compiled
+                unsupported = true;
+                res = false;
+            } else if (mode == SPECIFICITY || !target.unknownArgs) {
+                // (unknown target generics could not affect assignability or compatibility)
+                final Map<String, Type> generics = GenericsResolutionUtils.resolveGenerics(type, known);
+                final Map<String, Type> projected = cls == target.type
+                        ? generics : HierarchyTemplates.resolve(cls, generics, target.type);
+                for (int i = 0; res && i < target.names.length; i++) {
+                    final Type generic = projected.get(target.names[i]);
+                    if (generic == null) {
+                        unsupported = true;
+                        res = false;
+                    } else {
+                        res = visit(target.args[i], generic);
+                    }
+                }
+            }
+            return res;
+        }
+    }
+}
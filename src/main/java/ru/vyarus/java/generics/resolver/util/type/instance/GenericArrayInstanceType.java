@@ -5,7 +5,6 @@ import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -28,7 +27,7 @@ import java.util.Iterator;
  */
 public class GenericArrayInstanceType implements GenericArrayType, InstanceType {
 
-    private final Object[] instances;
+    private final InstancesHolder instances;
     private final Type componentType;
 
     /**
@@ -41,18 +40,30 @@ public class GenericArrayInstanceType implements GenericArrayType, InstanceType
      *
      * @param componentType component type, already resolved from instances
      * @param instances     array instances used for analysis (without nulls)
+     * @throws IllegalArgumentException if no instances provided
      */
     public GenericArrayInstanceType(final Type componentType, final Object... instances) {
-        if (instances.length == 0) {
-            throw new IllegalArgumentException("No instances provided");
-        }
-        this.instances = instances;
+        this(InstanceRetention.STRONG, componentType, instances);
+    }
+
+    /**
+     * Same as {@link #GenericArrayInstanceType(Type, Object...)}, but with custom instances retention.
+     *
+     * @param retention     instances retention
+     * @param componentType component type, already resolved from instances
+     * @param instances     array instances used for analysis (without nulls)
+     * @throws IllegalArgumentException if no instances provided
+     */
+    public GenericArrayInstanceType(final InstanceRetention retention,
+                                    final Type componentType,
+                                    final Object... instances) {
+        this.instances = InstancesHolder.create(retention, instances);
         this.componentType = componentType;
     }
 
     @Override
     public Iterator iterator() {
-        return Arrays.asList(instances).iterator();
+        return instances.iterator();
     }
 
     @Override
@@ -62,17 +73,24 @@ public class GenericArrayInstanceType implements GenericArrayType, InstanceType
 
     @Override
     public Object getInstance() {
-        return instances[0];
+        return instances.getFirst();
     }
 
     @Override
     public boolean hasMultipleInstances() {
-        return instances.length > 1;
+        return instances.getCount() > 1;
     }
 
     @Override
     public Object[] getAllInstances() {
-        return Arrays.copyOf(instances, instances.length);
+        return instances.getAll();
+    }
+
+    /**
+     * @return instances retention policy
+     */
+    public InstanceRetention getRetention() {
+        return instances.getRetention();
     }
 
     @Override
@@ -104,9 +122,7 @@ public class GenericArrayInstanceType implements GenericArrayType, InstanceType
     @Override
     public String toString() {
         // append first instance hash code to uniquely identify type by contained instance
-        return String.format("%s (%s%s)",
-                TypeToStringUtils.toStringType(this),
-                Integer.toHexString(getInstance().hashCode()),
-                hasMultipleInstances() ? ",...(" + instances.length + ")" : "");
+        // (hash preserved even if instance is not retained)
+        return String.format("%s (%s)", TypeToStringUtils.toStringType(this), instances);
     }
 }
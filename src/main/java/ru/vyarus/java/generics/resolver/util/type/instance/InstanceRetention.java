@@ -0,0 +1,41 @@
+package ru.vyarus.java.generics.resolver.util.type.instance;
+
+/**
+ * Defines how {@link InstanceType} references instances used for type analysis. By default, instance types
+ * reference all instances strongly, which may be undesirable when instance types are stored for a long time (e.g.
+ * in caches): all analyzed objects would stay in memory.
+ * <p>
+ * Retention affects only instance accessors ({@link InstanceType#getInstance()},
+ * {@link InstanceType#getAllInstances()} and iteration): type itself is resolved before instances are released
+ * and type equality and hash code never depend on instances.
+ * <p>
+ * {@link ru.vyarus.java.generics.resolver.util.TypeUtils#getInstanceType(Object...)} always use strong retention.
+ * Other modes are selected for exact call with
+ * {@link ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory#build(InstanceRetention, Object...)} or
+ * {@link ru.vyarus.java.generics.resolver.util.type.InstanceTypeAccumulator#retention(InstanceRetention)}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public enum InstanceRetention {
+
+    /**
+     * All instances referenced strongly (default).
+     */
+    STRONG,
+    /**
+     * All instances referenced weakly: instance accessors return only not yet collected instances (and
+     * {@link InstanceType#getInstance()} may return null).
+     */
+    WEAK,
+    /**
+     * Only the first instance is referenced (strongly). Useful when instances are known to be uniform.
+     */
+    FIRST_INSTANCE,
+    /**
+     * Instances are not referenced at all: {@link InstanceType#getInstance()} returns null and
+     * {@link InstanceType#getAllInstances()} returns empty array. Type could still be improved manually (e.g. with
+     * other instances).
+     */
+    TYPE_ONLY
+}
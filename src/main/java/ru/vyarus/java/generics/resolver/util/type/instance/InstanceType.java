@@ -41,6 +41,9 @@ import java.lang.reflect.Type;
  * <p>
  * For simplicity, all instance types implements {@link Iterable} so you can use forEach to iterate on it's values.
  * <p>
+ * By default, all instances are referenced strongly. Use {@link InstanceRetention} to avoid holding instances
+ * in memory when instance types are stored for a long time.
+ * <p>
  * Instance types could be easily repackaged to usual type with
  * {@link ru.vyarus.java.generics.resolver.util.GenericsUtils#resolveTypeVariables(Type, java.util.Map)}
  * (for example, {@code GenericUtils.resolveTypeVariables(instanceType, EmptyGenericsMap.getInstance()}).
@@ -54,17 +57,22 @@ import java.lang.reflect.Type;
 public interface InstanceType extends Iterable, Type {
 
     /**
-     * @return original instance (first instance if multiple provided)
+     * @return original instance (first instance if multiple provided) or null if instance is not retained
+     * @see InstanceRetention
      */
     Object getInstance();
 
     /**
-     * @return true if multiple instances contained, false if single instance
+     * @return true if multiple instances were analyzed, false if single instance (even if instances not retained)
      */
     boolean hasMultipleInstances();
 
     /**
+     * Returned instances depend on retention: all instances (strong), only not collected instances (weak), only
+     * first instance or empty array (type only).
+     *
      * @return all contained instances (single element array in case of single instance)
+     * @see InstanceRetention
      */
     Object[] getAllInstances();
 
@@ -0,0 +1,202 @@
+package ru.vyarus.java.generics.resolver.util.type.instance;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Instances storage for instance types, implementing {@link InstanceRetention} policy. Count of analyzed
+ * instances and the first instance hash are always preserved (used in type's string representation).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+abstract class InstancesHolder implements Iterable<Object> {
+
+    private static final Object[] NO_INSTANCES = new Object[0];
+
+    private final InstanceRetention retention;
+    private final int count;
+    private final int firstHash;
+
+    protected InstancesHolder(final InstanceRetention retention, final Object... instances) {
+        if (instances.length == 0) {
+            throw new IllegalArgumentException("No instances provided");
+        }
+        this.retention = retention;
+        this.count = instances.length;
+        this.firstHash = instances[0].hashCode();
+    }
+
+    /**
+     * @param retention retention policy
+     * @param instances analyzed instances (not empty)
+     * @return instances holder
+     * @throws IllegalArgumentException if no instances provided
+     */
+    static InstancesHolder create(final InstanceRetention retention, final Object... instances) {
+        final InstancesHolder res;
+        switch (retention) {
+            case WEAK:
+                res = new WeakHolder(instances);
+                break;
+            case FIRST_INSTANCE:
+                res = new FirstHolder(instances);
+                break;
+            case TYPE_ONLY:
+                res = new TypeOnlyHolder(instances);
+                break;
+            default:
+                res = new StrongHolder(instances);
+                break;
+        }
+        return res;
+    }
+
+    /**
+     * @return retention policy
+     */
+    public InstanceRetention getRetention() {
+        return retention;
+    }
+
+    /**
+     * @return count of analyzed instances (not retained)
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return hash code of the first analyzed instance
+     */
+    public int getFirstHash() {
+        return firstHash;
+    }
+
+    /**
+     * @return first instance or null if it is not retained
+     */
+    public abstract Object getFirst();
+
+    /**
+     * @return retained instances (new array)
+     */
+    public abstract Object[] getAll();
+
+    @Override
+    public Iterator<Object> iterator() {
+        return Arrays.asList(getAll()).iterator();
+    }
+
+    /**
+     * @return string representation part: first instance hash and instances count (for multiple instances)
+     */
+    @Override
+    public String toString() {
+        return Integer.toHexString(firstHash) + (count > 1 ? ",...(" + count + ")" : "");
+    }
+
+    /**
+     * All instances referenced strongly.
+     */
+    private static class StrongHolder extends InstancesHolder {
+        private final Object[] instances;
+
+        StrongHolder(final Object... instances) {
+            super(InstanceRetention.STRONG, instances);
+            this.instances = instances;
+        }
+
+        @Override
+        public Object getFirst() {
+            return instances[0];
+        }
+
+        @Override
+        public Object[] getAll() {
+            return Arrays.copyOf(instances, instances.length);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return Arrays.asList(instances).iterator();
+        }
+    }
+
+    /**
+     * All instances referenced weakly.
+     */
+    private static class WeakHolder extends InstancesHolder {
+        private final WeakReference<?>[] instances;
+
+        WeakHolder(final Object... instances) {
+            super(InstanceRetention.WEAK, instances);
+            this.instances = new WeakReference<?>[instances.length];
+            for (int i = 0; i < instances.length; i++) {
+                this.instances[i] = new WeakReference<Object>(instances[i]);
+            }
+        }
+
+        @Override
+        public Object getFirst() {
+            return instances[0].get();
+        }
+
+        @Override
+        public Object[] getAll() {
+            final List<Object> res = new ArrayList<Object>(instances.length);
+            for (WeakReference<?> ref : instances) {
+                final Object instance = ref.get();
+                if (instance != null) {
+                    res.add(instance);
+                }
+            }
+            return res.toArray();
+        }
+    }
+
+    /**
+     * Only the first instance referenced.
+     */
+    private static class FirstHolder extends InstancesHolder {
+        private final Object instance;
+
+        FirstHolder(final Object... instances) {
+            super(InstanceRetention.FIRST_INSTANCE, instances);
+            this.instance = instances[0];
+        }
+
+        @Override
+        public Object getFirst() {
+            return instance;
+        }
+
+        @Override
+        public Object[] getAll() {
+            return new Object[]{instance};
+        }
+    }
+
+    /**
+     * Instances not referenced.
+     */
+    private static class TypeOnlyHolder extends InstancesHolder {
+
+        TypeOnlyHolder(final Object... instances) {
+            super(InstanceRetention.TYPE_ONLY, instances);
+        }
+
+        @Override
+        public Object getFirst() {
+            return null;
+        }
+
+        @Override
+        public Object[] getAll() {
+            return NO_INSTANCES;
+        }
+    }
+}
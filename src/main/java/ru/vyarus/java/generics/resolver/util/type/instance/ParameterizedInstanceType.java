@@ -42,7 +42,7 @@ import java.util.Map;
  */
 public class ParameterizedInstanceType implements ParameterizedType, InstanceType {
 
-    private final Object[] instances;
+    private final InstancesHolder instances;
     private Class<?> rawType;
     private Type[] actualArguments;
     private Type ownerType;
@@ -58,16 +58,27 @@ public class ParameterizedInstanceType implements ParameterizedType, InstanceTyp
      * @throws IllegalArgumentException if no instances provided
      */
     public ParameterizedInstanceType(final Type type, final Object... instances) {
-        if (instances.length == 0) {
-            throw new IllegalArgumentException("No instances provided");
-        }
-        this.instances = instances;
+        this(InstanceRetention.STRONG, type, instances);
+    }
+
+    /**
+     * Same as {@link #ParameterizedInstanceType(Type, Object...)}, but with custom instances retention.
+     *
+     * @param retention instances retention
+     * @param type      type resolved from instances (in most cases simple class)
+     * @param instances actual non null (!) instances used for analysis
+     * @throws IllegalArgumentException if no instances provided
+     */
+    public ParameterizedInstanceType(final InstanceRetention retention,
+                                     final Type type,
+                                     final Object... instances) {
+        this.instances = InstancesHolder.create(retention, instances);
         analyze(type);
     }
 
     @Override
     public Iterator<Object> iterator() {
-        return Arrays.asList(instances).iterator();
+        return instances.iterator();
     }
 
     @Override
@@ -87,17 +98,24 @@ public class ParameterizedInstanceType implements ParameterizedType, InstanceTyp
 
     @Override
     public Object getInstance() {
-        return instances[0];
+        return instances.getFirst();
     }
 
     @Override
     public boolean hasMultipleInstances() {
-        return instances.length > 1;
+        return instances.getCount() > 1;
     }
 
     @Override
     public Object[] getAllInstances() {
-        return Arrays.copyOf(instances, instances.length);
+        return instances.getAll();
+    }
+
+    /**
+     * @return instances retention policy
+     */
+    public InstanceRetention getRetention() {
+        return instances.getRetention();
     }
 
     @Override
@@ -164,10 +182,8 @@ public class ParameterizedInstanceType implements ParameterizedType, InstanceTyp
     @Override
     public String toString() {
         // append first instance hash code to uniquely identify type by contained instance
-        return String.format("%s (%s%s)",
-                TypeToStringUtils.toStringType(this),
-                Integer.toHexString(getInstance().hashCode()),
-                hasMultipleInstances() ? ",...(" + instances.length + ")" : "");
+        // (hash preserved even if instance is not retained)
+        return String.format("%s (%s)", TypeToStringUtils.toStringType(this), instances);
     }
 
     @Override
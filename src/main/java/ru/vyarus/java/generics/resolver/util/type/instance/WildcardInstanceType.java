@@ -30,7 +30,7 @@ public class WildcardInstanceType implements WildcardType, InstanceType {
 
     private final Type[] noLowerBounds = new Type[0];
 
-    private final Object[] instances;
+    private final InstancesHolder instances;
     private final Type[] upperBounds;
 
     /**
@@ -46,9 +46,21 @@ public class WildcardInstanceType implements WildcardType, InstanceType {
      * @throws IllegalArgumentException if no instances provided or bounds contain not first instance type
      */
     public WildcardInstanceType(final Type[] upperBounds, final Object... instances) {
-        if (instances.length == 0) {
-            throw new IllegalArgumentException("No instances provided");
-        }
+        this(InstanceRetention.STRONG, upperBounds, instances);
+    }
+
+    /**
+     * Same as {@link #WildcardInstanceType(Type[], Object...)}, but with custom instances retention.
+     *
+     * @param retention   instances retention
+     * @param upperBounds composing types resolved from instances (only the first type may be instance type!)
+     * @param instances   array instances used for analysis (without nulls)
+     * @throws IllegalArgumentException if no instances provided or bounds contain not first instance type
+     */
+    public WildcardInstanceType(final InstanceRetention retention,
+                                final Type[] upperBounds,
+                                final Object... instances) {
+        this.instances = InstancesHolder.create(retention, instances);
         if (upperBounds.length == 0) {
             throw new IllegalArgumentException("No upper bounds provided");
         }
@@ -61,13 +73,12 @@ public class WildcardInstanceType implements WildcardType, InstanceType {
             }
         }
 
-        this.instances = instances;
         this.upperBounds = Arrays.copyOf(upperBounds, upperBounds.length);
     }
 
     @Override
     public Iterator iterator() {
-        return Arrays.asList(instances).iterator();
+        return instances.iterator();
     }
 
     @Override
@@ -83,17 +94,24 @@ public class WildcardInstanceType implements WildcardType, InstanceType {
 
     @Override
     public Object getInstance() {
-        return instances[0];
+        return instances.getFirst();
     }
 
     @Override
     public boolean hasMultipleInstances() {
-        return instances.length > 1;
+        return instances.getCount() > 1;
     }
 
     @Override
     public Object[] getAllInstances() {
-        return Arrays.copyOf(instances, instances.length);
+        return instances.getAll();
+    }
+
+    /**
+     * @return instances retention policy
+     */
+    public InstanceRetention getRetention() {
+        return instances.getRetention();
     }
 
     @Override
@@ -110,10 +128,8 @@ public class WildcardInstanceType implements WildcardType, InstanceType {
     @Override
     public String toString() {
         // append first instance hash code to uniquely identify type by contained instance
-        return String.format("%s (%s%s)",
-                TypeToStringUtils.toStringType(this),
-                Integer.toHexString(getInstance().hashCode()),
-                hasMultipleInstances() ? ",...(" + instances.length + ")" : "");
+        // (hash preserved even if instance is not retained)
+        return String.format("%s (%s)", TypeToStringUtils.toStringType(this), instances);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package ru.vyarus.java.generics.resolver.util.walk;
 
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
@@ -87,13 +88,13 @@ public class AssignabilityTypesVisitor implements TypesVisitor {
         } else {
             // left type's bound must be lower: not a mistake! left (super inversion)!
             res = TypeUtils.isAssignable(
-                    ((WildcardType) two).getLowerBounds()[0],
-                    ((WildcardType) one).getLowerBounds()[0]);
+                    TypeContainers.lowerBounds((WildcardType) two)[0],
+                    TypeContainers.lowerBounds((WildcardType) one)[0]);
         }
         return res;
     }
 
     private boolean notLowerBounded(final Type type) {
-        return !(type instanceof WildcardType) || ((WildcardType) type).getLowerBounds().length == 0;
+        return !(type instanceof WildcardType) || TypeContainers.lowerBounds((WildcardType) type).length == 0;
     }
 }
@@ -1,5 +1,6 @@
 package ru.vyarus.java.generics.resolver.util.walk;
 
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
@@ -122,17 +123,18 @@ public class ComparatorTypesVisitor implements TypesVisitor {
             // ignore possible left lower bound when simple type on the right (not Object - root condition above)
             res = true;
             // if left type is wildcard they are not equal (super Object case already prevented)
-            equal = equal && (notLowerBounded(one) || ((WildcardType) one).getLowerBounds()[0] == Object.class);
+            equal = equal && (notLowerBounded(one)
+                    || TypeContainers.lowerBounds((WildcardType) one)[0] == Object.class);
         } else if (notLowerBounded(one)) {
             // special case: left is Object and right is lower bounded wildcard
             // e.g Object and ? super String (last is more specific, while it's upper bound is Object too)
             // otherwise, any non Object is more specific
             res = one != Object.class;
             // two is lower bounded and one is not - can't be equal (super Object case already prevented)
-            equal = equal && ((WildcardType) two).getLowerBounds()[0] == Object.class;
+            equal = equal && TypeContainers.lowerBounds((WildcardType) two)[0] == Object.class;
         } else {
-            final Type lowerOne = ((WildcardType) two).getLowerBounds()[0];
-            final Type lowerTwo = ((WildcardType) one).getLowerBounds()[0];
+            final Type lowerOne = TypeContainers.lowerBounds((WildcardType) two)[0];
+            final Type lowerTwo = TypeContainers.lowerBounds((WildcardType) one)[0];
             equal = equal && lowerOne.equals(lowerTwo);
 
             // left type's bound must be lower: not a mistake! left (super inversion)!
@@ -144,6 +146,6 @@ public class ComparatorTypesVisitor implements TypesVisitor {
     }
 
     private boolean notLowerBounded(final Type type) {
-        return !(type instanceof WildcardType) || ((WildcardType) type).getLowerBounds().length == 0;
+        return !(type instanceof WildcardType) || TypeContainers.lowerBounds((WildcardType) type).length == 0;
     }
 }
@@ -1,10 +1,14 @@
 package ru.vyarus.java.generics.resolver.util.walk;
 
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers;
 import ru.vyarus.java.generics.resolver.util.ArrayTypeUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
+import ru.vyarus.java.generics.resolver.util.HierarchyTemplates;
 import ru.vyarus.java.generics.resolver.util.TypeUtils;
 import ru.vyarus.java.generics.resolver.util.map.IgnoreGenericsMap;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolutionProfiler;
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -59,6 +63,10 @@ public final class TypesWalker {
      * @param visitor visitor
      */
     public static void walk(final Type one, final Type two, final TypesVisitor visitor) {
+        final long start = ResolverMetrics.start();
+        final long profilerStart = ResolutionProfiler.start();
+        // steps counted only when metrics enabled
+        final WalkCounter counter = start == 0 ? null : new WalkCounter();
         // Use possibly more specific generics (otherwise root class generics would be used as Object and this
         // way it could be used as upper bound)
         // Also, types could contain outer class generics declarations, which must be preserved
@@ -73,7 +81,11 @@ public final class TypesWalker {
         // types operations ignoring map could be used as we already replaced all variables. These generics
         // are required only for type context building (on some level to resolve comparable type)
         doWalkOuterClass(GenericsUtils.resolveTypeVariables(one, oneKnownGenerics), oneKnownGenerics,
-                GenericsUtils.resolveTypeVariables(two, twoKnownGenerics), twoKnownGenerics, visitor);
+                GenericsUtils.resolveTypeVariables(two, twoKnownGenerics), twoKnownGenerics, visitor, counter);
+        if (counter != null) {
+            ResolverMetrics.typesWalked(counter.steps, counter.depth, start);
+        }
+        ResolutionProfiler.walked(one, two, profilerStart);
     }
 
     /**
@@ -85,10 +97,12 @@ public final class TypesWalker {
      * @param two              second type
      * @param twoKnownGenerics second type generics
      * @param visitor          visitor
+     * @param counter          walk metrics counter (null when metrics disabled)
      */
     private static void doWalkOuterClass(final Type one, final Map<String, Type> oneKnownGenerics,
                                          final Type two, final Map<String, Type> twoKnownGenerics,
-                                         final TypesVisitor visitor) {
+                                         final TypesVisitor visitor,
+                                         final WalkCounter counter) {
         // note: if one or two is self-constructed parameterized type, it may not contain outer (not correct container)
         final Type outerOne = TypeUtils.getOuter(one);
         final Type outerTwo = TypeUtils.getOuter(two);
@@ -107,18 +121,23 @@ public final class TypesWalker {
                     outerTwo,
                     new IgnoreGenericsMap(
                             GenericsUtils.extractOwnerGenerics(GenericsUtils.resolveClass(two), twoKnownGenerics)),
-                    visitor);
+                    visitor, counter, 1);
         }
 
         // continue walking on inner type
         if (walk) {
-            doWalk(one, oneKnownGenerics, two, twoKnownGenerics, visitor);
+            doWalk(one, oneKnownGenerics, two, twoKnownGenerics, visitor, counter, 1);
         }
     }
 
     private static boolean doWalk(final Type one, final Map<String, Type> oneKnownGenerics,
                                   final Type two, final Map<String, Type> twoKnownGenerics,
-                                  final TypesVisitor visitor) {
+                                  final TypesVisitor visitor,
+                                  final WalkCounter counter,
+                                  final int depth) {
+        if (counter != null) {
+            counter.step(depth);
+        }
         boolean canContinue = true;
         // avoid primitives to simplify comparisons
         final Class<?> oneType = TypeUtils.wrapPrimitive(GenericsUtils.resolveClassIgnoringVariables(one));
@@ -135,22 +154,25 @@ public final class TypesWalker {
             // classes are already checked to be compatible (isCompatible) so either both arrays or both not
             if (oneType.isArray()) {
                 canContinue = doWalk(ArrayTypeUtils.getArrayComponentType(one), oneKnownGenerics,
-                        ArrayTypeUtils.getArrayComponentType(two), twoKnownGenerics, visitor);
+                        ArrayTypeUtils.getArrayComponentType(two), twoKnownGenerics, visitor, counter, depth + 1);
             } else if (oneType.getTypeParameters().length > 0 || twoType.getTypeParameters().length > 0) {
                 // check generics compatibility
-                canContinue = visitGenerics(one, oneType, oneKnownGenerics, two, twoType, twoKnownGenerics, visitor);
+                canContinue = visitGenerics(one, oneType, oneKnownGenerics, two, twoType, twoKnownGenerics, visitor,
+                        counter, depth);
             }
         }
         return canContinue;
     }
 
     @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity",
-            "PMD.NPathComplexity", "PMD.CyclomaticComplexity"})
+            "checkstyle:ParameterNumber", "PMD.NPathComplexity", "PMD.CyclomaticComplexity"})
     private static boolean visitGenerics(final Type one, final Class<?> oneType,
                                          final Map<String, Type> oneKnownGenerics,
                                          final Type two, final Class<?> twoType,
                                          final Map<String, Type> twoKnownGenerics,
-                                         final TypesVisitor visitor) {
+                                         final TypesVisitor visitor,
+                                         final WalkCounter counter,
+                                         final int depth) {
 
         // unify types first to compare generics of the same types
         // for example List<T> and ArrayList<T>, lower type is List<T>
@@ -187,7 +209,7 @@ public final class TypesWalker {
                 // be the source for both generics)
                 continue;
             }
-            if (!doWalk(oneParam, oneKnownGenerics, twoParam, twoKnownGenerics, visitor)) {
+            if (!doWalk(oneParam, oneKnownGenerics, twoParam, twoKnownGenerics, visitor, counter, depth + 1)) {
                 return false;
             }
         }
@@ -212,7 +234,7 @@ public final class TypesWalker {
                         // declaration through the same type found  (Some<T extends Some>)
                         if (bound instanceof ParameterizedType
                                 && ((ParameterizedType) bound).getRawType().equals(src)) {
-                            for (Type param : ((ParameterizedType) bound).getActualTypeArguments()) {
+                            for (Type param : TypeContainers.arguments((ParameterizedType) bound)) {
                                 // loop detected (recursive generic declaration)
                                 if (param instanceof TypeVariable
                                         && ((TypeVariable) param).getName().equals(genericName)) {
@@ -307,8 +329,8 @@ public final class TypesWalker {
      */
     private static boolean isLowerBoundsCompatible(final WildcardType one, final WildcardType two) {
         boolean res = true;
-        final Type[] oneLower = one.getLowerBounds();
-        final Type[] twoLower = two.getLowerBounds();
+        final Type[] oneLower = TypeContainers.lowerBounds(one);
+        final Type[] twoLower = TypeContainers.lowerBounds(two);
         if (oneLower.length > 0 && twoLower.length > 0) {
             res = isCompatible(GenericsUtils.resolveClassIgnoringVariables(oneLower[0]),
                     GenericsUtils.resolveClassIgnoringVariables(twoLower[0]));
@@ -325,10 +347,10 @@ public final class TypesWalker {
      */
     private static boolean isLowerBoundCompatible(final WildcardType type, final Class... with) {
         boolean res = true;
-        if (type.getLowerBounds().length > 0) {
+        if (TypeContainers.lowerBounds(type).length > 0) {
             // only one super could be used
             // couldn't be an object here as ? super Object is always replaced to simply Object before comparison
-            final Class<?> lower = GenericsUtils.resolveClassIgnoringVariables(type.getLowerBounds()[0]);
+            final Class<?> lower = GenericsUtils.resolveClassIgnoringVariables(TypeContainers.lowerBounds(type)[0]);
 
             // target may only be lower bound's super type (or same type)
             for (Class<?> target : with) {
@@ -352,12 +374,28 @@ public final class TypesWalker {
             res = GenericsResolutionUtils
                     .resolveGenerics(upperType, upperKnownGenerics);
         } else {
-            // resolve upper class hierarchy to get lower type generics
-            res = GenericsResolutionUtils.resolve(upperClass,
+            // project lower type generics through cached upper class hierarchy template
+            // (avoid upper class hierarchy resolution on each walk)
+            res = HierarchyTemplates.resolve(upperClass,
                     // use lower generics for upper type resolution, because of possibly known owner type generics
-                    GenericsResolutionUtils.resolveGenerics(upperType, lowerKnownGenerics))
-                    .get(lowerClass);
+                    GenericsResolutionUtils.resolveGenerics(upperType, lowerKnownGenerics),
+                    lowerClass);
         }
         return res;
     }
+
+    /**
+     * Walk metrics (compared type pairs and maximum depth).
+     */
+    private static final class WalkCounter {
+        private int steps;
+        private int depth;
+
+        void step(final int depth) {
+            steps++;
+            if (depth > this.depth) {
+                this.depth = depth;
+            }
+        }
+    }
 }
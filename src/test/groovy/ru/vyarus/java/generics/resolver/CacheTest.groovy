@@ -2,13 +2,24 @@ package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.context.GenericsInfo
 import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.inlying.support.DeclarationType
+import ru.vyarus.java.generics.resolver.inlying.support.RootType
+import ru.vyarus.java.generics.resolver.inlying.support.SubTypeExt
+import ru.vyarus.java.generics.resolver.support.inner.InOwner
+import ru.vyarus.java.generics.resolver.support.inner.LongOwnerRoot
+import ru.vyarus.java.generics.resolver.support.inner.StringOwnerRoot
 import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.cache.WeakClassCache
 import spock.lang.Shared
 import spock.lang.Specification
 
+import java.lang.reflect.Proxy
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
 import java.util.concurrent.Future
+import java.util.concurrent.atomic.AtomicInteger
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.param
 
 /**
  * @author Vyacheslav Rusakov 
@@ -51,12 +62,42 @@ class CacheTest extends Specification {
         true
     }
 
+    def "Check value computed once"() {
+
+        when: "Loading the same value in 20 threads"
+        WeakClassCache<String> cache = new WeakClassCache<>()
+        AtomicInteger calls = new AtomicInteger()
+        List<Future<String>> executed = []
+        20.times({
+            executed << executor.submit({
+                cache.get(Root, null, { Thread.sleep(50); calls.incrementAndGet(); 'value' } as WeakClassCache.Loader)
+            } as java.util.concurrent.Callable)
+        })
+        then: "Value computed once"
+        executed.collect { it.get() } as Set == ['value'] as Set
+        calls.get() == 1
+        cache.size() == 1
+        cache.get(Root) == 'value'
+        cache.get(Root, 'other') == null
+
+        when: "Loader fails"
+        cache.get(Root, 'other', { throw new IllegalStateException() } as WeakClassCache.Loader)
+        then: "Nothing cached"
+        thrown(IllegalStateException)
+        cache.size() == 1
+
+        when: "Clearing cache"
+        cache.clear()
+        then:
+        cache.isEmpty()
+    }
+
     def "Check cache methods"() {
 
         when: "clear current cache state"
         def field = GenericsInfoFactory.getDeclaredField("CACHE")
         field.setAccessible(true)
-        Map cache = field.get(null)
+        def cache = field.get(null)
         then:
         !cache.isEmpty()
         GenericsInfoFactory.isCacheEnabled()
@@ -78,4 +119,79 @@ class CacheTest extends Specification {
        cleanup:
        System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, "true")
     }
-}
\ No newline at end of file
+
+    def "Check inlying cache"() {
+
+        setup:
+        def field = DeclarationType.getDeclaredField("one")
+
+        when: "inlying cache disabled"
+        def context = GenericsResolver.resolve(RootType)
+        then: "inlying context not cached"
+        !GenericsInfoFactory.inlyingCacheEnabled
+        !context.fieldType(field).genericsInfo.is(context.fieldType(field).genericsInfo)
+
+        when: "inlying cache enabled"
+        GenericsInfoFactory.enableInlyingCache()
+        def info = context.fieldType(field).genericsInfo
+        then: "inlying context cached"
+        GenericsInfoFactory.inlyingCacheEnabled
+        info.is(context.fieldType(field).genericsInfo)
+        info.is(GenericsResolver.resolve(RootType).fieldType(field).genericsInfo)
+        context.fieldType(field).generic("T") == Integer
+        context.fieldType(field).rootContext().currentClass() == DeclarationType
+        !info.is(GenericsResolver.resolve(DeclarationType).fieldType(field).genericsInfo)
+        context.inlyingTypeAs(field.getGenericType(), SubTypeExt).genericsInfo
+                .is(context.inlyingTypeAs(field.getGenericType(), SubTypeExt).genericsInfo)
+        context.inlyingTypeAs(field.getGenericType(), SubTypeExt).generic("K") == Integer
+
+        when: "main cache disabled"
+        GenericsInfoFactory.disableCache()
+        then: "inlying cache disabled too"
+        !GenericsInfoFactory.inlyingCacheEnabled
+
+        cleanup:
+        System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, "true")
+        System.clearProperty(GenericsInfoFactory.INLYING_CACHE_PROPERTY)
+    }
+
+    def "Check inlying cache with outer generics from root"() {
+
+        setup:
+        GenericsInfoFactory.enableInlyingCache()
+
+        when: "resolving the same field type in different roots"
+        def one = GenericsResolver.resolve(StringOwnerRoot)
+                .fieldType(StringOwnerRoot.getField("target")).type(InOwner.Inner)
+        def two = GenericsResolver.resolve(LongOwnerRoot)
+                .fieldType(LongOwnerRoot.getField("target")).type(InOwner.Inner)
+        then: "outer generics used from root context"
+        one.ownerGenericsMap() == ["T": String]
+        two.ownerGenericsMap() == ["T": Long]
+        GenericsInfoFactory.inlyingCacheSize == 0
+
+        cleanup:
+        System.clearProperty(GenericsInfoFactory.INLYING_CACHE_PROPERTY)
+    }
+
+    def "Check inlying cache with foreign class loader parameters"() {
+
+        setup:
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.enableInlyingCache()
+        Class one = Proxy.getProxyClass(new URLClassLoader(new URL[0]), Runnable)
+        Class two = Proxy.getProxyClass(new URLClassLoader(new URL[0]), Runnable)
+        def context = GenericsResolver.resolve(Object)
+
+        when: "resolving types with the same raw type and parameter classes from different loaders"
+        def info = context.inlyingType(param(List, one)).genericsInfo
+        then: "cached by parameter classes"
+        info.is(context.inlyingType(param(List, one)).genericsInfo)
+        !info.is(context.inlyingType(param(List, two)).genericsInfo)
+        context.inlyingType(param(List, two)).generic("E") == two
+        GenericsInfoFactory.inlyingCacheSize == 2
+
+        cleanup:
+        System.clearProperty(GenericsInfoFactory.INLYING_CACHE_PROPERTY)
+    }
+}
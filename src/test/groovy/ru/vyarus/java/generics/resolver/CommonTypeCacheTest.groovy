@@ -0,0 +1,98 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.cache.CommonTypeCache
+import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class CommonTypeCacheTest extends Specification {
+
+    void cleanup() {
+        CommonTypeCache.disable()
+    }
+
+    def "Check common types caching"() {
+
+        setup:
+        def expected = TypeUtils.getCommonType(Integer, Double)
+        CommonTypeCache.enable(100)
+
+        when: "calculating common type twice"
+        def first = TypeUtils.getCommonType(Integer, Double)
+        def second = TypeUtils.getCommonType(Integer, Double)
+        then: "second result cached"
+        first == expected
+        second.is(first)
+        CommonTypeCache.getStats().hits == 1
+        CommonTypeCache.getStats().misses == 1
+        CommonTypeCache.getStats().size == 1
+
+        when: "primitive type used"
+        def primitive = TypeUtils.getCommonType(int, Double)
+        then: "the same pair after cleanup"
+        primitive.is(first)
+        CommonTypeCache.getStats().hits == 2
+
+        when: "interfaces flag changed"
+        def reduced = CommonTypeFactory.build(Integer, Double, false)
+        then: "different pair"
+        reduced == Number
+        CommonTypeCache.getStats().size == 2
+
+        when: "clearing cache"
+        CommonTypeCache.clear()
+        then: "stats preserved"
+        CommonTypeCache.getStats().size == 0
+        CommonTypeCache.getStats().hits == 2
+        TypeUtils.getCommonType(Integer, Double) == expected
+    }
+
+    def "Check cached results consistency"() {
+
+        setup:
+        def pairs = [[ArrayList, LinkedList], [param(List, String), param(Set, String)], [Integer, String],
+                     [param(List, Integer), param(ArrayList, Integer)], [Integer[], Double[]], [int[], Integer[]]]
+        def expected = pairs.collect { TypeUtils.getCommonType(it[0], it[1]) }
+        CommonTypeCache.enable(100)
+
+        expect: "same results with cache"
+        pairs.collect { TypeUtils.getCommonType(it[0], it[1]) } == expected
+        pairs.collect { TypeUtils.getCommonType(it[0], it[1]) } == expected
+        CommonTypeCache.getStats().hits == pairs.size()
+    }
+
+    def "Check instance types cached as ordinary types"() {
+
+        setup:
+        CommonTypeCache.enable(100)
+
+        when: "calculating common type for instance type"
+        def res = TypeUtils.getCommonType(new ParameterizedInstanceType(ArrayList, new ArrayList()), LinkedList)
+        def res2 = TypeUtils.getCommonType(new ParameterizedInstanceType(ArrayList, new ArrayList()), LinkedList)
+        then: "instance type replaced with ordinary type in key"
+        res == TypeUtils.getCommonType(ArrayList, LinkedList)
+        res2.is(res)
+        CommonTypeCache.getStats().hits >= 1
+    }
+
+    def "Check disabled cache"() {
+
+        when: "cache disabled"
+        TypeUtils.getCommonType(Integer, Double)
+        then: "nothing cached"
+        !CommonTypeCache.isEnabled()
+        CommonTypeCache.getStats().size == 0
+
+        when: "wrong size"
+        CommonTypeCache.enable(-1)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+}
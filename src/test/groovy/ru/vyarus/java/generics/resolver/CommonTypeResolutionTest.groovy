@@ -4,8 +4,17 @@ package ru.vyarus.java.generics.resolver
 import ru.vyarus.java.generics.resolver.support.array.GenericArrayDeclarations
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils
 import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.CommonTypeFactory
 import spock.lang.Specification
 
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
 import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
 
 /**
@@ -64,6 +73,68 @@ class CommonTypeResolutionTest extends Specification {
     }
 
 
+    def "Check multiple types common type"() {
+
+        expect: "same as sequential calculation"
+        TypeUtils.getCommonType([Double, Integer, Double, Long, Integer]) ==
+                TypeUtils.getCommonType(TypeUtils.getCommonType(Double, Integer), Long)
+        TypeUtils.getCommonType([String]) == String
+        TypeUtils.getCommonType([Root1, Root2, Root1]) == Base
+        CommonTypeFactory.build([Double, Integer], false) == Number
+
+        when: "no types"
+        TypeUtils.getCommonType([])
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+
+    def "Check parallel common type"() {
+
+        setup:
+        def executor = Executors.newFixedThreadPool(4)
+        List<Class> types = [Integer, Long, Double, Float, Short, Byte, BigDecimal, BigInteger, AtomicInteger,
+                             AtomicLong] * 20 + [ArrayList, LinkedList, HashSet, TreeSet, Vector, ArrayDeque,
+                                                 PriorityQueue, CopyOnWriteArrayList, ConcurrentLinkedQueue, Stack,
+                                                 LinkedHashSet, Root1, Root2, String, StringBuilder, Thread, Date,
+                                                 Object]
+
+        expect: "same result as sequential calculation"
+        CommonTypeFactory.build(types, true, executor) == TypeUtils.getCommonType(types)
+        CommonTypeFactory.build(types.subList(0, 10), true, executor) == TypeUtils.getCommonType(types.subList(0, 10))
+        CommonTypeFactory.build(types.subList(0, 10) + [ArrayList, LinkedList] * 10, false, executor) ==
+                CommonTypeFactory.build(types.subList(0, 10) + [ArrayList, LinkedList], false)
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "Check parallel common type is exact"() {
+
+        setup:
+        def executor = Executors.newFixedThreadPool(4)
+        // order-sensitive: Number and String have less common interfaces than Double and String
+        List<Class> types = [Integer, ArrayDeque, LinkedList, Long, PriorityQueue, BigDecimal, TreeSet, AtomicInteger,
+                             Byte, Float, Short, Stack, HashSet, CopyOnWriteArrayList, ArrayList, Double,
+                             LinkedHashSet, Vector, String, AtomicLong, BigInteger]
+        List<Class> exceptions = [IOException, RuntimeException, IllegalArgumentException, IllegalStateException,
+                                  NullPointerException, ClassCastException, ArithmeticException,
+                                  IndexOutOfBoundsException, ArrayIndexOutOfBoundsException,
+                                  UnsupportedOperationException, InterruptedException, CloneNotSupportedException,
+                                  NumberFormatException, ConcurrentModificationException, NoSuchElementException,
+                                  TimeoutException, ExecutionException, FileNotFoundException]
+
+        expect: "parallel result is always the same as sequential"
+        CommonTypeFactory.build(types, false, executor) == CommonTypeFactory.build(types, false)
+        CommonTypeFactory.build(types, false, executor) == Serializable
+        CommonTypeFactory.build(types, true, executor) == CommonTypeFactory.build(types, true)
+        CommonTypeFactory.build(types.reverse(), false, executor) == CommonTypeFactory.build(types.reverse(), false)
+        CommonTypeFactory.build(exceptions, false, executor) == Exception
+        CommonTypeFactory.build(exceptions, true, executor) == CommonTypeFactory.build(exceptions, true)
+
+        cleanup:
+        executor.shutdown()
+    }
+
     interface Base {}
     interface Root1 extends Base {}
     interface Root2 extends Base {}
@@ -4,17 +4,23 @@ import ru.vyarus.java.generics.resolver.context.GenericsInfo
 import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import ru.vyarus.java.generics.resolver.context.container.GenericArrayTypeImpl
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers
 import ru.vyarus.java.generics.resolver.context.container.WildcardTypeImpl
 import ru.vyarus.java.generics.resolver.support.Model
 import ru.vyarus.java.generics.resolver.support.array.ArBase
 import ru.vyarus.java.generics.resolver.support.array.ArBaseLvl2
 import ru.vyarus.java.generics.resolver.support.array.ArRoot
+import ru.vyarus.java.generics.resolver.util.GenericsUtils
+import ru.vyarus.java.generics.resolver.util.TypeVariableUtils
+import ru.vyarus.java.generics.resolver.util.map.EmptyGenericsMap
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
 import spock.lang.Specification
 
 import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
 
 import java.lang.reflect.GenericArrayType
 import java.lang.reflect.ParameterizedType
+import java.lang.reflect.Type
 import java.lang.reflect.WildcardType
 
 
@@ -72,4 +78,82 @@ class ContainersTest extends Specification {
         wildcardLower.getUpperBounds() == [Object]
         wildcardLower.toString() == "? super Model"
     }
-}
\ No newline at end of file
+
+    def "Check containers internal accessors"() {
+
+        ParameterizedType type = param(List, Model)
+        WildcardType wildcard = lower(Model)
+
+        expect: "internal arrays returned"
+        TypeContainers.arguments(type).is(TypeContainers.arguments(type))
+        TypeContainers.arguments(type) == [Model] as Type[]
+        TypeContainers.lowerBounds(wildcard).is(TypeContainers.lowerBounds(wildcard))
+        TypeContainers.lowerBounds(wildcard) == [Model] as Type[]
+        TypeContainers.upperBounds(wildcard) == [Object] as Type[]
+
+        and: "public methods still copy"
+        !type.getActualTypeArguments().is(type.getActualTypeArguments())
+        !wildcard.getLowerBounds().is(wildcard.getLowerBounds())
+
+        and: "hash consistent with equals"
+        type.hashCode() == param(List, Model).hashCode()
+        type == param(List, Model)
+        type != param(List, String)
+        wildcard.hashCode() == lower(Model).hashCode()
+        wildcard == lower(Model)
+    }
+
+    def "Check hash not cached for instance types"() {
+
+        setup: "container with instance type"
+        ParameterizedInstanceType inst = new ParameterizedInstanceType(List, new ArrayList())
+        ParameterizedType type = param(Set, inst)
+        int hash = type.hashCode()
+
+        when: "instance type changed"
+        inst.improveAccuracy(String)
+
+        then: "container hash recomputed"
+        type.hashCode() != hash
+        type.hashCode() == param(Set, inst).hashCode()
+    }
+
+    def "Check resolved containers returned as is"() {
+
+        expect: "variables free types not changed"
+        TypeContainers.isResolved(type) == resolved
+        GenericsUtils.resolveTypeVariables(type, EmptyGenericsMap.getInstance()).is(type) == resolved
+
+        where:
+        type                                          | resolved
+        param(List, Model)                            | true
+        param(Map, String, param(List, lower(Model))) | true
+        array(param(List, Model))                     | true
+        upper(Model, Comparable)                      | true
+        lower(Model)                                  | true
+        param(List)                                   | false
+        upper(Model)                                  | false
+        lower(Object)                                 | false
+        array(Model)                                  | false
+        param(List, upper(Model))                     | false
+        param(List, List.getTypeParameters()[0])      | false
+        new ParameterizedInstanceType(List)           | false
+    }
+
+    def "Check copy on change resolution"() {
+
+        setup: "type with preserved variable"
+        Type type = TypeVariableUtils.preserveVariables(param(Map, String, List.getTypeParameters()[0]))
+
+        expect: "type not changed when preserved variables not resolved"
+        !TypeContainers.isResolved(type)
+        GenericsUtils.resolveTypeVariables(type, EmptyGenericsMap.getInstance()).is(type)
+
+        and: "changed type rebuilt, but unchanged parts preserved"
+        Type inner = param(List, Model)
+        ParameterizedType res = GenericsUtils.resolveTypeVariables(
+                param(Map, inner, Map.getTypeParameters()[1]), ["V": String]) as ParameterizedType
+        res.toString() == "Map<List<Model>, String>"
+        TypeContainers.arguments(res)[0].is(inner)
+    }
+}
@@ -0,0 +1,217 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfo
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.support.BeanRoot
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.LazyHierarchy
+import ru.vyarus.java.generics.resolver.util.cache.GenericsInfoWeigher
+import ru.vyarus.java.generics.resolver.util.cache.LfuEvictionPolicy
+import ru.vyarus.java.generics.resolver.util.cache.LruEvictionPolicy
+import ru.vyarus.java.generics.resolver.util.cache.WeakClassCache
+import ru.vyarus.java.generics.resolver.util.cache.Weigher
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class EvictionPolicyTest extends Specification {
+
+    def "Check lru eviction"() {
+
+        setup:
+        WeakClassCache<String> cache = new WeakClassCache<>()
+        def policy = new LruEvictionPolicy<String>(2)
+        cache.setPolicy(policy)
+
+        when: "filling cache"
+        load(cache, String)
+        load(cache, Integer)
+        cache.get(String)
+        load(cache, Long)
+        then: "least recently used evicted"
+        cache.size() == 2
+        cache.get(Integer) == null
+        cache.get(String) == 'String'
+        cache.get(Long) == 'Long'
+        policy.stats.hits == 3
+        policy.stats.misses == 4
+        policy.stats.evictions == 1
+        policy.stats.size == 2
+
+        when: "clearing cache"
+        cache.clear()
+        then: "policy cleared, but stats preserved"
+        policy.stats.size == 0
+        policy.stats.hits == 3
+    }
+
+    def "Check lfu eviction"() {
+
+        setup:
+        WeakClassCache<String> cache = new WeakClassCache<>()
+        def policy = new LfuEvictionPolicy<String>(2)
+        cache.setPolicy(policy)
+
+        when: "filling cache"
+        load(cache, String)
+        load(cache, Integer)
+        load(cache, String)
+        load(cache, String)
+        load(cache, Integer)
+        load(cache, Long)
+        then: "least frequently used evicted"
+        cache.size() == 2
+        cache.get(Integer) == null
+        cache.get(String) == 'String'
+        policy.stats.evictions == 1
+
+        when: "adding one more"
+        load(cache, Double)
+        then: "recently added evicted"
+        cache.get(Long) == null
+        cache.get(String) == 'String'
+        cache.get(Double) == 'Double'
+    }
+
+    def "Check weight limit"() {
+
+        setup:
+        WeakClassCache<String> cache = new WeakClassCache<>()
+        def policy = new LruEvictionPolicy<String>(LruEvictionPolicy.UNLIMITED, 10, { (long) it.length() } as Weigher)
+        cache.setPolicy(policy)
+
+        when: "filling cache"
+        load(cache, String)
+        load(cache, Integer)
+        then: "weight limit respected"
+        cache.size() == 1
+        cache.get(Integer) == 'Integer'
+        policy.stats.weight == 7
+
+        when: "entry heavier then limit"
+        load(cache, StringBuilder)
+        then: "not cached"
+        cache.size() == 0
+        policy.stats.weight == 0
+        policy.stats.evictions == 3
+    }
+
+    def "Check factory policy"() {
+
+        setup:
+        def policy = new LruEvictionPolicy<GenericsInfo>(1)
+        GenericsInfoFactory.setEvictionPolicy(policy)
+
+        when: "resolving types"
+        def info = GenericsInfoFactory.create(Root)
+        GenericsInfoFactory.create(Root)
+        GenericsInfoFactory.create(BeanRoot)
+        then: "evicted"
+        GenericsInfoFactory.evictionPolicy.is(policy)
+        !info.is(GenericsInfoFactory.create(Root))
+        policy.stats.hits == 1
+        policy.stats.misses == 3
+        policy.stats.evictions == 2
+        policy.stats.hitRate == 0.25d
+
+        when: "weight limited policy"
+        policy = new LfuEvictionPolicy<GenericsInfo>(100, 100000, new GenericsInfoWeigher())
+        GenericsInfoFactory.setEvictionPolicy(policy)
+        GenericsInfoFactory.create(Root)
+        then: "weight computed"
+        policy.stats.weight > 0
+        policy.stats.weight == new GenericsInfoWeigher().weigh(GenericsInfoFactory.create(Root))
+
+        cleanup:
+        GenericsInfoFactory.setEvictionPolicy(null)
+    }
+
+    def "Check buffered hits"() {
+
+        setup:
+        WeakClassCache<String> cache = new WeakClassCache<>()
+        def policy = new LruEvictionPolicy<String>(2)
+        cache.setPolicy(policy)
+
+        when: "many reads between writes"
+        load(cache, String)
+        load(cache, Integer)
+        100.times { cache.get(Integer) }
+        cache.get(String)
+        load(cache, Long)
+        then: "all accesses applied"
+        cache.get(Integer) == null
+        cache.get(String) == 'String'
+        policy.stats.hits == 103
+    }
+
+    def "Check concurrent hits"() {
+
+        setup:
+        WeakClassCache<String> cache = new WeakClassCache<>()
+        def policy = new LruEvictionPolicy<String>(3)
+        cache.setPolicy(policy)
+        List<Class> types = [String, Integer, Long, Double, Float, Short, Byte]
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+
+        when: "concurrent reads and writes"
+        List<Future> futures = (1..8).collect { int seed ->
+            executor.submit {
+                Random random = new Random(seed)
+                10000.times {
+                    Class type = types[random.nextInt(types.size())]
+                    if (cache.get(type) == null) {
+                        load(cache, type)
+                    }
+                }
+            }
+        }
+        futures*.get()
+        then: "limit respected and hits counted"
+        cache.size() <= 3
+        policy.stats.size <= 3
+        policy.stats.hits > 0
+        policy.stats.hits + policy.stats.misses >= 80000
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "Check lazy descriptor weight"() {
+
+        setup:
+        LazyHierarchy hierarchy = GenericsResolutionUtils.resolveLazy(Root,
+                [:] as LinkedHashMap<String, Type>, [:], [])
+
+        when: "weighing lazy descriptor"
+        long weight = new GenericsInfoWeigher().weigh(new GenericsInfo(hierarchy))
+        then: "hierarchy not resolved"
+        weight > 0
+        hierarchy.resolvedCount == 0
+    }
+
+    def "Check policy validation"() {
+
+        when: "negative limit"
+        new LruEvictionPolicy<String>(0)
+        then:
+        thrown(IllegalArgumentException)
+
+        when: "no weigher"
+        new LfuEvictionPolicy<String>(10, 10, null)
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private static void load(WeakClassCache<String> cache, Class type) {
+        cache.get(type, null, { type.simpleName } as WeakClassCache.Loader)
+    }
+}
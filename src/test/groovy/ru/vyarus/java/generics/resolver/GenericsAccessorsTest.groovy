@@ -1,9 +1,13 @@
 package ru.vyarus.java.generics.resolver
 
+import ru.vyarus.java.generics.resolver.context.AbstractGenericsContext
 import ru.vyarus.java.generics.resolver.context.GenericsContext
 import ru.vyarus.java.generics.resolver.support.ConstructorGenerics
+import ru.vyarus.java.generics.resolver.util.map.ImmutableGenericsMap
 import spock.lang.Specification
 
+import java.lang.reflect.Modifier
+
 /**
  * @author Vyacheslav Rusakov
  * @since 25.05.2018
@@ -117,6 +121,88 @@ class GenericsAccessorsTest extends Specification {
         return context.toString().replace("\r", "")
     }
 
+    def "Check accessors does not copy"() {
+
+        when: "accessing generics"
+        def context = GenericsResolver.resolve(Root).type(Outer)
+        then: "the same instances returned"
+        context.genericTypes().is(context.genericTypes())
+        context.genericsMap().is(context.genericsMap())
+        context.visibleGenericsMap().is(context.visibleGenericsMap())
+        context.genericType(1) == Integer
+        context.generic(2) == Long
+
+        when: "modifying generics map"
+        context.genericsMap().put("A", Object)
+        then: "immutable"
+        thrown(UnsupportedOperationException)
+
+        when: "modifying generic types list"
+        context.genericTypes().set(0, Object)
+        then: "immutable"
+        thrown(UnsupportedOperationException)
+
+        when: "modifying owner generics map"
+        context.fieldType(Root.getDeclaredField('field')).ownerGenericsMap().remove("B")
+        then: "immutable"
+        thrown(UnsupportedOperationException)
+
+        when: "wrong position"
+        context.genericType(5)
+        then: "error"
+        thrown(IndexOutOfBoundsException)
+    }
+
+    def "Check context type generics field"() {
+
+        when: "inner class context"
+        def field = AbstractGenericsContext.getDeclaredField('typeGenerics')
+        field.accessible = true
+        def context = GenericsResolver.resolve(Root).type(Outer).fieldType(Root.getDeclaredField('field'))
+        then: "field type preserved"
+        field.type == Map
+        Modifier.isFinal(field.modifiers)
+        field.get(context) instanceof ImmutableGenericsMap
+        field.get(context) == ["A": Double, "T": Comparable]
+        context.genericType(1) == Comparable
+
+        and: "descriptor map not affected"
+        context.genericsInfo.getTypeGenerics(context.currentClass()) ==
+                ["A": Double, "T": Comparable, "B": Integer, "C": Long]
+    }
+
+    def "Check compact generics map"() {
+
+        when: "resolving hierarchy"
+        def map = GenericsResolver.resolve(Root).genericsInfo.getTypeGenerics(Outer)
+        then: "compact map used"
+        map instanceof ImmutableGenericsMap
+        map.keySet() as List == ['A', 'B', 'C']
+        map == ['A': String, 'B': Integer, 'C': Long] as LinkedHashMap
+        map.hashCode() == (['A': String, 'B': Integer, 'C': Long] as LinkedHashMap).hashCode()
+        map.indexOf('B') == 1
+        map.indexOf('D') == -1
+        map.getName(2) == 'C'
+        map.getType(2) == Long
+        map['C'] == Long
+        map['D'] == null
+        map.containsValue(Integer)
+
+        and: "empty map shared"
+        ImmutableGenericsMap.of([:]).is(ImmutableGenericsMap.empty())
+        ImmutableGenericsMap.of(map).is(map)
+
+        when: "modifying map"
+        map.entrySet().iterator().next().setValue(Object)
+        then: "immutable"
+        thrown(UnsupportedOperationException)
+
+        when: "clearing map"
+        map.clear()
+        then: "immutable"
+        thrown(UnsupportedOperationException)
+    }
+
     static class Root extends Outer<String, Integer, Long> {
 
         Inner<Double, Comparable> field
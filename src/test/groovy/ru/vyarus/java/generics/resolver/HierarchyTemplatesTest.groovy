@@ -0,0 +1,104 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.context.container.ExplicitTypeVariable
+import ru.vyarus.java.generics.resolver.support.CommonsLangChecks
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.HierarchyTemplates
+import spock.lang.Specification
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class HierarchyTemplatesTest extends Specification {
+
+    void cleanup() {
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check hierarchy templates"() {
+
+        when: "building template"
+        def template = HierarchyTemplates.template(ArrayList)
+        then: "root variables preserved"
+        template[ArrayList]['E'] instanceof ExplicitTypeVariable
+        template[Collection]['E'] instanceof ExplicitTypeVariable
+        template[Iterable]['T'] instanceof ExplicitTypeVariable
+        and: "template cached"
+        HierarchyTemplates.template(ArrayList).is(template)
+
+        when: "resolving type generics"
+        def generics = ['E': param(List, String)] as LinkedHashMap
+        def res = HierarchyTemplates.resolve(ArrayList, generics, Collection)
+        then: "same as hierarchy resolution"
+        res == GenericsResolutionUtils.resolve(ArrayList, generics).get(Collection)
+        res == ['E': param(List, String)]
+
+        when: "clearing cache"
+        GenericsInfoFactory.clearCache()
+        then: "template removed"
+        !HierarchyTemplates.template(ArrayList).is(template)
+    }
+
+    def "Check inner class template"() {
+
+        when: "resolving inner class with outer generics"
+        def generics = GenericsResolutionUtils.resolveGenerics(
+                param(CommonsLangChecks.That, [String, Integer] as java.lang.reflect.Type[],
+                        param(CommonsLangChecks, Long)), [:])
+        def res = HierarchyTemplates.resolve(CommonsLangChecks.That, generics, CommonsLangChecks.This)
+        then: "same as hierarchy resolution"
+        res == GenericsResolutionUtils.resolve(CommonsLangChecks.That, generics).get(CommonsLangChecks.This)
+        res['K'] == String
+        res['V'] == Integer
+        HierarchyTemplates.resolve(CommonsLangChecks.That, generics, CommonsLangChecks.That) == generics
+
+        when: "resolving not related type"
+        HierarchyTemplates.resolve(ArrayList, ['E': String] as LinkedHashMap, Map)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+
+    def "Check complete hierarchy substitution"() {
+
+        when: "resolving hierarchy from template"
+        def generics = ['K': String, 'V': param(List, Integer)] as LinkedHashMap
+        def res = HierarchyTemplates.resolveHierarchy(TreeMap, generics)
+        then: "same as hierarchy resolution"
+        res == GenericsResolutionUtils.resolve(TreeMap, generics)
+        !HierarchyTemplates.hasInnerTypes(TreeMap)
+    }
+
+    def "Check inlying contexts from template"() {
+
+        when: "resolving inlying contexts"
+        def context = GenericsResolver.resolve(Holder)
+        def list = context.fieldType(Holder.getField("list"))
+        def map = context.fieldType(Holder.getField("map"))
+        def tracked = context.inlyingTypeAs(Holder.getField("list").genericType, ArrayList)
+        then: "hierarchy computed from template"
+        list.type(Iterable).generic("T") == Integer
+        map.type(Map).genericsMap() == ["K": String, "V": param(List, Integer)]
+        tracked.type(Collection).generic("E") == Integer
+        tracked.generic("E") == Integer
+
+        when: "resolving the same without template"
+        GenericsInfoFactory.disableCache()
+        then: "same result"
+        context.fieldType(Holder.getField("list")).genericsInfo.typesMap == list.genericsInfo.typesMap
+        context.fieldType(Holder.getField("map")).genericsInfo.typesMap == map.genericsInfo.typesMap
+        context.inlyingTypeAs(Holder.getField("list").genericType, ArrayList).genericsInfo.typesMap ==
+                tracked.genericsInfo.typesMap
+
+        cleanup:
+        System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, "true")
+    }
+
+    static class Holder {
+        public List<Integer> list
+        public TreeMap<String, List<Integer>> map
+    }
+}
@@ -1,6 +1,7 @@
 package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import ru.vyarus.java.generics.resolver.support.BeanBase
 import ru.vyarus.java.generics.resolver.support.BeanRoot
 import ru.vyarus.java.generics.resolver.support.Lvl2Base1
@@ -28,4 +29,27 @@ class IgnoreTest extends Specification {
         then: "only root types resolved"
         context.genericsInfo.composingTypes == [BeanRoot, BeanBase, Lvl2Base1] as Set
     }
-}
\ No newline at end of file
+
+    def "Check ignored classes descriptors cache"() {
+
+        when: "resolving with ignored classes"
+        def info = GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase)
+        then: "descriptor cached"
+        info.is(GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase))
+        !info.is(GenericsInfoFactory.create(BeanRoot))
+        !info.is(GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase, Callable))
+        !GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase, Callable)
+                .is(GenericsInfoFactory.create(BeanRoot, Callable, Lvl2BeanBase))
+        GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase, Callable)
+                .is(GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase, Callable))
+
+        when: "cache disabled"
+        GenericsInfoFactory.clearCache()
+        GenericsInfoFactory.disableCache()
+        then: "descriptor not cached"
+        !GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase).is(GenericsInfoFactory.create(BeanRoot, Lvl2BeanBase))
+
+        cleanup:
+        System.setProperty(GenericsInfoFactory.CACHE_PROPERTY, "true")
+    }
+}
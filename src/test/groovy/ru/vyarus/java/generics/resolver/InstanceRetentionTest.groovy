@@ -0,0 +1,80 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.InstanceTypeAccumulator
+import ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory
+import ru.vyarus.java.generics.resolver.util.type.instance.GenericArrayInstanceType
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceRetention
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceType
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class InstanceRetentionTest extends Specification {
+
+    def "Check retention modes"() {
+
+        when: "building type"
+        def list = new ArrayList()
+        def list2 = new LinkedList()
+        InstanceType type = InstanceTypeFactory.build(retention, list, list2) as InstanceType
+        then: "type not affected by retention"
+        type.retention == retention
+        type.improvableType.retention == retention
+        type == TypeUtils.getInstanceType(new ArrayList(), new LinkedList())
+        type.hashCode() == TypeUtils.getInstanceType(new ArrayList(), new LinkedList()).hashCode()
+        type.hasMultipleInstances()
+        type.toString().endsWith("(1,...(2))")
+        retained ? type.instance.is(list) : type.instance == null
+        type.allInstances.length == count
+        type.iterator().toList().size() == count
+
+        where:
+        retention                        | retained | count
+        InstanceRetention.STRONG         | true     | 2
+        InstanceRetention.WEAK           | true     | 2
+        InstanceRetention.FIRST_INSTANCE | true     | 1
+        InstanceRetention.TYPE_ONLY      | false    | 0
+    }
+
+    def "Check default retention"() {
+
+        when: "building type without retention"
+        ParameterizedInstanceType type = TypeUtils.getInstanceType(1, 2)
+        then: "strong retention"
+        type.retention == InstanceRetention.STRONG
+        type.allInstances == [1, 2] as Object[]
+
+        when: "custom retention for exact call"
+        GenericArrayInstanceType array = InstanceTypeFactory.build(InstanceRetention.TYPE_ONLY,
+                [[1, 2] as Integer[]] as Object[]) as InstanceType
+        then: "inner types use the same retention"
+        array.retention == InstanceRetention.TYPE_ONLY
+        array.allInstances.length == 0
+        (array.genericComponentType as ParameterizedInstanceType).retention == InstanceRetention.TYPE_ONLY
+        array.toString() != null
+
+        and: "default retention not affected"
+        (TypeUtils.getInstanceType(1) as ParameterizedInstanceType).instance == 1
+
+        when: "accumulator with custom retention"
+        ParameterizedInstanceType acc = InstanceTypeAccumulator.create().retention(InstanceRetention.FIRST_INSTANCE)
+                .addAll(1, 2).build() as InstanceType
+        then: "retention applied"
+        acc.retention == InstanceRetention.FIRST_INSTANCE
+        acc.allInstances == [1] as Object[]
+    }
+
+    def "Check improvement without instances"() {
+
+        when: "type only instance type"
+        ParameterizedInstanceType type = InstanceTypeFactory.build(InstanceRetention.TYPE_ONLY, [1]) as InstanceType
+        type.improveAccuracy(Integer)
+        then: "improved"
+        type.completeType
+        type.instance == null
+    }
+}
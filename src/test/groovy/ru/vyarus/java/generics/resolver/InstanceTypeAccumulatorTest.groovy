@@ -0,0 +1,116 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.InstanceTypeAccumulator
+import ru.vyarus.java.generics.resolver.util.type.instance.GenericArrayInstanceType
+import ru.vyarus.java.generics.resolver.util.type.instance.InstanceType
+import spock.lang.Specification
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class InstanceTypeAccumulatorTest extends Specification {
+
+    def "Check accumulated type equals instances type"() {
+
+        expect:
+        InstanceTypeAccumulator.create().addAll(inst as Object[]).build() == TypeUtils.getInstanceType(inst as Object[])
+        InstanceTypeAccumulator.create().addAll(inst).build() == TypeUtils.getInstanceType(inst as Object[])
+        InstanceTypeAccumulator.create().addAll(inst.iterator()).build() == TypeUtils.getInstanceType(inst as Object[])
+
+        where:
+        inst                                                     | _
+        ["some"]                                                 | _
+        [12, null, 1.2]                                          | _
+        [[1, 2] as Integer[], [1.2] as Double[]]                 | _
+        [[] as Integer[]]                                        | _
+        [[1], [2L] as Set]                                       | _
+    }
+
+    def "Check empty accumulator"() {
+
+        when: "no instances"
+        def acc = InstanceTypeAccumulator.create()
+        then: "object type"
+        acc.isEmpty()
+        acc.build() == Object
+
+        when: "only nulls"
+        acc.add(null).add(null)
+        then: "nulls ignored"
+        acc.isEmpty()
+        acc.count == 0
+        acc.build() == Object
+    }
+
+    def "Check incremental snapshots"() {
+
+        when: "single class"
+        def acc = InstanceTypeAccumulator.create().add(1).add(2)
+        InstanceType type = acc.build() as InstanceType
+        then: "integer type"
+        type == Integer
+        type.allInstances == [1, 2] as Object[]
+
+        when: "new class added"
+        acc.add(1.2)
+        InstanceType type2 = acc.build() as InstanceType
+        then: "median type updated, previous snapshot not changed"
+        type2 == upper(Number, param(Comparable, Number))
+        type2.improvableType.allInstances == [1, 2, 1.2] as Object[]
+        type == Integer
+        type.allInstances == [1, 2] as Object[]
+        acc.count == 3
+    }
+
+    def "Check first instances sampling"() {
+
+        when: "limited accumulator"
+        def acc = InstanceTypeAccumulator.firstInstances(2).addAll(1, 2, 1.2, 3)
+        InstanceType type = acc.build() as InstanceType
+        then: "only first instances analyzed"
+        acc.count == 2
+        type == Integer
+        type.allInstances == [1, 2] as Object[]
+
+        when: "bad limit"
+        InstanceTypeAccumulator.firstInstances(0)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+
+    def "Check reservoir sampling"() {
+
+        when: "many instances"
+        def acc = InstanceTypeAccumulator.reservoir(10, new Random(1))
+        (1..1000).each { acc.add(it) }
+        acc.add(1.2)
+        InstanceType type = acc.build() as InstanceType
+        then: "all instances analyzed, but only sample retained"
+        acc.count == 1001
+        type == upper(Number, param(Comparable, Number))
+        type.improvableType.allInstances.length == 10
+        type.improvableType.allInstances.every { it in (1..1000) || it == 1.2 }
+    }
+
+    def "Check arrays sampling"() {
+
+        when: "arrays with reservoir"
+        def acc = InstanceTypeAccumulator.reservoir(2, new Random(1))
+        (1..10).each { acc.add([it, it + 1] as Integer[]) }
+        acc.add([] as Integer[])
+        GenericArrayInstanceType type = acc.build() as GenericArrayInstanceType
+        then: "arrays and elements sampled"
+        type == array(Integer)
+        type.allInstances.length == 2
+        (type.genericComponentType as InstanceType).allInstances.length == 2
+
+        when: "only empty arrays"
+        acc = InstanceTypeAccumulator.firstInstances(2).add([] as Integer[]).add([null] as Integer[])
+        then: "array class"
+        acc.build() == Integer[]
+    }
+}
@@ -0,0 +1,150 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.GenericsInfo
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.error.GenericsResolutionException
+import ru.vyarus.java.generics.resolver.support.*
+import ru.vyarus.java.generics.resolver.support.nestedtype.direct.BadRoot
+import ru.vyarus.java.generics.resolver.support.nestedtype.direct.Direct
+import ru.vyarus.java.generics.resolver.util.GenericInfoUtils
+import ru.vyarus.java.generics.resolver.util.GenericsResolutionUtils
+import ru.vyarus.java.generics.resolver.util.LazyHierarchy
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+import java.util.concurrent.ConcurrentSkipListSet
+import java.util.concurrent.LinkedBlockingDeque
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class LazyResolutionTest extends Specification {
+
+    void cleanup() {
+        System.clearProperty(GenericsInfoFactory.LAZY_PROPERTY)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check lazy resolution"() {
+
+        when: "resolving hierarchy lazily"
+        LazyHierarchy hierarchy = GenericsResolutionUtils.resolveLazy(Root,
+                [:] as LinkedHashMap<String, Type>, [:], [])
+        then: "only structure analyzed"
+        hierarchy.rootClass == Root
+        hierarchy.keySet() == GenericInfoUtils.create(Root).composingTypes
+        hierarchy.resolvedCount == 0
+        hierarchy.containsKey(Lvl2Base1)
+
+        when: "accessing deep type"
+        def generics = hierarchy.get(Lvl2Base1)
+        then: "only path resolved"
+        generics == ["I": Model]
+        hierarchy.isResolved(Lvl2Base1)
+        hierarchy.isResolved(Base1)
+        hierarchy.isResolved(Root)
+        !hierarchy.isResolved(Base2)
+        hierarchy.resolvedCount == 3
+
+        when: "accessing not hierarchy type"
+        def res = hierarchy.get(String)
+        then: "no generics"
+        res == null
+        !hierarchy.containsKey(String)
+
+        when: "iterating entries"
+        def it = hierarchy.entrySet().iterator()
+        then: "all types resolved before iteration"
+        hierarchy.resolvedCount == hierarchy.size()
+
+        when: "forcing full resolution"
+        def map = new HashMap(hierarchy)
+        then: "all types resolved"
+        hierarchy.resolvedCount == hierarchy.size()
+        map == GenericInfoUtils.create(Root).typesMap
+    }
+
+    def "Check lazy descriptors"() {
+
+        when: "lazy mode enabled"
+        GenericsInfoFactory.enableLazyResolution()
+        GenericsInfo lazy = GenericInfoUtils.create(type)
+        System.clearProperty(GenericsInfoFactory.LAZY_PROPERTY)
+        GenericsInfo eager = GenericInfoUtils.create(type)
+        then: "the same result"
+        GenericsInfoFactory.lazyResolutionEnabled == false
+        lazy.lazy
+        !eager.lazy
+        lazy.composingTypes == eager.composingTypes
+        lazy.typesMap == eager.typesMap
+        lazy.toString() == eager.toString()
+
+        where:
+        type                              | _
+        Root                              | _
+        BeanRoot                          | _
+        ArrayList                         | _
+        TreeMap                           | _
+        ConcurrentSkipListSet             | _
+        LinkedBlockingDeque               | _
+    }
+
+    def "Check lazy context"() {
+
+        when: "resolving context in lazy mode"
+        GenericsInfoFactory.enableLazyResolution()
+        GenericsContext context = GenericsResolver.resolve(BeanRoot)
+        then: "context works as usual"
+        context.genericsInfo.lazy
+        context.type(Lvl2Base1).generic("I") == Model
+        context.method(Lvl2Base1.getMethod("doSomth2")).resolveReturnClass() == Model
+    }
+
+    def "Check lazy hierarchy errors"() {
+
+        when: "resolving incorrect hierarchy"
+        GenericsInfoFactory.enableLazyResolution()
+        GenericsContext context = GenericsResolver.resolve(BadRoot)
+        then: "error not thrown"
+        context.genericsInfo.lazy
+        context.genericsInfo.composingTypes.contains(Direct)
+
+        when: "accessing incorrect type"
+        context.type(Direct).genericsMap()
+        then: "error"
+        def ex = thrown(GenericsResolutionException)
+        ex.message == "Failed to analyze hierarchy for BadRoot"
+        ex.cause.message.startsWith("Interface Direct<T> appears multiple times in root class hierarchy")
+    }
+
+    def "Check explicit lazy resolution"() {
+
+        when: "lazy descriptor created"
+        GenericsInfoFactory.enableLazyResolution()
+        GenericsInfo info = GenericInfoUtils.create(Root)
+        then: "composing types known without resolution"
+        info.lazy
+        info.composingTypes == GenericInfoUtils.create(Root).composingTypes
+        ((LazyHierarchy) info.types).resolvedCount == 0
+
+        when: "resolving all types"
+        info.resolveAll()
+        then: "all types resolved"
+        ((LazyHierarchy) info.types).resolvedCount == info.composingTypes.size()
+
+        when: "resolving incorrect hierarchy"
+        GenericInfoUtils.create(BadRoot).resolveAll()
+        then: "error"
+        def ex = thrown(GenericsResolutionException)
+        ex.cause.message.startsWith("Interface Direct<T> appears multiple times in root class hierarchy")
+
+        when: "resolving eager descriptor"
+        System.clearProperty(GenericsInfoFactory.LAZY_PROPERTY)
+        info = GenericInfoUtils.create(Root)
+        info.resolveAll()
+        then: "nothing happens"
+        !info.lazy
+    }
+}
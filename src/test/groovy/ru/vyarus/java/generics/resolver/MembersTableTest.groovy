@@ -0,0 +1,119 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.member.MembersTable
+import ru.vyarus.java.generics.resolver.context.member.ResolvedConstructor
+import ru.vyarus.java.generics.resolver.context.member.ResolvedField
+import ru.vyarus.java.generics.resolver.context.member.ResolvedMethod
+import ru.vyarus.java.generics.resolver.support.*
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class MembersTableTest extends Specification {
+
+    def "Check methods resolution"() {
+
+        when: "resolving members"
+        GenericsContext context = GenericsResolver.resolve(BeanRoot)
+        MembersTable table = context.members()
+        then: "table cached in descriptor"
+        table.is(context.members())
+        table.is(context.type(BeanBase).members())
+        table.types[0..2] == [BeanRoot, BeanBase, Lvl2BeanBase]
+        table.types.contains(Lvl2Base1)
+
+        when: "method resolved"
+        ResolvedMethod method = table.getMethod(BeanBase.getMethod("doSomth4", Object, int))
+        then: "types resolved"
+        method.declaringClass == BeanBase
+        method.returnClass == void
+        method.parameterTypes == [Model, int]
+        method.parameterClasses == [Model, int]
+        method.exceptionTypes.isEmpty()
+        method.methodGenerics.isEmpty()
+
+        when: "method resolved in interface"
+        method = table.getMethod(Lvl2Base1.getMethod("doSomth6"))
+        then: "the same as with context"
+        method.returnType == context.method(Lvl2Base1.getMethod("doSomth6")).resolveReturnType()
+        method.returnClass == Map
+        method.toString() == "Map<Model, Model> doSomth6()"
+
+        and: "all methods resolved"
+        table.getMethods(Lvl2Base1).size() == 6
+        table.methods.findAll { it.method.name == "doSomth5" }*.returnClass == [Model[], Model[]]
+    }
+
+    def "Check fields resolution"() {
+
+        when: "resolving fields"
+        MembersTable table = GenericsResolver.resolve(MembersRoot).members()
+        ResolvedField field = table.getField(MembersRoot.getField("field"))
+        then: "field type resolved"
+        field.declaringClass == MembersBase
+        field.type == GenericsResolver.resolve(MembersRoot).resolveFieldType(MembersRoot.getField("field"))
+        field.typeClass == List
+        field.toString() == "List<Integer> field"
+        table.getFields(MembersBase).contains(field)
+        table.fields.contains(field)
+    }
+
+    def "Check method generics and exceptions"() {
+
+        when: "resolving method with generics"
+        ResolvedMethod method = GenericsResolver.resolve(MembersRoot).members()
+                .getMethod(MembersBase.getMethod("process", Object))
+        then: "method generic resolved as upper bound"
+        method.methodGenerics == ["K": Number]
+        method.returnClass == Number
+        method.parameterTypes == [Integer]
+        method.exceptionTypes == [IOException]
+    }
+
+    def "Check constructors resolution"() {
+
+        when: "resolving constructors"
+        MembersTable table = GenericsResolver.resolve(ConstructorGenerics).members()
+        ResolvedConstructor ctor = table.getConstructor(ConstructorGenerics.getConstructor(Comparable))
+        then: "constructor generics resolved"
+        ctor.declaringClass == ConstructorGenerics
+        ctor.parameterTypes == [Comparable]
+        ctor.parameterClasses == [Comparable]
+        ctor.constructorGenerics == ["P": Comparable]
+        table.constructors.size() == 2
+        table.getConstructors(ConstructorGenerics).contains(ctor)
+    }
+
+    def "Check not in hierarchy"() {
+
+        setup:
+        MembersTable table = GenericsResolver.resolve(MembersRoot, MembersBase).members()
+
+        when: "accessing ignored class members"
+        table.getField(MembersRoot.getField("field"))
+        then: "error"
+        thrown(IllegalArgumentException)
+
+        when: "accessing ignored class"
+        table.getMethods(MembersBase)
+        then: "error"
+        thrown(IllegalArgumentException)
+
+        and: "ignored class not in types"
+        table.types[0] == MembersRoot
+        !table.types.contains(MembersBase)
+    }
+
+    static class MembersBase<T> {
+        public List<T> field
+
+        public <K extends Number> K process(T arg) throws IOException {
+            return null
+        }
+    }
+
+    static class MembersRoot extends MembersBase<Integer> {}
+}
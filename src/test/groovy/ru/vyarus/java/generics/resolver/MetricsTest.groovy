@@ -0,0 +1,163 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.support.Base1
+import ru.vyarus.java.generics.resolver.support.Model
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.metrics.LatencyHistogram
+import ru.vyarus.java.generics.resolver.util.metrics.ResolverMetrics
+import ru.vyarus.java.generics.resolver.util.metrics.StripedCounter
+import ru.vyarus.java.generics.resolver.util.metrics.StripedMetricsListener
+import ru.vyarus.java.generics.resolver.util.type.InstanceTypeFactory
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.param
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class MetricsTest extends Specification {
+
+    StripedMetricsListener metrics = new StripedMetricsListener()
+
+    void setup() {
+        GenericsInfoFactory.clearCache()
+        ResolverMetrics.setListener(metrics)
+    }
+
+    void cleanup() {
+        ResolverMetrics.setListener(null)
+    }
+
+    def "Check metrics disabled by default"() {
+
+        when: "listener removed"
+        ResolverMetrics.setListener(null)
+        then: "no-op listener used"
+        !ResolverMetrics.enabled
+        ResolverMetrics.listener != null
+        ResolverMetrics.start() == 0
+
+        when: "resolving"
+        GenericsResolver.resolve(Root)
+        then: "nothing recorded"
+        metrics.descriptorMisses == 0
+        metrics.hierarchy.count == 0
+    }
+
+    def "Check descriptors metrics"() {
+
+        when: "resolving descriptors"
+        GenericsResolver.resolve(Root)
+        GenericsResolver.resolve(Root)
+        GenericsResolver.resolve(Base1)
+        then: "hits and misses counted"
+        ResolverMetrics.enabled
+        metrics.descriptorHits == 1
+        metrics.descriptorMisses == 2
+        metrics.cacheSize == 2
+        metrics.hierarchy.count == 2
+        metrics.hierarchy.totalNanos > 0
+        metrics.composingTypes == GenericsResolver.resolve(Root).genericsInfo.composingTypes.size()
+                + GenericsResolver.resolve(Base1).genericsInfo.composingTypes.size()
+
+        when: "resolving inlying context"
+        GenericsResolver.resolve(MetricsRoot).fieldType(MetricsRoot.getField("field"))
+        then: "inlying resolution counted"
+        metrics.inlyingHierarchy.count == 1
+        metrics.inlyingHits == 0
+        metrics.inlyingMisses == 0
+
+        when: "reset"
+        metrics.reset()
+        then: "counters cleared"
+        metrics.descriptorHits == 0
+        metrics.hierarchy.count == 0
+        metrics.inlyingHierarchy.count == 0
+    }
+
+    def "Check types metrics"() {
+
+        when: "types walked"
+        TypeUtils.isAssignable(param(List, param(List, Model)), param(List, param(List, Object)))
+        then: "walk counted"
+        metrics.walk.count == 1
+        metrics.walkSteps == 3
+        metrics.walkMaxDepth == 3
+
+        when: "common type computed"
+        TypeUtils.getCommonType(Integer, Double)
+        then: "counted"
+        metrics.commonType.count > 0
+
+        when: "instance type built"
+        InstanceTypeFactory.build(new ArrayList(), null)
+        then: "counted"
+        metrics.instanceType.count == 1
+        metrics.instances == 2
+    }
+
+    def "Check latency histogram"() {
+
+        setup:
+        LatencyHistogram histogram = new LatencyHistogram()
+
+        when: "recording values"
+        histogram.record(0)
+        histogram.record(100)
+        histogram.record(1000)
+        histogram.record(Long.MAX_VALUE)
+        then: "buckets filled"
+        histogram.count == 4
+        histogram.buckets[0] == 1
+        histogram.buckets[6] == 1
+        histogram.buckets[9] == 1
+        histogram.buckets[LatencyHistogram.BUCKETS - 1] == 1
+        histogram.getPercentileNanos(50) == 127
+        histogram.getPercentileNanos(0) == 1
+        histogram.getPercentileNanos(75) == 1023
+        new LatencyHistogram().getPercentileNanos(99) == 0
+
+        when: "incorrect percentile"
+        histogram.getPercentileNanos(101)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+
+    def "Check concurrent counter"() {
+
+        setup:
+        StripedCounter counter = new StripedCounter()
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+        CountDownLatch latch = new CountDownLatch(8)
+
+        when: "concurrent updates"
+        8.times {
+            executor.submit {
+                1000.times { counter.increment() }
+                latch.countDown()
+            }
+        }
+        latch.await()
+        then: "all updates counted"
+        counter.sum() == 8000
+
+        when: "reset"
+        counter.reset()
+        then: "cleared"
+        counter.sum() == 0
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    static class MetricsRoot {
+        public List<Model> field
+    }
+}
@@ -0,0 +1,108 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.metrics.ResolutionProfiler
+import ru.vyarus.java.generics.resolver.util.metrics.TypeProfile
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class ProfilerTest extends Specification {
+
+    void setup() {
+        GenericsInfoFactory.clearCache()
+    }
+
+    void cleanup() {
+        ResolutionProfiler.disable()
+        System.clearProperty(ResolutionProfiler.PROFILER_PROPERTY)
+        GenericsInfoFactory.clearCache()
+    }
+
+    def "Check profiler disabled by default"() {
+
+        when: "resolving without profiler"
+        GenericsResolver.resolve(Root)
+        then: "nothing recorded"
+        !ResolutionProfiler.enabled
+        ResolutionProfiler.start() == 0
+        ResolutionProfiler.getProfile(Root) == null
+        ResolutionProfiler.profiles.isEmpty()
+    }
+
+    def "Check hierarchy profiling"() {
+
+        when: "resolving with profiler"
+        ResolutionProfiler.enable()
+        GenericsResolver.resolve(Root)
+        TypeProfile profile = ResolutionProfiler.getProfile(Root)
+        then: "hierarchy analysis recorded"
+        System.getProperty(ResolutionProfiler.PROFILER_PROPERTY) == "true"
+        profile.type == Root
+        profile.resolutions == 1
+        profile.composingTypes == GenericsResolver.resolve(Root).genericsInfo.composingTypes.size()
+        profile.analyzeTime > 0
+        profile.maxAnalyzeTime == profile.analyzeTime
+        profile.repeatedMisses == 0
+
+        when: "resolving again after cache clear"
+        GenericsInfoFactory.clearCache()
+        GenericsResolver.resolve(Root)
+        then: "repeated miss recorded"
+        profile.resolutions == 2
+        profile.repeatedMisses == 1
+        profile.totalTime >= profile.analyzeTime
+    }
+
+    def "Check raw generics and walks profiling"() {
+
+        when: "resolving recursive declaration"
+        ResolutionProfiler.enable()
+        GenericsResolver.resolve(RecursiveRoot)
+        then: "raw generics recorded"
+        ResolutionProfiler.getProfile(RecursiveRoot).rawGenericsTime > 0
+
+        when: "walking types"
+        TypeUtils.isCompatible(ArrayList, List)
+        then: "walk recorded for both types"
+        ResolutionProfiler.getProfile(ArrayList).walks == 1
+        ResolutionProfiler.getProfile(List).walks == 1
+        ResolutionProfiler.getProfile(List).walkTime > 0
+    }
+
+    def "Check report"() {
+
+        when: "profiling types"
+        ResolutionProfiler.enable()
+        GenericsResolver.resolve(Root)
+        GenericsResolver.resolve(ArrayList)
+        List<TypeProfile> profiles = ResolutionProfiler.profiles
+        then: "profiles ranked"
+        profiles.size() >= 2
+        profiles[0].totalTime >= profiles[1].totalTime
+
+        when: "building report"
+        String report = ResolutionProfiler.report(1)
+        then: "limited report"
+        report.startsWith("Generics resolution profile (top 1 of ${profiles.size()} classes)")
+        report.contains(profiles[0].type.name)
+        !report.contains(profiles[1].type.name)
+
+        when: "profiler disabled"
+        ResolutionProfiler.disable()
+        GenericsResolver.resolve(Root)
+        then: "data cleared"
+        ResolutionProfiler.profiles.isEmpty()
+    }
+
+    static class RecursiveRoot<T extends RecursiveRoot<T>> implements Comparable<T> {
+        @Override
+        int compareTo(T o) {
+            return 0
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package ru.vyarus.java.generics.resolver
 
 import ru.vyarus.java.generics.resolver.context.GenericsContext
+import ru.vyarus.java.generics.resolver.context.GenericsInfoFactory
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl
 import ru.vyarus.java.generics.resolver.error.UnknownGenericException
 import ru.vyarus.java.generics.resolver.support.AnonymousCases
@@ -157,4 +158,50 @@ class ToStringTest extends Specification {
         TypeToStringUtils.toStringTypes([String, Integer, param(Set, Double)] as Type[],
                 " & ", EmptyGenericsMap.getInstance()) == "String & Integer & Set<Double>"
     }
-}
\ No newline at end of file
+
+    def "Check to string into buffer"() {
+
+        when: "appending types into buffer"
+        def buf = new StringBuilder("type: ")
+        def res = TypeToStringUtils.appendType(buf, param(Map, String, param(List, upper(Number))),
+                EmptyGenericsMap.getInstance())
+        then: "written into provided buffer"
+        res.is(buf)
+        buf.toString() == "type: Map<String, List<? extends Number>>"
+
+        when: "appending multiple types"
+        TypeToStringUtils.appendTypes(buf.append(" "), [String, param(List, Object)] as Type[], " & ",
+                EmptyGenericsMap.getInstance())
+        then: "written"
+        buf.toString() == "type: Map<String, List<? extends Number>> String & List"
+
+        when: "appending inner type with outer generics"
+        buf.setLength(0)
+        TypeToStringUtils.appendType(buf, param(InOwner.Inner, [] as Type[], param(InOwner, String)),
+                EmptyGenericsMap.getInstance())
+        then: "same as string"
+        buf.toString() == "InOwner<String>.Inner"
+
+        when: "writing into appendable"
+        def writer = new StringWriter()
+        TypeToStringUtils.appendType(writer, param(List, String), EmptyGenericsMap.getInstance())
+        then: "written"
+        writer.toString() == "List<String>"
+    }
+
+    def "Check class names cache"() {
+
+        when: "rendering anonymous class"
+        GenericsInfoFactory.clearCache()
+        Class type = new AnonymousCases().met1.getClass()
+        def name = TypeToStringUtils.toStringType(type)
+        then: "cached name used"
+        name == 'AnonymousCases#void method()$Object'
+        TypeToStringUtils.toStringType(type).is(name)
+
+        when: "cache cleared"
+        GenericsInfoFactory.clearCache()
+        then: "the same name rendered"
+        TypeToStringUtils.toStringType(type) == name
+    }
+}
@@ -0,0 +1,105 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.cache.TypeChecksCache
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class TypeChecksCacheTest extends Specification {
+
+    void cleanup() {
+        TypeChecksCache.disable()
+    }
+
+    def "Check types checks caching"() {
+
+        setup:
+        TypeChecksCache.enable(100)
+
+        when: "checking types twice"
+        def first = TypeUtils.isAssignable(param(ArrayList, Integer), param(List, upper(Number)))
+        def second = TypeUtils.isAssignable(param(ArrayList, Integer), param(List, upper(Number)))
+        then: "second check cached"
+        first
+        second
+        TypeChecksCache.getStats().hits == 1
+        TypeChecksCache.getStats().misses == 1
+        TypeChecksCache.getStats().size == 1
+        TypeChecksCache.getStats().hitRate == 0.5d
+
+        when: "other checks on the same pair"
+        def compatible = TypeUtils.isCompatible(param(ArrayList, Integer), param(List, upper(Number)))
+        def specific = TypeUtils.isMoreSpecific(param(ArrayList, Integer), param(List, upper(Number)))
+        def specificOrEqual = TypeUtils.isMoreSpecificOrEqual(param(List, upper(Number)), param(ArrayList, Integer))
+        then: "cached separately"
+        compatible
+        specific
+        !specificOrEqual
+        TypeChecksCache.getStats().size == 4
+        TypeUtils.isMoreSpecific(param(ArrayList, Integer), param(List, upper(Number)))
+        !TypeUtils.isMoreSpecificOrEqual(param(List, upper(Number)), param(ArrayList, Integer))
+        TypeChecksCache.getStats().hits == 3
+
+        when: "pair order changed"
+        def reverse = TypeUtils.isAssignable(param(List, upper(Number)), param(ArrayList, Integer))
+        then: "different pair"
+        !reverse
+        TypeChecksCache.getStats().size == 5
+
+        when: "clearing cache"
+        TypeChecksCache.clear()
+        then: "stats preserved"
+        TypeChecksCache.getStats().size == 0
+        TypeChecksCache.getStats().hits == 3
+    }
+
+    def "Check cache bounds"() {
+
+        setup:
+        TypeChecksCache.enable(16)
+
+        when: "checking many pairs"
+        [Integer, Long, Double, Float, Short, Byte, BigDecimal, BigInteger].each { Class type ->
+            [List, Set, Collection, Iterable, ArrayList].each { Class target ->
+                TypeUtils.isAssignable(param(List, type), param(target, Number))
+            }
+        }
+        then: "old pairs evicted"
+        TypeChecksCache.getStats().size <= 16
+        TypeChecksCache.getStats().evictions == 40 - TypeChecksCache.getStats().size
+    }
+
+    def "Check instance types not cached"() {
+
+        setup:
+        TypeChecksCache.enable(100)
+        def instance = new ParameterizedInstanceType(List, new ArrayList())
+
+        when: "checking instance type"
+        TypeUtils.isAssignable(instance, param(List, String))
+        TypeUtils.isAssignable(param(Set, instance), param(Set, param(List, String)))
+        then: "not cached"
+        TypeChecksCache.getStats().size == 0
+        TypeChecksCache.getStats().misses == 0
+    }
+
+    def "Check disabled cache"() {
+
+        when: "cache disabled"
+        TypeUtils.isAssignable(param(ArrayList, Integer), param(List, upper(Number)))
+        then: "nothing cached"
+        !TypeChecksCache.isEnabled()
+        TypeChecksCache.getStats().size == 0
+
+        when: "wrong size"
+        TypeChecksCache.enable(0)
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+}
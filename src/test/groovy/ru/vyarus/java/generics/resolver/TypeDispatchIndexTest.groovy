@@ -0,0 +1,113 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.support.Base1
+import ru.vyarus.java.generics.resolver.support.Model
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.TypeDispatchIndex
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+import java.util.concurrent.Callable
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class TypeDispatchIndexTest extends Specification {
+
+    def "Check dispatch index search"() {
+
+        setup: "index"
+        def index = TypeDispatchIndex.of(param(List, upper(Number)), param(Collection, Integer), List,
+                param(List, String), Object, param(ArrayList, Integer), Comparable, param(List, String))
+
+        expect: "duplicates removed"
+        index.targets.size() == 7
+        index.toString() == "TypeDispatchIndex[7 targets]"
+
+        when: "searching targets"
+        def res = index.findAssignable(param(ArrayList, Integer))
+        then: "more specific first"
+        res == [param(ArrayList, Integer), param(Collection, Integer), param(List, upper(Number)), List, Object]
+
+        when: "searching again"
+        def res2 = index.findAssignable(param(ArrayList, Integer))
+        then: "cached"
+        res2.is(res)
+        index.cacheSize == 1
+
+        when: "searching not related type"
+        res = index.findAssignable(param(Set, Integer))
+        then: "found"
+        res == [param(Collection, Integer), Object]
+
+        when: "searching unknown type"
+        res = index.findAssignable(Object)
+        then: "all targets"
+        res.size() == 7
+
+        when: "searching instance type"
+        index.clearCache()
+        res = index.findAssignable(new ParameterizedInstanceType(param(ArrayList, String), new ArrayList()))
+        then: "not cached"
+        res == [param(List, String), List, Object]
+        index.cacheSize == 0
+    }
+
+    def "Check dispatch index cache bounded"() {
+
+        setup: "index with small cache"
+        def index = TypeDispatchIndex.of([param(List, upper(Number)), Object], 32)
+
+        when: "searching many distinct types"
+        [Integer, Long, Double, Float, Short, Byte, BigDecimal, BigInteger].each { Class num ->
+            [List, ArrayList, LinkedList, Collection].each { index.findAssignable(param(it, num)) }
+            index.findAssignable(param(Set, num))
+        }
+        then: "cache size limited"
+        index.cacheSize <= 32
+        index.cacheStats.evictions > 0
+        index.findAssignable(param(ArrayList, Integer)) == [param(List, upper(Number)), Object]
+
+        when: "cache disabled"
+        index = TypeDispatchIndex.of([param(List, upper(Number)), Object], 0)
+        def res = index.findAssignable(param(ArrayList, Integer))
+        then: "nothing cached"
+        res == [param(List, upper(Number)), Object]
+        !index.findAssignable(param(ArrayList, Integer)).is(res)
+        index.cacheSize == 0
+        index.cacheStats == null
+    }
+
+    def "Check dispatch index consistency with type utils"() {
+
+        setup: "types"
+        List<Type> types = [Object, Number, Integer, String, Comparable, int, Integer[], Model, Root, Base1,
+                            List, ArrayList, Collection, Set, Callable, Map,
+                            param(List, String), param(List, Integer), param(List, upper(Number)), param(List, Object),
+                            param(List, lower(Integer)), param(ArrayList, Integer), param(Collection, Number),
+                            param(Collection, upper(Comparable)), param(Collection, param(List, String)),
+                            param(Collection, param(ArrayList, String)), param(Collection, Integer[]),
+                            param(Map, String, Integer), param(HashMap, String, param(List, Integer)),
+                            param(Map, Integer, String), param(Comparable, Integer), param(Comparable, Number),
+                            param(Base1, Model), param(Base1, String), param(Callable, String), upper(Number),
+                            lower(Integer), array(param(List, String))]
+        def index = TypeDispatchIndex.of(types)
+
+        expect: "same targets as type utils"
+        types.each { Type type ->
+            def res = index.findAssignable(type)
+            assert res as Set == types.findAll { TypeUtils.isAssignable(type, it) } as Set, "search $type"
+            // more specific types go first
+            res.eachWithIndex { Type target, int i ->
+                res.subList(i + 1, res.size()).each {
+                    assert !TypeUtils.isCompatible(target, it) || !TypeUtils.isMoreSpecific(it, target)
+                }
+            }
+        }
+    }
+}
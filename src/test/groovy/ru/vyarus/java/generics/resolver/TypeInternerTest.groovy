@@ -0,0 +1,99 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.context.container.TypeContainers
+import ru.vyarus.java.generics.resolver.util.GenericsUtils
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.TypeInterner
+import ru.vyarus.java.generics.resolver.util.type.instance.ParameterizedInstanceType
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class TypeInternerTest extends Specification {
+
+    void cleanup() {
+        TypeInterner.disable()
+    }
+
+    def "Check types interning"() {
+
+        setup:
+        TypeInterner.enable()
+        Type type = param(Map, String, array(param(List, lower(Integer))))
+
+        when: "resolving the same type twice"
+        def one = GenericsUtils.resolveTypeVariables(type, [:])
+        def two = GenericsUtils.resolveTypeVariables(type, [:])
+        then: "canonical instance used"
+        one == type
+        one.is(two)
+        one.actualTypeArguments[1].is(two.actualTypeArguments[1])
+        TypeInterner.size() > 0
+        TypeUtils.isAssignable(one, two)
+        TypeUtils.isCompatible(one, two)
+        !TypeUtils.isMoreSpecific(one, two)
+
+        when: "interning equal type"
+        def manual = param(Map, String, array(param(List, lower(Integer))))
+        then: "canonical instance returned"
+        !manual.is(one)
+        TypeInterner.intern(manual).is(one)
+
+        when: "interning instance type"
+        def instance = new ParameterizedInstanceType(param(List, String), ['a'] as Object[])
+        then: "not interned"
+        TypeInterner.intern(instance).is(instance)
+        TypeInterner.intern(param(List, instance)) != null
+        !TypeInterner.intern(param(List, instance)).is(TypeInterner.intern(param(List, instance)))
+
+        when: "interner disabled"
+        TypeInterner.disable()
+        then: "types not interned"
+        TypeInterner.size() == 0
+        !GenericsUtils.resolveTypeVariables(type, [:]).is(GenericsUtils.resolveTypeVariables(type, [:]))
+    }
+
+    def "Check internable types"() {
+
+        setup:
+        Type jdk = Holder.getField("list").genericType
+        def instance = new ParameterizedInstanceType(param(List, String), ['a'] as Object[])
+
+        expect: "internability computed on creation"
+        TypeContainers.isInternable(String)
+        TypeContainers.isInternable(List.getTypeParameters()[0])
+        TypeContainers.isInternable(param(Map, String, array(param(List, lower(Integer)))))
+        TypeContainers.isInternable(param(List, List.getTypeParameters()[0]))
+        !TypeContainers.isInternable(jdk)
+        !TypeContainers.isInternable(param(List, jdk))
+        !TypeContainers.isInternable(instance)
+        !TypeContainers.isInternable(array(param(List, instance)))
+        !TypeContainers.isInternable(upper(param(List, instance)))
+        !TypeContainers.isInternable(null)
+    }
+
+    def "Check deep type interning"() {
+
+        setup:
+        TypeInterner.enable()
+        Type type = param(List, List.getTypeParameters()[0])
+        500.times { type = param(List, type) }
+
+        when: "resolving deep type"
+        def one = GenericsUtils.resolveTypeVariables(type, ["E": String])
+        def two = GenericsUtils.resolveTypeVariables(type, ["E": String])
+        then: "interned"
+        one.is(two)
+        one.actualTypeArguments[0].is(two.actualTypeArguments[0])
+    }
+
+    static class Holder {
+        public List<String> list
+    }
+}
@@ -0,0 +1,111 @@
+package ru.vyarus.java.generics.resolver
+
+import ru.vyarus.java.generics.resolver.support.Base1
+import ru.vyarus.java.generics.resolver.support.Model
+import ru.vyarus.java.generics.resolver.support.Root
+import ru.vyarus.java.generics.resolver.util.TypeUtils
+import ru.vyarus.java.generics.resolver.util.type.TypeMatcher
+import spock.lang.Specification
+
+import java.lang.reflect.Type
+import java.util.concurrent.Callable
+
+import static ru.vyarus.java.generics.resolver.util.type.TypeFactory.*
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+class TypeMatcherTest extends Specification {
+
+    def "Check matcher checks"() {
+
+        when: "class target"
+        def matcher = TypeMatcher.of(Number)
+        then: "java rules"
+        matcher.target == Number
+        matcher.isAssignableFrom(Integer)
+        matcher.isAssignableFrom(Object)
+        !matcher.isAssignableFrom(String)
+        matcher.isCompatible(Serializable)
+        !matcher.isCompatible(String)
+        matcher.isMoreSpecific(Integer)
+        !matcher.isMoreSpecific(Number)
+        matcher.isMoreSpecificOrEqual(Number)
+        matcher.toString() == "TypeMatcher[Number]"
+
+        when: "parameterized target"
+        matcher = TypeMatcher.of(param(List, upper(Number)))
+        then: "generics checked"
+        matcher.isAssignableFrom(param(ArrayList, Integer))
+        !matcher.isAssignableFrom(param(ArrayList, String))
+        !matcher.isAssignableFrom(Set)
+        matcher.isAssignableFrom(ArrayList)
+        matcher.isCompatible(param(Collection, Integer))
+        !matcher.isCompatible(param(Collection, String))
+    }
+
+    def "Check matcher consistency with type utils"() {
+
+        setup: "types"
+        List<Type> types = [Object, Number, Integer, String, Comparable, int, Integer[], Model, Root, Base1,
+                            List, ArrayList, Collection, Set, Callable, Map,
+                            param(List, String), param(List, Integer), param(List, upper(Number)), param(List, Object),
+                            param(List, lower(Integer)), param(ArrayList, Integer), param(Collection, Number),
+                            param(Map, String, Integer), param(HashMap, String, param(List, Integer)),
+                            param(Base1, Model), param(Base1, String), param(Callable, String), upper(Number), lower(Integer),
+                            array(param(List, String)), IntList, param(Map, Number, String), param(Map, Integer, String),
+                            param(Map, Integer, Object), param(Map, String, param(List, Number)),
+                            param(Map, String, param(Collection, Integer)), param(Map, lower(Integer), String),
+                            param(List, param(List, String)), param(List, param(ArrayList, String)), param(List, List),
+                            param(Comparable, Integer), upper(Number, Comparable)]
+
+        expect: "same results as type utils"
+        types.each { Type target ->
+            TypeMatcher matcher = TypeMatcher.of(target)
+            types.each { Type type ->
+                assert matcher.isAssignableFrom(type) == TypeUtils.isAssignable(type, target),
+                        "isAssignable($type, $target)"
+                assert matcher.isCompatible(type) == TypeUtils.isCompatible(type, target),
+                        "isCompatible($type, $target)"
+                assert result { matcher.isMoreSpecific(type) } == result { TypeUtils.isMoreSpecific(type, target) },
+                        "isMoreSpecific($type, $target)"
+                assert result { matcher.isMoreSpecificOrEqual(type) } ==
+                        result { TypeUtils.isMoreSpecificOrEqual(type, target) },
+                        "isMoreSpecificOrEqual($type, $target)"
+            }
+        }
+    }
+
+    def "Check compiled matcher"() {
+
+        when: "parameterized target"
+        def matcher = TypeMatcher.of(param(Map, String, param(List, Integer)))
+        then: "only generics positions checked"
+        matcher.isAssignableFrom(param(HashMap, String, param(ArrayList, Integer)))
+        !matcher.isAssignableFrom(param(HashMap, String, param(ArrayList, String)))
+        matcher.isAssignableFrom(HashMap)
+        matcher.isCompatible(param(HashMap, Object, List))
+        !matcher.isCompatible(param(HashMap, Integer, List))
+        matcher.isMoreSpecific(param(HashMap, String, param(ArrayList, Integer)))
+        !matcher.isMoreSpecific(param(HashMap, String, List))
+        matcher.isMoreSpecificOrEqual(param(Map, String, param(List, Integer)))
+
+        when: "incompatible types compared"
+        matcher.isMoreSpecific(param(HashMap, String, param(List, String)))
+        then: "error"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "Type HashMap<String, List<String>> can't be compared to Map<String, List<Integer>> " +
+                "because they are not compatible"
+    }
+
+    private static Object result(Closure<Boolean> check) {
+        try {
+            return check.call()
+        } catch (IllegalArgumentException ex) {
+            return ex.message
+        }
+    }
+
+    static class IntList extends ArrayList<Integer> {}
+}
@@ -79,6 +79,33 @@ class WrapperTypesEqualsTest extends Specification {
         !w1.equals(null)
     }
 
+    def "Check mixed jdk and library types equals"() {
+
+        when: "library type with jdk inner type"
+        Type jdk = Holder.getField("list").getGenericType()
+        ParameterizedTypeImpl mixed = new ParameterizedTypeImpl(List, jdk)
+        ParameterizedTypeImpl lib = new ParameterizedTypeImpl(List, new ParameterizedTypeImpl(List, String))
+        then: "equal"
+        mixed.equals(lib)
+        lib.equals(mixed)
+        mixed.hashCode() == lib.hashCode()
+
+        and: "hash compatible with jdk"
+        lib.equals(Holder.getField("nested").getGenericType())
+        lib.hashCode() == Holder.getField("nested").getGenericType().hashCode()
+        new ParameterizedTypeImpl(List, String).hashCode() == jdk.hashCode()
+
+        when: "library wildcards with jdk wildcards"
+        Type upper = Holder.getField("upper").getGenericType().actualTypeArguments[0]
+        Type lower = Holder.getField("lower").getGenericType().actualTypeArguments[0]
+        then: "equal"
+        WildcardTypeImpl.upper(Number).equals(upper)
+        WildcardTypeImpl.upper(Number).hashCode() == upper.hashCode()
+        WildcardTypeImpl.lower(Integer).equals(lower)
+        WildcardTypeImpl.lower(Integer).hashCode() == lower.hashCode()
+        new ParameterizedTypeImpl(List, upper) == new ParameterizedTypeImpl(List, WildcardTypeImpl.upper(Number))
+    }
+
     def "Check explicit type equals"() {
 
         when: "same name"
@@ -108,6 +135,13 @@ class WrapperTypesEqualsTest extends Specification {
         v1.hashCode() != v2.hashCode()
     }
 
+    static class Holder {
+        public List<String> list
+        public List<List<String>> nested
+        public List<? extends Number> upper
+        public List<? super Integer> lower
+    }
+
     static class Some<T> {}
     static class SomeOther<T> {}
 }
\ No newline at end of file
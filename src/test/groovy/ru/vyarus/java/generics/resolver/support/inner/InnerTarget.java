@@ -0,0 +1,14 @@
+package ru.vyarus.java.generics.resolver.support.inner;
+
+/**
+ * Not inner class, extending inner class (owner generics are known only in root context).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class InnerTarget<K> extends InOwner.Inner {
+
+    public InnerTarget(InOwner owner) {
+        owner.super();
+    }
+}
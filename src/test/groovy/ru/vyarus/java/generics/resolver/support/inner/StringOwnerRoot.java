@@ -0,0 +1,10 @@
+package ru.vyarus.java.generics.resolver.support.inner;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 16.10.2026
+ */
+public class StringOwnerRoot extends InOwner<String> {
+
+    public InnerTarget<Integer> target;
+}